@@ -0,0 +1,98 @@
+import java.util.Arrays;
+/**
+    A class of hash tables, with linear probing, that number the distinct
+    words given to them as runs of bytes: the first word added is number 0,
+    the next new word is number 1, and so on.
+    A word is copied only the first time it is added. Adding it again finds
+    it by comparing bytes, so no String or other object is created, and
+    callers can keep counts or other data per word in arrays indexed by
+    word number.
+*/
+public class ByteWordTable
+{
+    private byte[][] words;             // words[n] is word number n
+    private int numberOfWords;
+    private int[] table;                // Word number + 1, or 0 if empty
+    private int shift;                  // 32 - log2(table.length)
+    private static final int DEFAULT_TABLE_SIZE = 1024; // Must be a power of 2
+    private static final int GOLDEN_RATIO = 0x9E3779B9; // 2^32 / phi
+
+    public ByteWordTable()
+    {
+        words = new byte[DEFAULT_TABLE_SIZE / 2][];
+        numberOfWords = 0;
+        table = new int[DEFAULT_TABLE_SIZE];
+        shift = 32 - Integer.numberOfTrailingZeros(DEFAULT_TABLE_SIZE);
+    } // end default constructor
+
+    /** Adds a word to this table if it is not already there.
+        @param word    An array whose first length bytes are the word.
+        @param length  The number of bytes in the word.
+        @return  The word's number. */
+    public int add(byte[] word, int length)
+    {
+        int mask = table.length - 1;
+        int location = (hashOf(word, length) * GOLDEN_RATIO) >>> shift;
+        while (table[location] != 0)
+        {
+            int wordNumber = table[location] - 1;
+            if (Arrays.equals(words[wordNumber], 0, words[wordNumber].length,
+                              word, 0, length))
+                return wordNumber;
+            location = (location + 1) & mask;
+        } // end while
+
+        // New word
+        if (numberOfWords == words.length)
+            words = Arrays.copyOf(words, 2 * words.length);
+        words[numberOfWords] = Arrays.copyOf(word, length);
+        numberOfWords++;
+        table[location] = numberOfWords;
+        if (2 * numberOfWords > table.length)
+            enlargeTable();
+        return numberOfWords - 1;
+    } // end add
+
+    /** Gets the bytes of a word in this table.
+        @param wordNumber  The number of the word.
+        @return  The table's copy of the word, which must not be changed. */
+    public byte[] getWord(int wordNumber)
+    {
+        if ((wordNumber < 0) || (wordNumber >= numberOfWords))
+            throw new IndexOutOfBoundsException("Illegal word number: " + wordNumber);
+        return words[wordNumber];
+    } // end getWord
+
+    /** Gets the number of distinct words in this table.
+        @return  The number of words. */
+    public int getSize()
+    {
+        return numberOfWords;
+    } // end getSize
+
+    // Doubles the size of the hash table and reinserts the words, in order
+    // of their numbers.
+    private void enlargeTable()
+    {
+        table = new int[2 * table.length];
+        shift--;
+        int mask = table.length - 1;
+        for (int i = 0; i < numberOfWords; i++)
+        {
+            byte[] word = words[i];
+            int location = (hashOf(word, word.length) * GOLDEN_RATIO) >>> shift;
+            while (table[location] != 0)
+                location = (location + 1) & mask;
+            table[location] = i + 1;
+        } // end for
+    } // end enlargeTable
+
+    // FNV-1a hash of word[0..length-1].
+    private static int hashOf(byte[] word, int length)
+    {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < length; i++)
+            hash = (hash ^ (word[i] & 0xFF)) * 0x01000193;
+        return hash;
+    } // end hashOf
+} // end ByteWordTable
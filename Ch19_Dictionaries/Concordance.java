@@ -2,16 +2,18 @@
     search keys.
  */
 import java.util.Iterator; 
+import java.util.PrimitiveIterator;
 import java.util.Scanner;
 
 public class Concordance 
 {
-    private DictionaryInterface<String, ListWithIteratorInterface<Integer>> wordTable;
+    private DictionaryInterface<String, PostingsList> wordTable;
     
     public Concordance() 
     {
         //wordTable = new SortedArrayDictionary<>(); 
-        wordTable = new SortedLinkedDictionary<>(); 
+        //wordTable = new SortedLinkedDictionary<>(); 
+        wordTable = new SkipListDictionary<>();
     } // end default constructor
     
      /** Reads a text file of words and creates a concordance.
@@ -29,10 +31,10 @@ public class Concordance
             {
                 String nextWord   = lineProcessor.next();
                 nextWord = nextWord.toLowerCase();
-                ListWithIteratorInterface<Integer> lineList = wordTable.getValue(nextWord);
+                PostingsList lineList = wordTable.getValue(nextWord);
                 if (lineList == null)
                 {   // Create new list for new word; add list and word to index
-                    lineList = new LinkedListWithIterator<>();
+                    lineList = new PostingsList();
                     wordTable.add(nextWord, lineList); 
                 } // end if
                 // Add line number to end of list so list is sorted                
@@ -47,18 +49,18 @@ public class Concordance
     public void display()
     {
         Iterator<String> keyIterator = wordTable.getKeyIterator();
-        Iterator<ListWithIteratorInterface<Integer>> valueIterator = wordTable.getValueIterator();
+        Iterator<PostingsList> valueIterator = wordTable.getValueIterator();
         
         while (keyIterator.hasNext())
         {
             // Display the word
             System.out.print(keyIterator.next() + "\t");
             // Get line numbers and iterator
-            ListWithIteratorInterface<Integer> lineList = valueIterator.next();
-            Iterator<Integer> listIterator = lineList.getIterator();
+            PostingsList lineList = valueIterator.next();
+            PrimitiveIterator.OfInt listIterator = lineList.getIterator();
             // Display line numbers
             while (listIterator.hasNext())
-                System.out.print(listIterator.next() + " ");
+                System.out.print(listIterator.nextInt() + " ");
             // end while
             System.out.println();
         } // end while
@@ -67,8 +69,30 @@ public class Concordance
     /** Returns a list of the numbers of the lines that contain a given word.
         @param word A string containing a word to be found.
         @return A list of line numbers in which the word occurs. */
-    public ListWithIteratorInterface<Integer> getLineNumbers(String word)
+    public PostingsList getLineNumbers(String word)
     {
         return wordTable.getValue(word);
     } // end getLineNumbers    
+    
+    /** Returns a list of the numbers of the lines that contain both of two
+        given words.
+        @param firstWord   A string containing a word to be found.
+        @param secondWord  A string containing another word to be found.
+        @return A list of distinct line numbers in which both words occur. */
+    public PostingsList getLinesContainingBoth(String firstWord, String secondWord)
+    {
+        return PostingsList.intersection(wordTable.getValue(firstWord),
+                                         wordTable.getValue(secondWord));
+    } // end getLinesContainingBoth
+    
+    /** Returns a list of the numbers of the lines that contain either of two
+        given words.
+        @param firstWord   A string containing a word to be found.
+        @param secondWord  A string containing another word to be found.
+        @return A list of distinct line numbers in which either word occurs. */
+    public PostingsList getLinesContainingEither(String firstWord, String secondWord)
+    {
+        return PostingsList.union(wordTable.getValue(firstWord),
+                                  wordTable.getValue(secondWord));
+    } // end getLinesContainingEither
 } // end Concordance
@@ -0,0 +1,166 @@
+/**
+    A class that estimates how many times each item has been added, in a
+    fixed amount of memory, no matter how many items or distinct items are
+    added.
+    The sketch is a table of counters with depth rows and width columns.
+    Each row maps an item to one of its counters by a different hash
+    function. An estimate is the smallest of an item's counters, since
+    other items can only add to them; it is never too small.
+    Adding uses conservative update: only the counters that equal the
+    smallest are increased, which keeps estimates closer to the truth.
+    With width = ceil(e / epsilon) and depth = ceil(ln(1 / delta)), an
+    estimate exceeds the true count by more than epsilon times the total
+    count with probability at most delta.
+    Items are hashed by their hashCode methods.
+*/
+public class CountMinSketch<T>
+{
+    private final int[] counters;       // Row r is counters[r * width .. (r + 1) * width - 1]
+    private final int width;
+    private final int depth;
+    private long totalCount;
+    private static final int MAX_COUNTERS = 1 << 28;
+
+    /** Creates an empty sketch for given error bounds.
+        @param epsilon  The largest error wanted, as a fraction of the total
+                        count; greater than 0 and less than 1.
+        @param delta    The largest probability wanted of exceeding that
+                        error; greater than 0 and less than 1. */
+    public CountMinSketch(double epsilon, double delta)
+    {
+        this(getWidthFor(epsilon), getDepthFor(delta));
+    } // end constructor
+
+    /** Creates an empty sketch of a given size.
+        @param width  The number of counters in each row.
+        @param depth  The number of rows. */
+    public CountMinSketch(int width, int depth)
+    {
+        if ((width <= 0) || (depth <= 0))
+            throw new IllegalArgumentException("Width and depth must be positive: " +
+                                               width + ", " + depth);
+        if ((long)width * depth > MAX_COUNTERS)
+            throw new IllegalStateException("Attempt to create a sketch " +
+                                            "whose size exceeds maximum.");
+        this.width = width;
+        this.depth = depth;
+        counters = new int[width * depth];
+        totalCount = 0;
+    } // end constructor
+
+    /** Adds one occurrence of an item.
+        @param item  The item to count.
+        @return  The item's new estimated count. */
+    public int add(T item)
+    {
+        return add(item, 1);
+    } // end add
+
+    /** Adds occurrences of an item.
+        @param item   The item to count.
+        @param count  The nonnegative number of occurrences.
+        @return  The item's new estimated count. */
+    public int add(T item, int count)
+    {
+        if (item == null)
+            throw new IllegalArgumentException("Cannot add null to a sketch.");
+        if (count < 0)
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        long hash = getHash(item);
+        int oldEstimate = getEstimate(hash);
+        int newEstimate = (int)Math.min((long)oldEstimate + count, Integer.MAX_VALUE);
+        for (int row = 0; row < depth; row++)
+        {
+            int index = getIndex(hash, row);
+            if (counters[index] < newEstimate)
+                counters[index] = newEstimate;
+        } // end for
+        totalCount = totalCount + count;
+        return newEstimate;
+    } // end add
+
+    /** Estimates how many times an item has been added.
+        @param item  An item.
+        @return  A count that is at least the item's true count. */
+    public int getEstimate(T item)
+    {
+        if (item == null)
+            return 0;
+        return getEstimate(getHash(item));
+    } // end getEstimate
+
+    /** Gets the sum of all counts added.
+        @return  The total count. */
+    public long getTotalCount()
+    {
+        return totalCount;
+    } // end getTotalCount
+
+    /** Gets the number of counters in each row.
+        @return  The sketch's width. */
+    public int getWidth()
+    {
+        return width;
+    } // end getWidth
+
+    /** Gets the number of rows.
+        @return  The sketch's depth. */
+    public int getDepth()
+    {
+        return depth;
+    } // end getDepth
+
+    /** Sets all counts to zero. */
+    public void clear()
+    {
+        for (int index = 0; index < counters.length; index++)
+            counters[index] = 0;
+        totalCount = 0;
+    } // end clear
+
+    // Returns the smallest counter for the item having the given hash.
+    private int getEstimate(long hash)
+    {
+        int smallest = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++)
+            smallest = Math.min(smallest, counters[getIndex(hash, row)]);
+        return smallest;
+    } // end getEstimate
+
+    // Returns the index in counters of row's counter for the given hash.
+    // The rows' hash functions are h1 + row * h2, where h1 and h2 are the
+    // halves of hash.
+    private int getIndex(long hash, int row)
+    {
+        int h1 = (int)hash;
+        int h2 = (int)(hash >>> 32) | 1;
+        return row * width + Integer.remainderUnsigned(h1 + row * h2, width);
+    } // end getIndex
+
+    // Spreads the bits of an item's hash code over 64 bits.
+    static long getHash(Object item)
+    {
+        long hash = item.hashCode() * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    } // end getHash
+
+    // Returns the width for the given error bound.
+    static int getWidthFor(double epsilon)
+    {
+        if (!(epsilon > 0.0 && epsilon < 1.0))
+            throw new IllegalArgumentException("Epsilon must be between 0 and 1: " +
+                                               epsilon);
+        return (int)Math.min(Math.ceil(Math.E / epsilon), Integer.MAX_VALUE);
+    } // end getWidthFor
+
+    // Returns the depth for the given probability bound.
+    static int getDepthFor(double delta)
+    {
+        if (!(delta > 0.0 && delta < 1.0))
+            throw new IllegalArgumentException("Delta must be between 0 and 1: " +
+                                               delta);
+        return (int)Math.ceil(Math.log(1.0 / delta));
+    } // end getDepthFor
+} // end CountMinSketch
@@ -2,42 +2,116 @@
     search keys.
  */
 import java.util.Iterator; 
+import java.util.PrimitiveIterator;
 import java.util.Scanner;
 
 public class FrequencyCounter 
 {
-    private DictionaryInterface<String, Integer> wordTable;
+    private DictionaryInterface<String, Integer> wordTable;     // null if approximate
+    private CountMinSketch<String> wordSketch;                  // null if exact
+    private HeavyKeeper<String> frequentWords;                  // null if exact
+    private static final int DEFAULT_CAPACITY = 1024;
     
     public FrequencyCounter() 
     {
         wordTable = new SortedArrayDictionary<>(); 
+        wordSketch = null;
+        frequentWords = null;
     } // end default constructor
     
+    /** Creates a counter that approximates frequencies in a fixed amount of
+        memory, for streams too long to count every word exactly. Each
+        frequency is estimated by a Count-Min sketch and is never too small;
+        only the k most frequent words, found by a HeavyKeeper, are kept
+        for display.
+        @param epsilon  The largest error wanted in a frequency, as a
+                        fraction of the number of words read; greater than
+                        0 and less than 1.
+        @param delta    The largest probability wanted of exceeding that
+                        error; greater than 0 and less than 1.
+        @param k        The number of most frequent words to keep. */
+    public FrequencyCounter(double epsilon, double delta, int k)
+    {
+        wordTable = null;
+        wordSketch = new CountMinSketch<>(epsilon, delta);
+        frequentWords = new HeavyKeeper<>(k, epsilon, delta);
+    } // end constructor
+    
      /** Reads a text file of words and counts their frequencies of occurrence.
+        If this counter is exact, the words are counted in a hashed scratch
+        table first, so that only the distinct words are kept in memory,
+        together with the words counted by earlier calls; the sorted table
+        is then rebuilt from them in a single bulk load. If this counter is
+        approximate, each word is instead added to the Count-Min sketch and
+        the HeavyKeeper, and no table of words is kept.
         @param data  A text scanner for the text file of data. */
     public void readFile(Scanner data) 
     {
         data.useDelimiter("\\W+");
-        while (data.hasNext()) 
+        if (wordTable == null)
         {
-            String nextWord   = data.next();
-            nextWord = nextWord.toLowerCase();
-            Integer frequency = wordTable.getValue(nextWord);
-            if (frequency == null)
-            {   // Add new word to table
-                wordTable.add(nextWord, 1); 
-            }
-            else
-            {   // Increment count of existing word; replace wordTable entry
-                frequency++;
-                wordTable.add(nextWord, frequency);                
-            } // end if
-        } // end while
+            readFileApproximately(data);
+            return;
+        } // end if
+        
+        ObjectIntHashedDictionary<String> scratchCounts =
+            new ObjectIntHashedDictionary<>(DEFAULT_CAPACITY);
+        while (data.hasNext()) 
+            scratchCounts.addTo(data.next().toLowerCase(), 1);
         data.close();
+        
+        // Words already counted by an earlier call get the sum of both counts
+        Iterator<String> oldKeyIterator = wordTable.getKeyIterator();
+        Iterator<Integer> oldValueIterator = wordTable.getValueIterator();
+        while (oldKeyIterator.hasNext())
+            scratchCounts.addTo(oldKeyIterator.next(), oldValueIterator.next());
+        
+        // Copy the distinct words and their frequencies into arrays
+        int numberOfDistinctWords = scratchCounts.getSize();
+        String[] distinctWords = new String[numberOfDistinctWords];
+        Integer[] frequencies = new Integer[numberOfDistinctWords];
+        Iterator<String> keyIterator = scratchCounts.getKeyIterator();
+        PrimitiveIterator.OfInt valueIterator = scratchCounts.getValueIterator();
+        for (int index = 0; index < numberOfDistinctWords; index++)
+        {
+            distinctWords[index] = keyIterator.next();
+            frequencies[index] = valueIterator.nextInt();
+        } // end for
+        
+        // addAll sorts the distinct words
+        SortedArrayDictionary<String, Integer> counts = new SortedArrayDictionary<>();
+        counts.addAll(distinctWords, frequencies);
+        wordTable = counts;
     } // end readFile
     
+    /** Gets the number of times a word has occurred, or, if this counter is
+        approximate, an estimate that is never too small.
+        @param word  A word in lowercase.
+        @return  The word's frequency. */
+    public int getFrequency(String word)
+    {
+        if (wordTable == null)
+            return wordSketch.getEstimate(word);
+        Integer count = wordTable.getValue(word);
+        if (count == null)
+            return 0;
+        else
+            return count;
+    } // end getFrequency
+    
+    /** Displays the words in alphabetical order with their frequencies, or,
+        if this counter is approximate, the most frequent words in order of
+        decreasing estimated frequency. */
     public void display()
     {
+        if (wordTable == null)
+        {
+            String[] words = getFrequentWords();
+            for (String word : words)
+                System.out.println(word + "\t" + wordSketch.getEstimate(word));
+            return;
+        } // end if
+        
         Iterator<String> keyIterator = wordTable.getKeyIterator();
         Iterator<Integer> valueIterator = wordTable.getValueIterator();
         
@@ -45,10 +119,29 @@ public class FrequencyCounter
             System.out.println(keyIterator.next() + "\t" + valueIterator.next());
     } // end display
     
-    /** Displays only words that occur with a given frequency. 
+    /** Displays only words that occur with a given frequency. If this
+        counter is approximate, only the most frequent words having that
+        estimated frequency are displayed.
         @param frequency An integer count of the desired frequency. */
     public void display(int frequency)
     {
+        if (wordTable == null)
+        {
+            System.out.println("Words that occur " + frequency + " times: ");
+            boolean atLeastOneWord = false;
+            for (String word : getFrequentWords())
+            {
+                if (wordSketch.getEstimate(word) == frequency)
+                {
+                    System.out.println(word);
+                    atLeastOneWord = true;
+                } // end if
+            } // end for
+            if (!atLeastOneWord)
+                System.out.println("There are none.");
+            return;
+        } // end if
+        
         Iterator<String> keyIterator = wordTable.getKeyIterator();
         Iterator<Integer> valueIterator = wordTable.getValueIterator();
         
@@ -67,4 +160,42 @@ public class FrequencyCounter
         if (!atLeastOneWord)
             System.out.println("There are none.");
     } // end display
+    
+    // Counts the words of data in the sketch without storing them.
+    private void readFileApproximately(Scanner data)
+    {
+        while (data.hasNext()) 
+        {
+            String nextWord = data.next().toLowerCase();
+            wordSketch.add(nextWord);
+            frequentWords.add(nextWord);
+        } // end while
+        data.close();
+    } // end readFileApproximately
+    
+    // Returns the most frequent words, sorted by decreasing estimated
+    // frequency and then alphabetically.
+    private String[] getFrequentWords()
+    {
+        String[] words = new String[frequentWords.getNumberOfItems()];
+        int[] counts = new int[words.length];
+        Iterator<String> wordIterator = frequentWords.getItemIterator();
+        for (int index = 0; index < words.length; index++)
+        {
+            // Insertion sort, since there are only k words
+            String word = wordIterator.next();
+            int count = wordSketch.getEstimate(word);
+            int position = index;
+            while ((position > 0) && ((counts[position - 1] < count) ||
+                   ((counts[position - 1] == count) && (words[position - 1].compareTo(word) > 0))))
+            {
+                words[position] = words[position - 1];
+                counts[position] = counts[position - 1];
+                position--;
+            } // end while
+            words[position] = word;
+            counts[position] = count;
+        } // end for
+        return words;
+    } // end getFrequentWords
 } // end FrequencyCounter
@@ -0,0 +1,310 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+/**
+    A class that finds the k items added most often, approximately, in a
+    fixed amount of memory, no matter how many items are added.
+    Like a Count-Min sketch, the class has depth rows of width buckets, and
+    each row hashes an item to one bucket. A bucket holds the fingerprint
+    of one item and a count. Adding an item increases the count of each of
+    its buckets that holds its fingerprint or is empty. A bucket that holds
+    another item's fingerprint is decreased instead, with a probability
+    that falls exponentially with its count; once it reaches zero, the new
+    item takes it over. Frequent items thus keep their buckets, and their
+    counts are seldom too large, while infrequent items decay away.
+    The largest of an item's counts is its estimate. The k items having
+    the largest estimates so far are kept in a min-heap, which is indexed
+    by item so that an item's entry can be updated in place.
+*/
+public class HeavyKeeper<T>
+{
+    // The buckets:
+    private final int[] fingerprints;   // Row r is [r * width .. (r + 1) * width - 1]
+    private final int[] counts;         // A count of 0 marks an empty bucket
+    private final int width;
+    private final int depth;
+    private final Random generator;
+    private static final double DECAY_BASE = 1.08;
+    private static final int MAX_DECAY_COUNT = 256; // Larger counts never decay
+    private static final double[] DECAY_PROBABILITIES = createDecayProbabilities();
+    private static final int MAX_BUCKETS = 1 << 27;
+
+    // The top k items, as a min-heap by count:
+    private final T[] heapItems;
+    private final int[] heapCounts;
+    private int heapSize;
+    private final ObjectIntHashedDictionary<T> heapPositions; // Item -> index in heap
+    private final int k;
+
+    /** Creates an empty structure for given error bounds, with the same
+        width and depth as a CountMinSketch for those bounds.
+        @param k        The number of items to keep.
+        @param epsilon  The largest error wanted, as a fraction of the total
+                        count; greater than 0 and less than 1.
+        @param delta    The largest probability wanted of exceeding that
+                        error; greater than 0 and less than 1. */
+    public HeavyKeeper(int k, double epsilon, double delta)
+    {
+        this(k, CountMinSketch.getWidthFor(epsilon), CountMinSketch.getDepthFor(delta));
+    } // end constructor
+
+    /** Creates an empty structure of a given size.
+        @param k      The number of items to keep.
+        @param width  The number of buckets in each row.
+        @param depth  The number of rows. */
+    public HeavyKeeper(int k, int width, int depth)
+    {
+        if (k <= 0)
+            throw new IllegalArgumentException("k must be positive: " + k);
+        if ((width <= 0) || (depth <= 0))
+            throw new IllegalArgumentException("Width and depth must be positive: " +
+                                               width + ", " + depth);
+        if (((long)width * depth > MAX_BUCKETS) || (k > MAX_BUCKETS))
+            throw new IllegalStateException("Attempt to create a structure " +
+                                            "whose size exceeds maximum.");
+        this.width = width;
+        this.depth = depth;
+        this.k = k;
+        fingerprints = new int[width * depth];
+        counts = new int[width * depth];
+        generator = new Random();
+
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        T[] tempHeap = (T[])new Object[k];
+        heapItems = tempHeap;
+        heapCounts = new int[k];
+        heapSize = 0;
+        heapPositions = new ObjectIntHashedDictionary<>(k, 0.5, -1);
+    } // end constructor
+
+    /** Adds one occurrence of an item.
+        @param item  The item to count.
+        @return  The item's estimated count. */
+    public int add(T item)
+    {
+        if (item == null)
+            throw new IllegalArgumentException("Cannot add null to a HeavyKeeper.");
+        long hash = CountMinSketch.getHash(item);
+        int fingerprint = (int)(hash >>> 32);
+        int estimate = 0;
+        for (int row = 0; row < depth; row++)
+        {
+            int index = getIndex(hash, row);
+            int count = counts[index];
+            if (count == 0)
+            {
+                fingerprints[index] = fingerprint;
+                counts[index] = 1;
+                estimate = Math.max(estimate, 1);
+            }
+            else if (fingerprints[index] == fingerprint)
+            {
+                if (count < Integer.MAX_VALUE)
+                    counts[index] = count + 1;
+                estimate = Math.max(estimate, counts[index]);
+            }
+            else if ((count < MAX_DECAY_COUNT) &&
+                     (generator.nextDouble() < DECAY_PROBABILITIES[count]))
+            {
+                if (count == 1)
+                {
+                    fingerprints[index] = fingerprint;
+                    estimate = Math.max(estimate, 1);
+                }
+                else
+                    counts[index] = count - 1;
+                // end if
+            } // end if
+        } // end for
+
+        int position = heapPositions.getValue(item);
+        if (position >= 0)
+        {
+            if (estimate > heapCounts[position])
+            {
+                heapCounts[position] = estimate;
+                siftDown(heapItems, heapCounts, heapSize, position, heapPositions);
+            } // end if
+        }
+        else if (heapSize < k)
+        {
+            heapItems[heapSize] = item;
+            heapCounts[heapSize] = estimate;
+            heapPositions.add(item, heapSize);
+            heapSize++;
+            siftUp(heapSize - 1);
+        }
+        else if (estimate > heapCounts[0])
+        {
+            heapPositions.remove(heapItems[0]);
+            heapItems[0] = item;
+            heapCounts[0] = estimate;
+            heapPositions.add(item, 0);
+            siftDown(heapItems, heapCounts, heapSize, 0, heapPositions);
+        } // end if
+        return estimate;
+    } // end add
+
+    /** Gets the number of items kept, which is at most k.
+        @return  The number of top items. */
+    public int getNumberOfItems()
+    {
+        return heapSize;
+    } // end getNumberOfItems
+
+    /** Creates an iterator of the top items, most frequent first, as they
+        are now. Later additions do not change the iteration.
+        @return  An iterator of the top items. */
+    public Iterator<T> getItemIterator()
+    {
+        return new ItemIterator();
+    } // end getItemIterator
+
+    /** Creates an iterator of the estimated counts of the top items, in the
+        same order as getItemIterator.
+        @return  An iterator of the counts. */
+    public PrimitiveIterator.OfInt getCountIterator()
+    {
+        return new CountIterator();
+    } // end getCountIterator
+
+    /** Removes all items and counts. */
+    public void clear()
+    {
+        for (int index = 0; index < counts.length; index++)
+            counts[index] = 0;
+        for (int index = 0; index < heapSize; index++)
+            heapItems[index] = null;
+        heapSize = 0;
+        heapPositions.clear();
+    } // end clear
+
+    // Moves the entry at position toward the root of the live heap until
+    // its parent's count is no larger.
+    private void siftUp(int position)
+    {
+        T item = heapItems[position];
+        int count = heapCounts[position];
+        while (position > 0)
+        {
+            int parent = (position - 1) / 2;
+            if (heapCounts[parent] <= count)
+                break;
+            heapItems[position] = heapItems[parent];
+            heapCounts[position] = heapCounts[parent];
+            heapPositions.add(heapItems[position], position);
+            position = parent;
+        } // end while
+        heapItems[position] = item;
+        heapCounts[position] = count;
+        heapPositions.add(item, position);
+    } // end siftUp
+
+    // Moves the entry at position of a min-heap of size entries away from
+    // the root until its children's counts are no smaller. Records the new
+    // index of each moved item in positions, unless positions is null.
+    private static <S> void siftDown(S[] items, int[] counts, int size, int position,
+                                     ObjectIntHashedDictionary<S> positions)
+    {
+        S item = items[position];
+        int count = counts[position];
+        int child = 2 * position + 1;
+        while (child < size)
+        {
+            if ((child + 1 < size) && (counts[child + 1] < counts[child]))
+                child++;
+            if (count <= counts[child])
+                break;
+            items[position] = items[child];
+            counts[position] = counts[child];
+            if (positions != null)
+                positions.add(items[position], position);
+            position = child;
+            child = 2 * position + 1;
+        } // end while
+        items[position] = item;
+        counts[position] = count;
+        if (positions != null)
+            positions.add(item, position);
+    } // end siftDown
+
+    // Returns the index in counts of row's bucket for the given hash.
+    private int getIndex(long hash, int row)
+    {
+        int h1 = (int)hash;
+        int h2 = (int)(hash >>> 32) | 1;
+        return row * width + Integer.remainderUnsigned(h1 + row * h2, width);
+    } // end getIndex
+
+    // DECAY_PROBABILITIES[c] is DECAY_BASE to the power -c.
+    private static double[] createDecayProbabilities()
+    {
+        double[] probabilities = new double[MAX_DECAY_COUNT];
+        for (int count = 0; count < MAX_DECAY_COUNT; count++)
+            probabilities[count] = Math.pow(DECAY_BASE, -count);
+        return probabilities;
+    } // end createDecayProbabilities
+
+    // Copies the heap and sorts the copy by decreasing count: each root,
+    // the smallest count left, is swapped to the end of the unsorted part.
+    private abstract class RankedIterator
+    {
+        protected final T[] items;
+        protected final int[] itemCounts;
+        protected int nextIndex;
+
+        protected RankedIterator()
+        {
+            @SuppressWarnings("unchecked")
+            T[] tempItems = (T[])new Object[heapSize];
+            items = tempItems;
+            System.arraycopy(heapItems, 0, items, 0, heapSize);
+            itemCounts = Arrays.copyOf(heapCounts, heapSize);
+            for (int last = heapSize - 1; last > 0; last--)
+            {
+                T item = items[0];
+                int count = itemCounts[0];
+                items[0] = items[last];
+                itemCounts[0] = itemCounts[last];
+                items[last] = item;
+                itemCounts[last] = count;
+                siftDown(items, itemCounts, last, 0, null);
+            } // end for
+            nextIndex = 0;
+        } // end default constructor
+
+        public boolean hasNext()
+        {
+            return nextIndex < items.length;
+        } // end hasNext
+
+        protected void checkNext()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+        } // end checkNext
+    } // end RankedIterator
+
+    private class ItemIterator extends RankedIterator implements Iterator<T>
+    {
+        public T next()
+        {
+            checkNext();
+            nextIndex++;
+            return items[nextIndex - 1];
+        } // end next
+    } // end ItemIterator
+
+    private class CountIterator extends RankedIterator implements PrimitiveIterator.OfInt
+    {
+        public int nextInt()
+        {
+            checkNext();
+            nextIndex++;
+            return itemCounts[nextIndex - 1];
+        } // end nextInt
+    } // end CountIterator
+} // end HeavyKeeper
@@ -1,42 +1,153 @@
-public final class ImmutableName 
+/** A class that represents a name that cannot change.
+    The full name and hash code are computed once. intern returns one
+    shared object for each first and last name, finding it without
+    creating any objects when it already exists. */
+public final class ImmutableName
 {
-    private String first; // First name  
-    private String last; // Last name
-    
-    public ImmutableName(String firstName, String lastName) 
+    private final String first; // First name
+    private final String last; // Last name
+    private final int hash;
+    private String fullName;    // Computed when first needed
+
+    public ImmutableName(String firstName, String lastName)
     {
           first = firstName;
           last = lastName;
+          hash = Name.getHashCode(first, last);
+          fullName = null;
     } // end constructor
-    
+
     public ImmutableName(Name aName)
     {
-        first = aName.getFirst();
-        last = aName.getLast();
+        this(aName.getFirst(), aName.getLast());
     } // end constructor
-    
+
+    /** Gets the shared ImmutableName for a given first and last name,
+        creating it only if it does not exist yet. Letter case matters:
+        names that differ only in case are different objects. Interned
+        names are never discarded.
+        @param firstName  A first name.
+        @param lastName   A last name.
+        @return  The one interned ImmutableName having these names. */
+    public static ImmutableName intern(String firstName, String lastName)
+    {
+        return POOL.intern(firstName, lastName);
+    } // end intern
+
     public Name getMutable()
     {
         return new Name(first, last);
     } // end getMutable
-    
-    public String getFirst() 
+
+    public String getFirst()
     {
-        return first; 
+        return first;
     } // end getFirst
-    
-    public String getLast() 
+
+    public String getLast()
     {
-        return last; 
+        return last;
     } // end getLast
-    
-    public String getName() 
+
+    public String getName()
     {
-        return toString(); 
+        return toString();
     } // end getName
-    
-    public String toString() 
-    {    
-        return first + " " + last; 
+
+    public String toString()
+    {
+        if (fullName == null)
+            fullName = first + " " + last;
+        return fullName;
     } // end toString
-} // end ImmutableName
\ No newline at end of file
+
+    /** Sees whether this name equals another, ignoring letter case, as
+        Name does. */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+            return true;
+        if (!(o instanceof ImmutableName))
+            return false;
+        ImmutableName other = (ImmutableName) o;
+        return (hash == other.hash) && last.equalsIgnoreCase(other.last) &&
+               first.equalsIgnoreCase(other.first);
+    } // end equals
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    } // end hashCode
+
+    private static final InternPool POOL = new InternPool();
+
+    // A hash table of interned names that uses linear probing. Names are
+    // looked up by their strings, so no key object is created.
+    private static class InternPool
+    {
+        private ImmutableName[] table;  // null marks an empty location
+        private int numberOfNames;
+        private static final int INITIAL_SIZE = 64; // Must be a power of 2
+
+        private InternPool()
+        {
+            table = new ImmutableName[INITIAL_SIZE];
+            numberOfNames = 0;
+        } // end constructor
+
+        private synchronized ImmutableName intern(String firstName, String lastName)
+        {
+            if ((firstName == null) || (lastName == null))
+                throw new IllegalArgumentException("Cannot intern a null name.");
+            int hash = Name.getHashCode(firstName, lastName);
+            int mask = table.length - 1;
+            int index = getIndex(hash, mask);
+            while (table[index] != null)
+            {
+                ImmutableName name = table[index];
+                if ((name.hash == hash) && name.first.equals(firstName) &&
+                    name.last.equals(lastName))
+                    return name;
+                index = (index + 1) & mask;
+            } // end while
+
+            ImmutableName newName = new ImmutableName(firstName, lastName);
+            table[index] = newName;
+            numberOfNames++;
+            if (2 * numberOfNames > table.length)
+                enlargeTable();
+            return newName;
+        } // end intern
+
+        // Doubles the table's size and reinserts the names.
+        private void enlargeTable()
+        {
+            ImmutableName[] oldTable = table;
+            if (oldTable.length >= (1 << 30))
+                throw new IllegalStateException("Attempt to intern more names " +
+                                                "than the maximum.");
+            table = new ImmutableName[2 * oldTable.length];
+            int mask = table.length - 1;
+            for (ImmutableName name : oldTable)
+            {
+                if (name != null)
+                {
+                    int index = getIndex(name.hash, mask);
+                    while (table[index] != null)
+                        index = (index + 1) & mask;
+                    table[index] = name;
+                } // end if
+            } // end for
+        } // end enlargeTable
+
+        // Spreads a hash code's bits into an index of a table of mask + 1
+        // locations.
+        private static int getIndex(int hash, int mask)
+        {
+            int mixed = hash * 0x9E3779B9;
+            return (mixed ^ (mixed >>> 16)) & mask;
+        } // end getIndex
+    } // end InternPool
+} // end ImmutableName
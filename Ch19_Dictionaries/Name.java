@@ -1,7 +1,12 @@
-/** A class that represents a name. */
+/** A class that represents a name. 
+    Names are equal if their last and first names are equal when letter
+    case is ignored. The hash code is computed when the name changes, and
+    the full name only when it is first needed, so comparing a name or
+    using it as a search key creates no objects. */
 public class Name implements NameInterface, Comparable<Name>
 {
     private String fullName, first, last;
+    private int hash; // Cached hash code
     
     public Name()
     {
@@ -12,7 +17,7 @@ public class Name implements NameInterface, Comparable<Name>
     {
         first = firstName;
         last = lastName;
-        fullName = first + " " + last;
+        nameChanged();
     } // end constructor    
     
     public Name(ImmutableName aName)
@@ -20,9 +25,11 @@ public class Name implements NameInterface, Comparable<Name>
         this(aName.getFirst(),aName.getLast());
     } // end constructor
     
+    /** Gets the shared immutable copy of this name.
+        @return  The interned ImmutableName having this first and last name. */
     public ImmutableName getImmutable()
     {
-        return new ImmutableName(first, last);
+        return ImmutableName.intern(first, last);
     } // end getImmutable
     
     /** Sets the first and last names.
@@ -30,9 +37,9 @@ public class Name implements NameInterface, Comparable<Name>
          @param lastName   A string that is the desired last name. */
     public void setName(String firstName, String lastName)
     {
-        setFirst(firstName);
-        setLast(lastName);
-        fullName = first + " " + last;
+        first = firstName;
+        last = lastName;
+        nameChanged();
     } // end setname
     
     /** Gets the full name.
@@ -45,6 +52,7 @@ public class Name implements NameInterface, Comparable<Name>
     public void setFirst(String firstName)
     {
         first = firstName;
+        nameChanged();
     } // end setFirst
     
     public String getFirst()
@@ -55,6 +63,7 @@ public class Name implements NameInterface, Comparable<Name>
     public void setLast(String lastName)
     {
         last = lastName;
+        nameChanged();
     }// end setLast
     
     public String getLast()
@@ -69,23 +78,76 @@ public class Name implements NameInterface, Comparable<Name>
     
     public String toString()
     {
+        if (fullName == null)
+            fullName = first + " " + last;
         return fullName;
     } // end toString
     
     public int compareTo(Name other)
     {        
-        int result = last.compareToIgnoreCase(other.getLast());
-        // If last names are equal, check first names
-        if (result == 0)
-            result = first.compareToIgnoreCase(other.getFirst());
-        return result;                
+        return compare(first, last, other);
     } // end compareTo
     
     @Override
     public boolean equals(Object o)
     {
+        if (!(o instanceof Name))
+            return false;
         Name other = (Name) o; 
-        return (compareTo(other) == 0);
+        return (hash == other.hash) && (compareTo(other) == 0);
     } // end equals
-        
+    
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    } // end hashCode
+    
+    /** Compares a name, given as its first and last names, with a Name
+        object as compareTo would, without creating any objects.
+        @param firstName  A first name.
+        @param lastName   A last name.
+        @param other      A Name object.
+        @return  A negative integer, zero or a positive integer as the name
+                 is less than, equal to or greater than other. */
+    static int compare(String firstName, String lastName, Name other)
+    {
+        int result = lastName.compareToIgnoreCase(other.getLast());
+        // If last names are equal, check first names
+        if (result == 0)
+            result = firstName.compareToIgnoreCase(other.getFirst());
+        return result;
+    } // end compare
+
+    /** Computes the hash code of a name without creating any objects.
+        Names that are equal, ignoring case, have the same hash code.
+        @param firstName  A first name.
+        @param lastName   A last name.
+        @return  The hash code of the name. */
+    static int getHashCode(String firstName, String lastName)
+    {
+        return 31 * getHashCodeIgnoreCase(lastName) + getHashCodeIgnoreCase(firstName);
+    } // end getHashCode
+    
+    // Updates the cached values after the first or last name changes.
+    private void nameChanged()
+    {
+        fullName = null;
+        hash = getHashCode(first, last);
+    } // end nameChanged
+    
+    // Returns a hash code of a string that is the same for strings that
+    // compareToIgnoreCase finds equal.
+    private static int getHashCodeIgnoreCase(String aString)
+    {
+        int result = 0;
+        if (aString == null)
+            return result;
+        for (int index = 0; index < aString.length(); index++)
+        {
+            char ch = Character.toLowerCase(Character.toUpperCase(aString.charAt(index)));
+            result = 31 * result + ch;
+        } // end for
+        return result;
+    } // end getHashCodeIgnoreCase
 } // end Name1
\ No newline at end of file
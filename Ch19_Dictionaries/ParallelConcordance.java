@@ -0,0 +1,320 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+/**
+    A class that builds the concordance of a large text file on several
+    threads.
+    The file is split into chunks of whole lines, and each chunk is mapped
+    into memory and indexed by its own fork-join task. A task scans the
+    chunk's bytes directly, without regular expressions or a Scanner, and
+    keys its partial index on those bytes, copying them only for a word
+    that is new to the chunk. Each word's line numbers are kept in a
+    PostingsList. The partial indexes of neighbouring chunks are then
+    merged, shifting the line numbers of the later chunk by the number of
+    lines before it, and a String is created for each distinct word only
+    when the merged index becomes the dictionary.
+    Words are the same as those of Concordance for ASCII text: maximal runs
+    of letters, digits and underscores, in lowercase. Other bytes separate
+    words, and each '\n' ends a line.
+*/
+public class ParallelConcordance
+{
+    private DictionaryInterface<String, PostingsList> wordTable;
+    private final int chunkSize;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 22;    // 4 MB
+    private static final int BOUNDARY_BUFFER_SIZE = 4096;
+
+    public ParallelConcordance()
+    {
+        this(DEFAULT_CHUNK_SIZE);
+    } // end default constructor
+
+    /** Creates an empty concordance.
+        @param chunkSize  The approximate number of bytes of the file that
+                          each task indexes; a chunk is extended to the end
+                          of its last line. */
+    public ParallelConcordance(int chunkSize)
+    {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive: " +
+                                               chunkSize);
+        this.chunkSize = chunkSize;
+        wordTable = new SortedArrayDictionary<>();
+    } // end constructor
+
+    /** Reads a text file of words and creates a concordance of it, which
+        replaces any earlier contents of this concordance.
+        @param fileName  The name of the text file.
+        @throws IOException if the file cannot be read. */
+    public void readFile(String fileName) throws IOException
+    {
+        PartialIndex index;
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+                                                    StandardOpenOption.READ))
+        {
+            long[] boundaries = getChunkBoundaries(channel);
+            index = ForkJoinPool.commonPool().invoke(
+                        new IndexTask(channel, boundaries, 0, boundaries.length - 1));
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        } // end try
+
+        int numberOfWords = index.words.getSize();
+        String[] words = new String[numberOfWords];
+        PostingsList[] lineLists = new PostingsList[numberOfWords];
+        for (int i = 0; i < numberOfWords; i++)
+        {
+            words[i] = new String(index.words.getWord(i), StandardCharsets.US_ASCII);
+            lineLists[i] = index.lineLists[i];
+            lineLists[i].trimToSize();
+        } // end for
+        SortedArrayDictionary<String, PostingsList> newTable = new SortedArrayDictionary<>();
+        newTable.addAll(words, lineLists);
+        wordTable = newTable;
+    } // end readFile
+
+    /** Displays words and the lines in which they occur. */
+    public void display()
+    {
+        Iterator<String> keyIterator = wordTable.getKeyIterator();
+        Iterator<PostingsList> valueIterator = wordTable.getValueIterator();
+
+        while (keyIterator.hasNext())
+        {
+            // Display the word
+            System.out.print(keyIterator.next() + "\t");
+            // Display line numbers
+            PrimitiveIterator.OfInt listIterator = valueIterator.next().getIterator();
+            while (listIterator.hasNext())
+                System.out.print(listIterator.nextInt() + " ");
+            // end while
+            System.out.println();
+        } // end while
+    } // end display
+
+    /** Returns the numbers of the lines that contain a given word.
+        @param word A string containing a word to be found.
+        @return A list of line numbers in which the word occurs, or null
+                if the word does not occur. */
+    public PostingsList getLineNumbers(String word)
+    {
+        return wordTable.getValue(word);
+    } // end getLineNumbers
+
+    /** Returns the numbers of the lines that contain both of two given words.
+        @param firstWord   A string containing a word to be found.
+        @param secondWord  A string containing another word to be found.
+        @return A list of distinct line numbers in which both words occur. */
+    public PostingsList getLinesContainingBoth(String firstWord, String secondWord)
+    {
+        return PostingsList.intersection(wordTable.getValue(firstWord),
+                                         wordTable.getValue(secondWord));
+    } // end getLinesContainingBoth
+
+    /** Returns the numbers of the lines that contain either of two given
+        words.
+        @param firstWord   A string containing a word to be found.
+        @param secondWord  A string containing another word to be found.
+        @return A list of distinct line numbers in which either word occurs. */
+    public PostingsList getLinesContainingEither(String firstWord, String secondWord)
+    {
+        return PostingsList.union(wordTable.getValue(firstWord),
+                                  wordTable.getValue(secondWord));
+    } // end getLinesContainingEither
+
+    // Splits the file into chunks of about chunkSize bytes that end just
+    // after a '\n' or at the end of the file. Returns the offsets at which
+    // the chunks begin, followed by the file's size.
+    private long[] getChunkBoundaries(FileChannel channel) throws IOException
+    {
+        long fileSize = channel.size();
+        long[] boundaries = new long[16];
+        int numberOfBoundaries = 1;     // boundaries[0] is 0
+        long start = 0;
+        while (start < fileSize)
+        {
+            long end = start + chunkSize;
+            if (end >= fileSize)
+                end = fileSize;
+            else
+                end = getNextLineStart(channel, end, fileSize);
+            if (end - start > Integer.MAX_VALUE)
+                throw new IOException("A line is too long to index.");
+            if (numberOfBoundaries == boundaries.length)
+                boundaries = Arrays.copyOf(boundaries, 2 * boundaries.length);
+            boundaries[numberOfBoundaries] = end;
+            numberOfBoundaries++;
+            start = end;
+        } // end while
+        return Arrays.copyOf(boundaries, numberOfBoundaries);
+    } // end getChunkBoundaries
+
+    // Returns the offset just after the first '\n' at or after position,
+    // or fileSize if there is none.
+    private static long getNextLineStart(FileChannel channel, long position,
+                                         long fileSize) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+        while (position < fileSize)
+        {
+            buffer.clear();
+            int count = channel.read(buffer, position);
+            if (count <= 0)
+                break;
+            for (int i = 0; i < count; i++)
+            {
+                if (buffer.get(i) == '\n')
+                    return position + i + 1;
+            } // end for
+            position = position + count;
+        } // end while
+        return fileSize;
+    } // end getNextLineStart
+
+    // Returns the lowercase form of a byte that can be part of a word,
+    // or -1 if the byte separates words.
+    private static int toWordByte(byte b)
+    {
+        if ((b >= 'A') && (b <= 'Z'))
+            return b + ('a' - 'A');
+        else if (((b >= 'a') && (b <= 'z')) || ((b >= '0') && (b <= '9')) || (b == '_'))
+            return b;
+        else
+            return -1;
+    } // end toWordByte
+
+    // Indexes the chunks boundaries[first..last-1], splitting the range
+    // in half until only one chunk remains.
+    private static class IndexTask extends RecursiveTask<PartialIndex>
+    {
+        private static final long serialVersionUID = 1L;
+        private final FileChannel channel;
+        private final long[] boundaries;
+        private final int first;
+        private final int last;
+
+        private IndexTask(FileChannel channel, long[] boundaries, int first, int last)
+        {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.first = first;
+            this.last = last;
+        } // end constructor
+
+        protected PartialIndex compute()
+        {
+            if (last - first <= 1)
+                return (last == first) ? new PartialIndex() : indexChunk(first);
+            int mid = first + (last - first) / 2;
+            IndexTask leftTask = new IndexTask(channel, boundaries, first, mid);
+            leftTask.fork();
+            PartialIndex right = new IndexTask(channel, boundaries, mid, last).compute();
+            PartialIndex left = leftTask.join();
+            left.addAll(right);
+            return left;
+        } // end compute
+
+        private PartialIndex indexChunk(int chunk)
+        {
+            long start = boundaries[chunk];
+            int length = (int)(boundaries[chunk + 1] - start);
+            MappedByteBuffer buffer;
+            try
+            {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            } // end try
+
+            PartialIndex index = new PartialIndex();
+            byte[] word = new byte[64];
+            int wordLength = 0;
+            int lineNumber = 1;
+            for (int i = 0; i < length; i++)
+            {
+                byte b = buffer.get(i);
+                int wordByte = toWordByte(b);
+                if (wordByte >= 0)
+                {
+                    if (wordLength == word.length)
+                        word = Arrays.copyOf(word, 2 * word.length);
+                    word[wordLength] = (byte)wordByte;
+                    wordLength++;
+                }
+                else
+                {
+                    if (wordLength > 0)
+                    {
+                        index.addOccurrence(word, wordLength, lineNumber);
+                        wordLength = 0;
+                    } // end if
+                    if (b == '\n')
+                        lineNumber++;
+                } // end if
+            } // end for
+            if (wordLength > 0)
+                index.addOccurrence(word, wordLength, lineNumber);
+            index.numberOfLines = lineNumber - 1;
+            return index;
+        } // end indexChunk
+    } // end IndexTask
+
+    // The index of one or more neighbouring chunks: a table of the bytes
+    // of each word and, parallel to it, the word's line numbers.
+    private static class PartialIndex
+    {
+        private final ByteWordTable words;
+        private PostingsList[] lineLists;   // lineLists[n] is for word number n
+        private int numberOfLines;          // Number of '\n' in the chunks
+
+        private PartialIndex()
+        {
+            words = new ByteWordTable();
+            lineLists = new PostingsList[64];
+            numberOfLines = 0;
+        } // end default constructor
+
+        // Records that word[0..length-1] occurs on a given line.
+        private void addOccurrence(byte[] word, int length, int lineNumber)
+        {
+            getLineList(word, length).add(lineNumber);
+        } // end addOccurrence
+
+        // Adds the words of the chunks that follow this index's chunks.
+        private void addAll(PartialIndex later)
+        {
+            for (int i = 0; i < later.words.getSize(); i++)
+            {
+                byte[] word = later.words.getWord(i);
+                getLineList(word, word.length).addAll(later.lineLists[i], numberOfLines);
+            } // end for
+            numberOfLines = numberOfLines + later.numberOfLines;
+        } // end addAll
+
+        // Returns the line list of word[0..length-1], adding the word with
+        // an empty list if it is new.
+        private PostingsList getLineList(byte[] word, int length)
+        {
+            int wordNumber = words.add(word, length);
+            if (wordNumber == lineLists.length)
+                lineLists = Arrays.copyOf(lineLists, 2 * lineLists.length);
+            if (lineLists[wordNumber] == null)
+                lineLists[wordNumber] = new PostingsList();
+            return lineLists[wordNumber];
+        } // end getLineList
+    } // end PartialIndex
+} // end ParallelConcordance
@@ -0,0 +1,426 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+/**
+    A class that counts the frequencies of the words in a large text file
+    on several threads.
+    The file is split into chunks that end between words, and each chunk is
+    mapped into memory and scanned by its own fork-join task. A task counts
+    the chunk's words in a ByteWordTable keyed on their bytes, so a String
+    is created only for a word that is new to the chunk. It then moves the
+    counts into an ObjectIntHashedDictionary of its own, so counts are never
+    boxed and tasks never share a table; as the tasks finish, each pair of
+    tables is added together into a table presized for both.
+    topK finds the most frequent words with a heap of only k entries.
+    The first query by frequency sorts the words by frequency once, after
+    which each such query is a binary search.
+    Words are the same as those of FrequencyCounter for ASCII text: maximal
+    runs of letters, digits and underscores, in lowercase.
+*/
+public class ParallelFrequencyCounter
+{
+    private ObjectIntHashedDictionary<String> wordTable;
+    private WordCount[] byFrequency;        // Sorted by rank; null until needed
+    private final int chunkSize;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 22;    // 4 MB
+    private static final int BOUNDARY_BUFFER_SIZE = 4096;
+
+    public ParallelFrequencyCounter()
+    {
+        this(DEFAULT_CHUNK_SIZE);
+    } // end default constructor
+
+    /** Creates a counter that has counted no words.
+        @param chunkSize  The approximate number of bytes of the file that
+                          each task scans; a chunk is extended to the end
+                          of its last word. */
+    public ParallelFrequencyCounter(int chunkSize)
+    {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive: " +
+                                               chunkSize);
+        this.chunkSize = chunkSize;
+        wordTable = new ObjectIntHashedDictionary<>();
+        byFrequency = null;
+    } // end constructor
+
+    /** Reads a text file of words and adds their frequencies of occurrence
+        to the counts of any files read earlier.
+        @param fileName  The name of the text file.
+        @throws IOException if the file cannot be read. */
+    public void readFile(String fileName) throws IOException
+    {
+        ObjectIntHashedDictionary<String> fileCounts;
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+                                                    StandardOpenOption.READ))
+        {
+            long[] boundaries = getChunkBoundaries(channel);
+            fileCounts = ForkJoinPool.commonPool().invoke(
+                new CountTask(channel, boundaries, 0, boundaries.length - 1));
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        } // end try
+
+        wordTable = merge(wordTable, fileCounts);
+        byFrequency = null;
+    } // end readFile
+
+    /** Gets the number of times a word occurs.
+        @param word  A word in lowercase.
+        @return  The word's frequency, or 0 if it does not occur. */
+    public int getFrequency(String word)
+    {
+        return wordTable.getValue(word);
+    } // end getFrequency
+
+    /** Gets the number of distinct words counted.
+        @return  The number of distinct words. */
+    public int getNumberOfWords()
+    {
+        return wordTable.getSize();
+    } // end getNumberOfWords
+
+    /** Finds the most frequent words. Words of equal frequency are taken in
+        alphabetical order.
+        @param k  The number of words wanted; fewer are returned if fewer
+                  words occur. It must be less than MaxHeap's maximum
+                  capacity.
+        @return  An array of at most k words and their counts, most frequent
+                 first. */
+    public WordCount[] topK(int k)
+    {
+        if (k < 0)
+            throw new IllegalArgumentException("k cannot be negative: " + k);
+        if (k == 0)
+            return new WordCount[0];
+
+        // The heap's largest entry is the lowest ranked of the best k so far
+        MaxHeap<WordCount> best = new MaxHeap<>(k + 1);
+        Iterator<String> keyIterator = wordTable.getKeyIterator();
+        PrimitiveIterator.OfInt valueIterator = wordTable.getValueIterator();
+        while (keyIterator.hasNext())
+        {
+            String word = keyIterator.next();
+            int count = valueIterator.nextInt();
+            if (best.getSize() < k)
+                best.add(new WordCount(word, count));
+            else if (ranksBefore(word, count, best.getMax()))
+            {
+                best.removeMax();
+                best.add(new WordCount(word, count));
+            } // end if
+        } // end while
+
+        WordCount[] result = new WordCount[best.getSize()];
+        for (int index = result.length - 1; index >= 0; index--)
+            result[index] = best.removeMax();
+        return result;
+    } // end topK
+
+    /** Finds the words that occur a given number of times.
+        @param frequency  The desired frequency.
+        @return  An array of the words, in alphabetical order. */
+    public String[] getWordsWithFrequency(int frequency)
+    {
+        return getWordsWithFrequencyBetween(frequency, frequency);
+    } // end getWordsWithFrequency
+
+    /** Finds the words whose frequencies are in a given range.
+        @param low   The smallest frequency wanted.
+        @param high  The largest frequency wanted.
+        @return  An array of the words, most frequent first and in
+                 alphabetical order within a frequency. */
+    public String[] getWordsWithFrequencyBetween(int low, int high)
+    {
+        sortByFrequency();
+        // byFrequency is in decreasing order of count
+        int first = countRankedAbove(high);
+        int last = countRankedAbove(low - 1);
+        String[] result = new String[Math.max(last - first, 0)];
+        for (int index = 0; index < result.length; index++)
+            result[index] = byFrequency[first + index].getWord();
+        return result;
+    } // end getWordsWithFrequencyBetween
+
+    /** Displays all words in alphabetical order, with their frequencies. */
+    public void display()
+    {
+        String[] words = new String[wordTable.getSize()];
+        Iterator<String> keyIterator = wordTable.getKeyIterator();
+        for (int index = 0; index < words.length; index++)
+            words[index] = keyIterator.next();
+        SortArray.mergeSort(words, 0, words.length - 1);
+        for (String word : words)
+            System.out.println(word + "\t" + wordTable.getValue(word));
+    } // end display
+
+    /** Displays only words that occur with a given frequency.
+        @param frequency An integer count of the desired frequency. */
+    public void display(int frequency)
+    {
+        System.out.println("Words that occur " + frequency + " times: ");
+        String[] words = getWordsWithFrequency(frequency);
+        for (String word : words)
+            System.out.println(word);
+        if (words.length == 0)
+            System.out.println("There are none.");
+    } // end display
+
+    // Sees whether word, with the given count, ranks before entry.
+    private static boolean ranksBefore(String word, int count, WordCount entry)
+    {
+        if (count != entry.getCount())
+            return count > entry.getCount();
+        return word.compareTo(entry.getWord()) < 0;
+    } // end ranksBefore
+
+    // Creates byFrequency if it does not exist.
+    private void sortByFrequency()
+    {
+        if (byFrequency != null)
+            return;
+        WordCount[] entries = new WordCount[wordTable.getSize()];
+        Iterator<String> keyIterator = wordTable.getKeyIterator();
+        PrimitiveIterator.OfInt valueIterator = wordTable.getValueIterator();
+        for (int index = 0; index < entries.length; index++)
+            entries[index] = new WordCount(keyIterator.next(), valueIterator.nextInt());
+        SortArray.mergeSort(entries, 0, entries.length - 1);
+        byFrequency = entries;
+    } // end sortByFrequency
+
+    // Returns the number of entries of byFrequency whose counts exceed count.
+    private int countRankedAbove(int count)
+    {
+        int low = 0;
+        int high = byFrequency.length;
+        while (low < high)
+        {
+            int mid = low + (high - low) / 2;
+            if (byFrequency[mid].getCount() > count)
+                low = mid + 1;
+            else
+                high = mid;
+        } // end while
+        return low;
+    } // end countRankedAbove
+
+    // Splits the file into chunks of about chunkSize bytes that end at a
+    // byte that is not part of a word, or at the end of the file. Returns
+    // the offsets at which the chunks begin, followed by the file's size.
+    private long[] getChunkBoundaries(FileChannel channel) throws IOException
+    {
+        long fileSize = channel.size();
+        long[] boundaries = new long[16];
+        int numberOfBoundaries = 1;     // boundaries[0] is 0
+        long start = 0;
+        while (start < fileSize)
+        {
+            long end = start + chunkSize;
+            if (end >= fileSize)
+                end = fileSize;
+            else
+                end = getNextWordEnd(channel, end, fileSize);
+            if (end - start > Integer.MAX_VALUE)
+                throw new IOException("A word is too long to count.");
+            if (numberOfBoundaries == boundaries.length)
+                boundaries = Arrays.copyOf(boundaries, 2 * boundaries.length);
+            boundaries[numberOfBoundaries] = end;
+            numberOfBoundaries++;
+            start = end;
+        } // end while
+        return Arrays.copyOf(boundaries, numberOfBoundaries);
+    } // end getChunkBoundaries
+
+    // Returns the offset of the first byte at or after position that is not
+    // part of a word, or fileSize if there is none.
+    private static long getNextWordEnd(FileChannel channel, long position,
+                                       long fileSize) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+        while (position < fileSize)
+        {
+            buffer.clear();
+            int count = channel.read(buffer, position);
+            if (count <= 0)
+                break;
+            for (int i = 0; i < count; i++)
+            {
+                if (toWordByte(buffer.get(i)) < 0)
+                    return position + i;
+            } // end for
+            position = position + count;
+        } // end while
+        return fileSize;
+    } // end getNextWordEnd
+
+    // Returns the lowercase form of a byte that can be part of a word,
+    // or -1 if the byte separates words.
+    private static int toWordByte(byte b)
+    {
+        if ((b >= 'A') && (b <= 'Z'))
+            return b + ('a' - 'A');
+        else if (((b >= 'a') && (b <= 'z')) || ((b >= '0') && (b <= '9')) || (b == '_'))
+            return b;
+        else
+            return -1;
+    } // end toWordByte
+
+    /** A word and the number of times it occurs. Word counts are ordered
+        by rank: higher counts first, and equal counts alphabetically. */
+    public static class WordCount implements Comparable<WordCount>
+    {
+        private final String word;
+        private final int count;
+
+        private WordCount(String word, int count)
+        {
+            this.word = word;
+            this.count = count;
+        } // end constructor
+
+        public String getWord()
+        {
+            return word;
+        } // end getWord
+
+        public int getCount()
+        {
+            return count;
+        } // end getCount
+
+        public int compareTo(WordCount other)
+        {
+            if (count != other.count)
+                return (count > other.count) ? -1 : 1;
+            return word.compareTo(other.word);
+        } // end compareTo
+
+        public String toString()
+        {
+            return word + "\t" + count;
+        } // end toString
+    } // end WordCount
+
+    // Returns a table of the sums of two tables' counts. The sums go into a
+    // new table that is large enough for both, so it is never enlarged.
+    private static ObjectIntHashedDictionary<String> merge(
+            ObjectIntHashedDictionary<String> first,
+            ObjectIntHashedDictionary<String> second)
+    {
+        if (first.isEmpty())
+            return second;
+        else if (second.isEmpty())
+            return first;
+
+        ObjectIntHashedDictionary<String> result =
+            new ObjectIntHashedDictionary<>(first.getSize() + second.getSize());
+        addAllCounts(first, result);
+        addAllCounts(second, result);
+        return result;
+    } // end merge
+
+    // Adds the counts in source to those in destination.
+    private static void addAllCounts(ObjectIntHashedDictionary<String> source,
+                                     ObjectIntHashedDictionary<String> destination)
+    {
+        Iterator<String> keyIterator = source.getKeyIterator();
+        PrimitiveIterator.OfInt valueIterator = source.getValueIterator();
+        while (keyIterator.hasNext())
+            destination.addTo(keyIterator.next(), valueIterator.nextInt());
+    } // end addAllCounts
+
+    // Counts the words of chunks boundaries[first..last-1], splitting the
+    // range in half until only one chunk remains. Each chunk is counted into
+    // a table of its own, and the halves' tables are merged.
+    private static class CountTask extends RecursiveTask<ObjectIntHashedDictionary<String>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long[] boundaries;
+        private final int first;
+        private final int last;
+
+        private CountTask(FileChannel channel, long[] boundaries, int first, int last)
+        {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.first = first;
+            this.last = last;
+        } // end constructor
+
+        protected ObjectIntHashedDictionary<String> compute()
+        {
+            if (last - first <= 1)
+                return (last == first) ? new ObjectIntHashedDictionary<>() : countChunk(first);
+            else
+            {
+                int mid = first + (last - first) / 2;
+                CountTask firstHalf = new CountTask(channel, boundaries, first, mid);
+                firstHalf.fork();
+                ObjectIntHashedDictionary<String> secondCounts =
+                    new CountTask(channel, boundaries, mid, last).compute();
+                return merge(firstHalf.join(), secondCounts);
+            } // end if
+        } // end compute
+
+        private ObjectIntHashedDictionary<String> countChunk(int chunk)
+        {
+            long start = boundaries[chunk];
+            int length = (int)(boundaries[chunk + 1] - start);
+            MappedByteBuffer buffer;
+            try
+            {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            } // end try
+
+            ByteWordTable chunkWords = new ByteWordTable();
+            int[] chunkCounts = new int[64];    // chunkCounts[n] is for word number n
+            byte[] word = new byte[64];
+            int wordLength = 0;
+            for (int i = 0; i <= length; i++)
+            {
+                int wordByte = (i < length) ? toWordByte(buffer.get(i)) : -1;
+                if (wordByte >= 0)
+                {
+                    if (wordLength == word.length)
+                        word = Arrays.copyOf(word, 2 * word.length);
+                    word[wordLength] = (byte)wordByte;
+                    wordLength++;
+                }
+                else if (wordLength > 0)
+                {
+                    int wordNumber = chunkWords.add(word, wordLength);
+                    if (wordNumber == chunkCounts.length)
+                        chunkCounts = Arrays.copyOf(chunkCounts, 2 * chunkCounts.length);
+                    chunkCounts[wordNumber]++;
+                    wordLength = 0;
+                } // end if
+            } // end for
+
+            int numberOfWords = chunkWords.getSize();
+            ObjectIntHashedDictionary<String> counts =
+                new ObjectIntHashedDictionary<>(numberOfWords);
+            for (int i = 0; i < numberOfWords; i++)
+                counts.add(new String(chunkWords.getWord(i), StandardCharsets.US_ASCII),
+                           chunkCounts[i]);
+            return counts;
+        } // end countChunk
+    } // end CountTask
+} // end ParallelFrequencyCounter
@@ -0,0 +1,372 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+/**
+    A class of compact, nondecreasing lists of nonnegative integers, such as
+    the numbers of the lines on which a word occurs.
+    Each integer is stored as its difference from the one before it (the
+    first from 0), written in variable-length bytes of 7 bits each, so
+    nearby line numbers take one byte apiece instead of a node and an
+    Integer object.
+    The entries form blocks of BLOCK_SIZE. For each block after the first,
+    the list keeps the entry before the block and the block's byte
+    position, so that an iterator's advanceTo can skip whole blocks
+    without decoding them. The intersection of two lists uses it to skip
+    over the longer list.
+*/
+public class PostingsList
+{
+    private byte[] bytes;           // Encoded differences
+    private int numberOfBytes;      // Bytes in use
+    private int numberOfEntries;
+    private int lastEntry;          // Last integer added, or 0 if none
+    private int[] skipEntries;      // skipEntries[k] is the entry before block k + 1
+    private int[] skipPositions;    // skipPositions[k] is where block k + 1 begins
+    private int numberOfSkips;
+    private static final int DEFAULT_CAPACITY = 8; // Bytes
+    private static final int BLOCK_SIZE = 64;      // Entries per block
+
+    public PostingsList()
+    {
+        bytes = new byte[DEFAULT_CAPACITY];
+        numberOfBytes = 0;
+        numberOfEntries = 0;
+        lastEntry = 0;
+        skipEntries = new int[0];
+        skipPositions = new int[0];
+        numberOfSkips = 0;
+    } // end default constructor
+
+    /** Adds an integer to the end of this list.
+        @param newEntry  An integer at least as large as the last one added.
+        @throws IllegalArgumentException if newEntry is smaller than the
+                last entry or is negative. */
+    public void add(int newEntry)
+    {
+        if ((newEntry < lastEntry) || (newEntry < 0))
+            throw new IllegalArgumentException("Entries must be nonnegative and " +
+                                               "nondecreasing: " + newEntry +
+                                               " after " + lastEntry);
+        if ((numberOfEntries > 0) && (numberOfEntries % BLOCK_SIZE == 0))
+            addSkip(lastEntry, numberOfBytes);
+        writeVarint(newEntry - lastEntry);
+        lastEntry = newEntry;
+        numberOfEntries++;
+    } // end add
+
+    /** Adds the entries of another list, each increased by a given amount,
+        to the end of this list. Only the first of them is re-encoded; the
+        rest are copied as they are. The other list is not changed.
+        @param other   A list whose entries, after adding offset, are at
+                       least as large as the last entry of this list;
+                       not this list.
+        @param offset  The nonnegative amount to add to each entry of other. */
+    public void addAll(PostingsList other, int offset)
+    {
+        if (other == this)
+            throw new IllegalArgumentException("Cannot add a list to itself.");
+        if (other.numberOfEntries == 0)
+            return;
+        // Decode the first difference of other, which is its first entry
+        int position = 0;
+        int first = 0;
+        int shift = 0;
+        byte b;
+        do
+        {
+            b = other.bytes[position];
+            first = first | ((b & 0x7F) << shift);
+            shift = shift + 7;
+            position++;
+        } while (b < 0);
+        add(first + offset);
+        int restLength = other.numberOfBytes - position;
+        ensureCapacity(restLength);
+        System.arraycopy(other.bytes, position, bytes, numberOfBytes, restLength);
+
+        // Record the blocks that begin among the copied entries
+        int end = numberOfBytes + restLength;
+        position = numberOfBytes;
+        while (position < end)
+        {
+            if (numberOfEntries % BLOCK_SIZE == 0)
+                addSkip(lastEntry, position);
+            int delta = 0;
+            shift = 0;
+            do
+            {
+                b = bytes[position];
+                delta = delta | ((b & 0x7F) << shift);
+                shift = shift + 7;
+                position++;
+            } while (b < 0);
+            lastEntry = lastEntry + delta;
+            numberOfEntries++;
+        } // end while
+        numberOfBytes = end;
+    } // end addAll
+
+    /** Gets the number of integers in this list.
+        @return  The number of entries. */
+    public int getLength()
+    {
+        return numberOfEntries;
+    } // end getLength
+
+    /** Sees whether this list is empty.
+        @return  True if the list has no entries. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the last integer in this list.
+        @return  The last entry, or 0 if the list is empty. */
+    public int getLastEntry()
+    {
+        return lastEntry;
+    } // end getLastEntry
+
+    /** Gets the number of bytes that encode this list.
+        @return  The number of bytes in use. */
+    public int getEncodedSize()
+    {
+        return numberOfBytes;
+    } // end getEncodedSize
+
+    /** Shrinks this list's storage to the bytes in use. */
+    public void trimToSize()
+    {
+        bytes = Arrays.copyOf(bytes, numberOfBytes);
+        skipEntries = Arrays.copyOf(skipEntries, numberOfSkips);
+        skipPositions = Arrays.copyOf(skipPositions, numberOfSkips);
+    } // end trimToSize
+
+    /** Creates a list of the distinct integers that are in both of two lists,
+        such as the lines that contain both of two words. Each step skips
+        ahead in one list to the other's current entry, so a short list
+        is intersected with a long one without decoding all of the long one.
+        @param first   A list, or null for an empty list.
+        @param second  Another list, or null for an empty list.
+        @return  A new list of the common entries. */
+    public static PostingsList intersection(PostingsList first, PostingsList second)
+    {
+        PostingsList result = new PostingsList();
+        if ((first == null) || (second == null))
+            return result;
+        PostingsIterator firstIterator = first.getIterator();
+        PostingsIterator secondIterator = second.getIterator();
+        int firstEntry = firstIterator.advanceTo(0);
+        int secondEntry = secondIterator.advanceTo(0);
+        while ((firstEntry >= 0) && (secondEntry >= 0))
+        {
+            if (firstEntry < secondEntry)
+                firstEntry = firstIterator.advanceTo(secondEntry);
+            else if (firstEntry > secondEntry)
+                secondEntry = secondIterator.advanceTo(firstEntry);
+            else
+            {
+                result.add(firstEntry);
+                if (firstEntry == Integer.MAX_VALUE)
+                    break;
+                firstEntry = firstIterator.advanceTo(firstEntry + 1);
+                secondEntry = secondIterator.advanceTo(secondEntry + 1);
+            } // end if
+        } // end while
+        return result;
+    } // end intersection
+
+    /** Creates a list of the distinct integers that are in either of two
+        lists, such as the lines that contain either of two words.
+        @param first   A list, or null for an empty list.
+        @param second  Another list, or null for an empty list.
+        @return  A new list of the entries of both lists. */
+    public static PostingsList union(PostingsList first, PostingsList second)
+    {
+        if (first == null)
+            first = new PostingsList();
+        if (second == null)
+            second = new PostingsList();
+        PostingsList result = new PostingsList();
+        PostingsIterator firstIterator = first.getIterator();
+        PostingsIterator secondIterator = second.getIterator();
+        int firstEntry = firstIterator.hasNext() ? firstIterator.nextInt() : -1;
+        int secondEntry = secondIterator.hasNext() ? secondIterator.nextInt() : -1;
+        while ((firstEntry >= 0) || (secondEntry >= 0))
+        {
+            int smaller;
+            if ((secondEntry < 0) || ((firstEntry >= 0) && (firstEntry <= secondEntry)))
+                smaller = firstEntry;
+            else
+                smaller = secondEntry;
+            if (result.isEmpty() || (result.lastEntry != smaller))
+                result.add(smaller);
+            if (firstEntry == smaller)
+                firstEntry = firstIterator.hasNext() ? firstIterator.nextInt() : -1;
+            if (secondEntry == smaller)
+                secondEntry = secondIterator.hasNext() ? secondIterator.nextInt() : -1;
+        } // end while
+        return result;
+    } // end union
+
+    /** Retrieves all integers in this list.
+        @return  A new array of the entries in order. */
+    public int[] toArray()
+    {
+        int[] result = new int[numberOfEntries];
+        PrimitiveIterator.OfInt iterator = getIterator();
+        for (int index = 0; index < numberOfEntries; index++)
+            result[index] = iterator.nextInt();
+        return result;
+    } // end toArray
+
+    /** Creates an iterator that decodes the integers in this list in order
+        without creating an object for each one.
+        @return  An iterator of the entries. */
+    public PostingsIterator getIterator()
+    {
+        return new PostingsIterator();
+    } // end getIterator
+
+    public String toString()
+    {
+        StringBuilder result = new StringBuilder();
+        PrimitiveIterator.OfInt iterator = getIterator();
+        while (iterator.hasNext())
+        {
+            result.append(iterator.nextInt());
+            if (iterator.hasNext())
+                result.append(' ');
+        } // end while
+        return result.toString();
+    } // end toString
+
+    // Appends value in 7-bit groups, lowest first; every byte but the
+    // last has its high bit set.
+    private void writeVarint(int value)
+    {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0)
+        {
+            bytes[numberOfBytes] = (byte)((value & 0x7F) | 0x80);
+            numberOfBytes++;
+            value = value >>> 7;
+        } // end while
+        bytes[numberOfBytes] = (byte)value;
+        numberOfBytes++;
+    } // end writeVarint
+
+    // Records that the block beginning at byte position follows entry.
+    private void addSkip(int entry, int position)
+    {
+        if (numberOfSkips == skipEntries.length)
+        {
+            int newCapacity = Math.max(4, 2 * skipEntries.length);
+            skipEntries = Arrays.copyOf(skipEntries, newCapacity);
+            skipPositions = Arrays.copyOf(skipPositions, newCapacity);
+        } // end if
+        skipEntries[numberOfSkips] = entry;
+        skipPositions[numberOfSkips] = position;
+        numberOfSkips++;
+    } // end addSkip
+
+    // Doubles the byte array, as needed, until it has room for count
+    // more bytes.
+    private void ensureCapacity(int count)
+    {
+        if (numberOfBytes + count > bytes.length)
+        {
+            int newCapacity = Math.max(2 * bytes.length, numberOfBytes + count);
+            bytes = Arrays.copyOf(bytes, newCapacity);
+        } // end if
+    } // end ensureCapacity
+
+    /** An iterator of the entries of a PostingsList that can also skip
+        ahead to a given entry. */
+    public class PostingsIterator implements PrimitiveIterator.OfInt
+    {
+        private int position;       // Index of next byte to decode
+        private int numberReturned; // Entries returned so far
+        private int current;        // Entry returned last, or 0
+
+        private PostingsIterator()
+        {
+            position = 0;
+            numberReturned = 0;
+            current = 0;
+        } // end default constructor
+
+        /** Detects whether this iterator has completed its traversal.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberReturned < numberOfEntries;
+        } // end hasNext
+
+        /** Retrieves the next integer without boxing it.
+            @return  The next entry in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public int nextInt()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do
+            {
+                b = bytes[position];
+                delta = delta | ((b & 0x7F) << shift);
+                shift = shift + 7;
+                position++;
+            } while (b < 0);
+            current = current + delta;
+            numberReturned++;
+            return current;
+        } // end nextInt
+
+        /** Finds the smallest entry that is at least target, among the entry
+            that nextInt or advanceTo returned last and the entries after it.
+            Skips whole blocks of smaller entries without decoding them.
+            @param target  The smallest entry wanted.
+            @return  That entry, which becomes the last one returned, or -1
+                     if there is none. */
+        public int advanceTo(int target)
+        {
+            if ((numberReturned > 0) && (current >= target))
+                return current;
+
+            // Find the last block that begins after the entries returned
+            // so far and follows an entry less than target
+            int low = numberReturned / BLOCK_SIZE;
+            int high = numberOfSkips - 1;
+            int block = -1;
+            while (low <= high)
+            {
+                int mid = low + (high - low) / 2;
+                if (skipEntries[mid] < target)
+                {
+                    block = mid;
+                    low = mid + 1;
+                }
+                else
+                    high = mid - 1;
+                // end if
+            } // end while
+            if (block >= 0)
+            {   // Jump to the start of block + 1
+                current = skipEntries[block];
+                position = skipPositions[block];
+                numberReturned = (block + 1) * BLOCK_SIZE;
+            } // end if
+
+            while (hasNext())
+            {
+                int entry = nextInt();
+                if (entry >= target)
+                    return entry;
+            } // end while
+            return -1;
+        } // end advanceTo
+    } // end PostingsIterator
+} // end PostingsList
@@ -0,0 +1,505 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+/**
+    A class that implements the ADT dictionary by using a radix tree
+    (PATRICIA trie) of string search keys.
+    Each edge of the tree is labeled by a nonempty string, and the labels
+    along the path from the root to a node spell that node's key. A node
+    that has one child also has a value, so chains of single children are
+    merged into one edge.
+    Labels are not copied: a label is a range of positions in one of the
+    search keys that pass through its node, and splitting or merging edges
+    changes only the range. A node's children are kept in arrays sorted by
+    the first character of their labels.
+    Keys are iterated in sorted order, and all keys having a given prefix
+    are found by following the prefix only, so a prefix search takes time
+    proportional to the prefix's length plus the number of keys returned.
+    The dictionary has distinct search keys.
+*/
+public class RadixTreeDictionary<V> implements DictionaryInterface<String, V>
+{
+    private Node<V> root;               // Label is empty
+    private int numberOfEntries;
+
+    public RadixTreeDictionary()
+    {
+        root = new Node<>("", 0, 0);
+        numberOfEntries = 0;
+    } // end default constructor
+
+    public V add(String key, V value)
+    {
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException("Cannot add null to a dictionary.");
+
+        Node<V> currentNode = root;
+        int position = 0;                   // Characters of key matched so far
+        while (position < key.length())
+        {
+            int childIndex = currentNode.getChildIndex(key.charAt(position));
+            if (childIndex < 0)
+            {   // Add a leaf whose label is the rest of key
+                Node<V> leaf = new Node<>(key, position, key.length());
+                leaf.value = value;
+                currentNode.insertChild(-childIndex - 1, leaf);
+                numberOfEntries++;
+                return null;
+            } // end if
+
+            Node<V> child = currentNode.children[childIndex];
+            int matched = child.matchLabel(key, position);
+            if (matched < child.getLabelLength())
+            {   // Split child's edge after the matched characters
+                Node<V> middle = new Node<>(child.labelSource, child.labelStart,
+                                            child.labelStart + matched);
+                child.labelStart = child.labelStart + matched;
+                middle.insertChild(0, child);
+                currentNode.children[childIndex] = middle;
+                child = middle;
+            } // end if
+            currentNode = child;
+            position = position + matched;
+        } // end while
+
+        V result = currentNode.value;
+        currentNode.value = value;
+        if (result == null)
+            numberOfEntries++;
+        return result;
+    } // end add
+
+    public V remove(String key)
+    {
+        if (key == null)
+            return null;
+
+        // Find the node of key and the two nodes above it
+        Node<V> grandparent = null;
+        Node<V> parent = null;
+        Node<V> currentNode = root;
+        int position = 0;
+        while ((currentNode != null) && (position < key.length()))
+        {
+            int childIndex = currentNode.getChildIndex(key.charAt(position));
+            Node<V> child = null;
+            if (childIndex >= 0)
+            {
+                child = currentNode.children[childIndex];
+                if (child.matchLabel(key, position) == child.getLabelLength())
+                    position = position + child.getLabelLength();
+                else
+                    child = null;
+            } // end if
+            grandparent = parent;
+            parent = currentNode;
+            currentNode = child;
+        } // end while
+        if ((currentNode == null) || (currentNode.value == null))
+            return null;
+
+        V result = currentNode.value;
+        currentNode.value = null;
+        numberOfEntries--;
+
+        if (currentNode != root)
+        {
+            if (currentNode.numberOfChildren == 0)
+            {
+                parent.removeChild(parent.getChildIndex(currentNode.getFirstChar()));
+                if ((parent != root) && (parent.value == null) &&
+                    (parent.numberOfChildren == 1))
+                    replaceByOnlyChild(grandparent, parent);
+            }
+            else if (currentNode.numberOfChildren == 1)
+                replaceByOnlyChild(parent, currentNode);
+            // end if
+        } // end if
+        return result;
+    } // end remove
+
+    public V getValue(String key)
+    {
+        if (key == null)
+            return null;
+        Node<V> node = getNode(key);
+        if (node == null)
+            return null;
+        else
+            return node.value;
+    } // end getValue
+
+    public boolean contains(String key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    public Iterator<String> getKeyIterator()
+    {
+        return new KeyIterator(root, "");
+    } // end getKeyIterator
+
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator(root, "");
+    } // end getValueIterator
+
+    /** Creates an iterator that traverses, in sorted order, the search keys
+        in this dictionary that begin with a given prefix.
+        @param prefix  A string.
+        @return  An iterator of the keys that begin with prefix. */
+    public Iterator<String> prefixIterator(String prefix)
+    {
+        PrefixLocus<V> locus = findPrefix(prefix);
+        if (locus == null)
+            return new KeyIterator(null, prefix);
+        else
+            return new KeyIterator(locus.node, locus.path);
+    } // end prefixIterator
+
+    /** Creates an iterator that traverses the values of the search keys that
+        begin with a given prefix, in the same order as prefixIterator.
+        @param prefix  A string.
+        @return  An iterator of the values whose keys begin with prefix. */
+    public Iterator<V> prefixValueIterator(String prefix)
+    {
+        PrefixLocus<V> locus = findPrefix(prefix);
+        if (locus == null)
+            return new ValueIterator(null, prefix);
+        else
+            return new ValueIterator(locus.node, locus.path);
+    } // end prefixValueIterator
+
+    /** Finds the first search keys in sorted order that begin with a given
+        prefix, such as the suggestions for a partly typed name.
+        @param prefix  A string.
+        @param n       The largest number of keys wanted.
+        @return  An array of at most n keys that begin with prefix, in
+                 sorted order. */
+    public String[] autocomplete(String prefix, int n)
+    {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of keys cannot be negative: " + n);
+        String[] result = new String[Math.min(n, numberOfEntries)];
+        int count = 0;
+        Iterator<String> keyIterator = prefixIterator(prefix);
+        while ((count < result.length) && keyIterator.hasNext())
+        {
+            result[count] = keyIterator.next();
+            count++;
+        } // end while
+        return Arrays.copyOf(result, count);
+    } // end autocomplete
+
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    public void clear()
+    {
+        root = new Node<>("", 0, 0);
+        numberOfEntries = 0;
+    } // end clear
+
+    // Returns the node whose path spells key, or null if there is none.
+    private Node<V> getNode(String key)
+    {
+        Node<V> currentNode = root;
+        int position = 0;
+        while (position < key.length())
+        {
+            int childIndex = currentNode.getChildIndex(key.charAt(position));
+            if (childIndex < 0)
+                return null;
+            currentNode = currentNode.children[childIndex];
+            int labelLength = currentNode.getLabelLength();
+            if (currentNode.matchLabel(key, position) < labelLength)
+                return null;
+            position = position + labelLength;
+        } // end while
+        return currentNode;
+    } // end getNode
+
+    // Returns the highest node whose path begins with prefix, together with
+    // that path, or null if no key begins with prefix.
+    private PrefixLocus<V> findPrefix(String prefix)
+    {
+        if (prefix == null)
+            throw new IllegalArgumentException("Prefix cannot be null.");
+        Node<V> currentNode = root;
+        int position = 0;
+        while (position < prefix.length())
+        {
+            int childIndex = currentNode.getChildIndex(prefix.charAt(position));
+            if (childIndex < 0)
+                return null;
+            currentNode = currentNode.children[childIndex];
+            int matched = currentNode.matchLabel(prefix, position);
+            if (position + matched == prefix.length())
+            {   // prefix ends within or at the end of the edge to currentNode
+                String path = prefix + currentNode.labelSource.substring(
+                                  currentNode.labelStart + matched, currentNode.labelEnd);
+                return new PrefixLocus<>(currentNode, path);
+            } // end if
+            if (matched < currentNode.getLabelLength())
+                return null;
+            position = position + matched;
+        } // end while
+        return new PrefixLocus<>(currentNode, prefix);
+    } // end findPrefix
+
+    // Replaces node, which has no value and one child, by that child under
+    // parent. The child's label grows to include node's label; since the
+    // child's label is a range of a key that passes through node, the
+    // range only has to begin where node's label begins.
+    private void replaceByOnlyChild(Node<V> parent, Node<V> node)
+    {
+        Node<V> child = node.children[0];
+        child.labelStart = child.labelStart - node.getLabelLength();
+        parent.children[parent.getChildIndex(node.getFirstChar())] = child;
+    } // end replaceByOnlyChild
+
+    private static class Node<T>
+    {
+        private String labelSource; // A key whose characters labelStart
+        private int labelStart;     // through labelEnd - 1 are the label, and
+        private int labelEnd;       // whose first labelStart characters are
+                                    // the parent's path
+        private T value;            // null if the path is not a key
+        private char[] childChars;  // First characters of the children's labels
+        private Node<T>[] children; // Sorted by those characters
+        private int numberOfChildren;
+        private static final char[] NO_CHARS = new char[0];
+        private static final Node<?>[] NO_NODES = new Node<?>[0];
+
+        private Node(String labelSource, int labelStart, int labelEnd)
+        {
+            this.labelSource = labelSource;
+            this.labelStart = labelStart;
+            this.labelEnd = labelEnd;
+            value = null;
+            childChars = NO_CHARS;
+            children = noNodes();
+            numberOfChildren = 0;
+        } // end constructor
+
+        private int getLabelLength()
+        {
+            return labelEnd - labelStart;
+        } // end getLabelLength
+
+        private char getFirstChar()
+        {
+            return labelSource.charAt(labelStart);
+        } // end getFirstChar
+
+        // Returns the number of characters at the beginning of this node's
+        // label that match the characters of key beginning at position.
+        private int matchLabel(String key, int position)
+        {
+            int length = Math.min(getLabelLength(), key.length() - position);
+            int matched = 0;
+            while ((matched < length) &&
+                   (labelSource.charAt(labelStart + matched) == key.charAt(position + matched)))
+                matched++;
+            return matched;
+        } // end matchLabel
+
+        // Returns the index of the child whose label begins with ch, or
+        // -(insertion point) - 1 if there is none.
+        private int getChildIndex(char ch)
+        {
+            return Arrays.binarySearch(childChars, 0, numberOfChildren, ch);
+        } // end getChildIndex
+
+        private void insertChild(int index, Node<T> child)
+        {
+            if (numberOfChildren == children.length)
+            {
+                int newLength = Math.max(2, 2 * children.length);
+                childChars = Arrays.copyOf(childChars, newLength);
+                children = Arrays.copyOf(children, newLength);
+            } // end if
+            System.arraycopy(childChars, index, childChars, index + 1,
+                             numberOfChildren - index);
+            System.arraycopy(children, index, children, index + 1,
+                             numberOfChildren - index);
+            childChars[index] = child.getFirstChar();
+            children[index] = child;
+            numberOfChildren++;
+        } // end insertChild
+
+        private void removeChild(int index)
+        {
+            System.arraycopy(childChars, index + 1, childChars, index,
+                             numberOfChildren - index - 1);
+            System.arraycopy(children, index + 1, children, index,
+                             numberOfChildren - index - 1);
+            numberOfChildren--;
+            children[numberOfChildren] = null;
+        } // end removeChild
+
+        // Returns the empty array that all leaves share. The cast is safe
+        // because the array has no elements to read or write.
+        @SuppressWarnings("unchecked")
+        private static <S> Node<S>[] noNodes()
+        {
+            return (Node<S>[])NO_NODES;
+        } // end noNodes
+
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        private static <S> Node<S>[] newNodeArray(int length)
+        {
+            return (Node<S>[])new Node[length];
+        } // end newNodeArray
+    } // end Node
+
+    // A node and its path from the root.
+    private static class PrefixLocus<T>
+    {
+        private final Node<T> node;
+        private final String path;
+
+        private PrefixLocus(Node<T> node, String path)
+        {
+            this.node = node;
+            this.path = path;
+        } // end constructor
+    } // end PrefixLocus
+
+    // Traverses the subtree of a given node in preorder, which is sorted
+    // order of the keys, stopping at nodes that have values. The path of
+    // the current node is kept in a StringBuilder; the traversal advances
+    // only when hasNext is called, so that the path is still the key of
+    // the node that nextNode returned.
+    private abstract class TrieIterator
+    {
+        private Node<V>[] nodeStack;        // Nodes on the path from the start
+        private int[] nextChildStack;       // Index of each one's next child
+        private int[] pathLengthStack;      // Path length at each one
+        private int stackSize;
+        private StringBuilder path;
+        private boolean nodeVisited;        // True if the top node was checked
+        private Node<V> nextNode;           // Node to return next, or null
+        private boolean advanced;           // True if nextNode is up to date
+
+        protected TrieIterator(Node<V> start, String startPath)
+        {
+            nodeStack = Node.newNodeArray(8);
+            nextChildStack = new int[8];
+            pathLengthStack = new int[8];
+            stackSize = 0;
+            path = new StringBuilder(startPath);
+            if (start != null)
+                push(start, startPath.length());
+            nodeVisited = false;
+            nextNode = null;
+            advanced = false;
+        } // end constructor
+
+        public boolean hasNext()
+        {
+            if (!advanced)
+            {
+                advance();
+                advanced = true;
+            } // end if
+            return nextNode != null;
+        } // end hasNext
+
+        // Returns the next node that has a value.
+        protected Node<V> nextNode()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            advanced = false;
+            return nextNode;
+        } // end nextNode
+
+        // Returns the key of the node that nextNode returned last.
+        protected String getPath()
+        {
+            return path.toString();
+        } // end getPath
+
+        // Sets nextNode to the next node having a value, or null.
+        private void advance()
+        {
+            nextNode = null;
+            while (stackSize > 0)
+            {
+                int top = stackSize - 1;
+                Node<V> node = nodeStack[top];
+                path.setLength(pathLengthStack[top]);
+                if (!nodeVisited)
+                {
+                    nodeVisited = true;
+                    if (node.value != null)
+                    {
+                        nextNode = node;
+                        return;
+                    } // end if
+                } // end if
+                if (nextChildStack[top] < node.numberOfChildren)
+                {
+                    Node<V> child = node.children[nextChildStack[top]];
+                    nextChildStack[top]++;
+                    path.append(child.labelSource, child.labelStart, child.labelEnd);
+                    push(child, path.length());
+                    nodeVisited = false;
+                }
+                else
+                    stackSize--;
+                // end if
+            } // end while
+        } // end advance
+
+        private void push(Node<V> node, int pathLength)
+        {
+            if (stackSize == nodeStack.length)
+            {
+                nodeStack = Arrays.copyOf(nodeStack, 2 * stackSize);
+                nextChildStack = Arrays.copyOf(nextChildStack, 2 * stackSize);
+                pathLengthStack = Arrays.copyOf(pathLengthStack, 2 * stackSize);
+            } // end if
+            nodeStack[stackSize] = node;
+            nextChildStack[stackSize] = 0;
+            pathLengthStack[stackSize] = pathLength;
+            stackSize++;
+        } // end push
+    } // end TrieIterator
+
+    private class KeyIterator extends TrieIterator implements Iterator<String>
+    {
+        private KeyIterator(Node<V> start, String startPath)
+        {
+            super(start, startPath);
+        } // end constructor
+
+        public String next()
+        {
+            nextNode();
+            return getPath();
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends TrieIterator implements Iterator<V>
+    {
+        private ValueIterator(Node<V> start, String startPath)
+        {
+            super(start, startPath);
+        } // end constructor
+
+        public V next()
+        {
+            return nextNode().value;
+        } // end next
+    } // end ValueIterator
+} // end RadixTreeDictionary
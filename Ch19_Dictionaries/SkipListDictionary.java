@@ -0,0 +1,363 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+/**
+    A class that implements a dictionary by using a skip list: a sorted
+    chain of nodes in which each node also belongs to a random number of
+    higher-level chains that skip over ever more nodes. A search starts in
+    the sparsest chain and drops a level each time it would pass its key,
+    so add, remove and getValue take O(log n) time on average, instead of
+    the O(n) of a single sorted chain.
+    The iterators traverse the entries in sorted order of their keys.
+    The dictionary is sorted and has distinct search keys.
+*/
+public class SkipListDictionary<K extends Comparable<? super K>, V>
+       implements DictionaryInterface<K, V>
+{
+    private final Node<K, V> head;  // Precedes all nodes; has no key
+    private int level;              // Number of chains in use, at least 1
+    private int numberOfEntries;
+    private final Random random;
+    private static final int MAX_LEVEL = 32;
+
+    public SkipListDictionary()
+    {
+        head = new Node<>(null, null, MAX_LEVEL);
+        random = new Random();
+        initializeDataFields();
+    } // end default constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+        exists in the dictionary, replaces the corresponding value.
+        @param key    An object search key of the new entry.
+        @param value  An object associated with the search key.
+        @return  Either null if the new entry was added to the dictionary
+                 or the value that was associated with key if that value
+                 was replaced. */
+    public V add(K key, V value)
+    {
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        Node<K, V>[] nodesBefore = getNodesBefore(key);
+        Node<K, V> currentNode = nodesBefore[0].next[0];
+        if ((currentNode != null) && key.equals(currentNode.key))
+        {   // Key found; return and replace entry's value
+            V result = currentNode.value;
+            currentNode.value = value;
+            return result;
+        } // end if
+
+        // Key not found; link a new node into each of its chains
+        int newLevel = randomLevel();
+        if (newLevel > level)
+        {
+            for (int index = level; index < newLevel; index++)
+                nodesBefore[index] = head;
+            level = newLevel;
+        } // end if
+        Node<K, V> newNode = new Node<>(key, value, newLevel);
+        for (int index = 0; index < newLevel; index++)
+        {
+            newNode.next[index] = nodesBefore[index].next[index];
+            nodesBefore[index].next[index] = newNode;
+        } // end for
+        numberOfEntries++;
+        return null;
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        if (key == null)
+            throw new IllegalArgumentException();
+        Node<K, V>[] nodesBefore = getNodesBefore(key);
+        Node<K, V> currentNode = nodesBefore[0].next[0];
+        if ((currentNode == null) || !key.equals(currentNode.key))
+            return null;
+
+        // Key found; unlink its node from each of its chains
+        for (int index = 0; index < currentNode.next.length; index++)
+            nodesBefore[index].next[index] = currentNode.next[index];
+        while ((level > 1) && (head.next[level - 1] == null))
+            level--;
+        numberOfEntries--;
+        return currentNode.value;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        Node<K, V> currentNode = getNodeBefore(key).next[0];
+        if ((currentNode != null) && key.equals(currentNode.key))
+            return currentNode.value;
+        else
+            return null;
+    } // end getValue
+
+    /** Retrieves from this dictionary the value associated with a search
+        key that is given in two parts, such as a first and a last name,
+        without creating the key. The comparator must order the parts as
+        compareTo orders the keys, and must find them equal to a key only
+        if that key equals the search key.
+        @param first       The first part of the search key.
+        @param second      The second part of the search key.
+        @param comparator  An object that compares the two parts with keys.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public <A, B> V getValue(A first, B second,
+                             SplitKeyComparator<? super A, ? super B, ? super K> comparator)
+    {
+        Node<K, V> nodeBefore = head;
+        for (int index = level - 1; index >= 0; index--)
+        {
+            Node<K, V> currentNode = nodeBefore.next[index];
+            while ((currentNode != null) &&
+                   (comparator.compare(first, second, currentNode.key) > 0))
+            {
+                nodeBefore = currentNode;
+                currentNode = currentNode.next[index];
+            } // end while
+        } // end for
+
+        Node<K, V> currentNode = nodeBefore.next[0];
+        if ((currentNode != null) && (comparator.compare(first, second, currentNode.key) == 0))
+            return currentNode.value;
+        else
+            return null;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    /** Creates a dictionary of the entries of this dictionary whose search
+        keys are at least from and less than to. The new dictionary does
+        not share nodes with this one.
+        @param from  The smallest search key to include.
+        @param to    The search key at which to stop; it is not included.
+        @return  A new dictionary containing the entries in the range. */
+    public SkipListDictionary<K, V> subMap(K from, K to)
+    {
+        if ((from == null) || (to == null))
+            throw new IllegalArgumentException();
+        SkipListDictionary<K, V> result = new SkipListDictionary<>();
+        // The entries arrive in sorted order, so each new node goes after
+        // the last node of each of its chains
+        Node<K, V>[] lastNodes = newNodeArray(MAX_LEVEL);
+        for (int index = 0; index < MAX_LEVEL; index++)
+            lastNodes[index] = result.head;
+        Node<K, V> currentNode = getNodeBefore(from).next[0];
+        while ((currentNode != null) && (currentNode.key.compareTo(to) < 0))
+        {
+            int newLevel = result.randomLevel();
+            Node<K, V> newNode = new Node<>(currentNode.key, currentNode.value, newLevel);
+            for (int index = 0; index < newLevel; index++)
+            {
+                lastNodes[index].next[index] = newNode;
+                lastNodes[index] = newNode;
+            } // end for
+            result.level = Math.max(result.level, newLevel);
+            result.numberOfEntries++;
+            currentNode = currentNode.next[0];
+        } // end while
+        return result;
+    } // end subMap
+
+    /** Creates an iterator that traverses all search keys in this dictionary
+        in sorted order.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary
+        in sorted order of their keys.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. */
+    public void clear()
+    {
+        initializeDataFields();
+    } // end clear
+
+    // Initializes the class's data fields to indicate an empty dictionary.
+    private void initializeDataFields()
+    {
+        for (int index = 0; index < MAX_LEVEL; index++)
+            head.next[index] = null;
+        level = 1;
+        numberOfEntries = 0;
+    } // end initializeDataFields
+
+    // Returns the number of chains for a new node: 1 with probability 1/2,
+    // 2 with probability 1/4, and so on, up to MAX_LEVEL.
+    private int randomLevel()
+    {
+        return Integer.numberOfTrailingZeros(random.nextInt() | (1 << (MAX_LEVEL - 1))) + 1;
+    } // end randomLevel
+
+    // Returns the last node whose key is less than key in the bottom
+    // chain, or head if there is none.
+    private Node<K, V> getNodeBefore(K key)
+    {
+        Node<K, V> nodeBefore = head;
+        for (int index = level - 1; index >= 0; index--)
+        {
+            Node<K, V> currentNode = nodeBefore.next[index];
+            while ((currentNode != null) && (key.compareTo(currentNode.key) > 0))
+            {
+                nodeBefore = currentNode;
+                currentNode = currentNode.next[index];
+            } // end while
+        } // end for
+        return nodeBefore;
+    } // end getNodeBefore
+
+    // Returns an array whose element at index i is the last node whose key
+    // is less than key in chain i, or head if there is none. Elements at
+    // indices level and higher are null.
+    private Node<K, V>[] getNodesBefore(K key)
+    {
+        Node<K, V>[] nodesBefore = newNodeArray(MAX_LEVEL);
+        Node<K, V> nodeBefore = head;
+        for (int index = level - 1; index >= 0; index--)
+        {
+            Node<K, V> currentNode = nodeBefore.next[index];
+            while ((currentNode != null) && (key.compareTo(currentNode.key) > 0))
+            {
+                nodeBefore = currentNode;
+                currentNode = currentNode.next[index];
+            } // end while
+            nodesBefore[index] = nodeBefore;
+        } // end for
+        return nodesBefore;
+    } // end getNodesBefore
+
+    private abstract class ChainIterator
+    {
+        private Node<K, V> nextNode; // Node containing next entry in iteration
+
+        private ChainIterator()
+        {
+            nextNode = head.next[0];
+        } // end default constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        } // end hasNext
+
+        // Returns the next node and advances past it.
+        Node<K, V> advance()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException("Illegal call to next(); " +
+                                                 "iterator is after end of list.");
+            Node<K, V> result = nextNode;
+            nextNode = nextNode.next[0];
+            return result;
+        } // end advance
+
+        /** Throws UnsupportedOperationException, since the iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() is not supported "
+                                                    + "by this iterator");
+        } // end remove
+    } // end ChainIterator
+
+    private class KeyIterator extends ChainIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in sorted order.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return advance().key;
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends ChainIterator implements Iterator<V>
+    {
+        /** Retrieves the value of the next search key in sorted order.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            return advance().value;
+        } // end next
+    } // end ValueIterator
+
+    // Returns a new array of nodes whose elements are null.
+    private static <S, T> Node<S, T>[] newNodeArray(int length)
+    {
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        Node<S, T>[] result = (Node<S, T>[])new Node[length];
+        return result;
+    } // end newNodeArray
+
+    /** An interface for comparing a search key that is given in two parts
+        with the keys of a dictionary. */
+    public interface SplitKeyComparator<A, B, K>
+    {
+        /** Compares a search key, given in two parts, with a key.
+            @param first   The first part of the search key.
+            @param second  The second part of the search key.
+            @param key     A key of the dictionary.
+            @return  A negative integer, zero or a positive integer as the
+                     search key is less than, equal to or greater than key. */
+        public int compare(A first, B second, K key);
+    } // end SplitKeyComparator
+
+    private static class Node<S, T>
+    {
+        private final S key;            // Search key in the dictionary
+        private T value;                // Associated value
+        private final Node<S, T>[] next; // next[i] is the next node in chain i
+
+        private Node(S keyData, T valueData, int nodeLevel)
+        {
+            key = keyData;
+            value = valueData;
+            next = newNodeArray(nodeLevel);
+        } // end constructor
+    } // end Node
+} // end SkipListDictionary
@@ -0,0 +1,86 @@
+/** 
+    Class for sorting an array of Comparable objects from smallest to largest.
+*/
+public class SortArray
+{
+    /** Sorts the first n objects in an array into ascending order recursively.
+        @param a An array of Comparable objects.
+        @param first An integer > 0 containing the beginning index. 
+        @param last An integer > first containing the last index. */
+    public static <T extends Comparable<? super T>> void mergeSort(T[] a, int first, int last)
+    {
+        // The cas is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        T[] tempArray = (T[]) new Comparable<?>[a.length];  // Unchecked cast
+        mergeSort(a, tempArray, first, last);
+    } // end mergeSort 
+    
+    // Sorts the array entries a[first...last] recursively.
+    private static <T extends Comparable<? super T>> void mergeSort(T[] a, T[] tempArray, int first, int last)
+    {       
+        int mid;
+        if (first < last)
+        {
+            mid = first + (last - first) / 2;
+            mergeSort(a, tempArray, first, mid);
+            mergeSort(a, tempArray, mid + 1, last);
+            if (a[mid].compareTo(a[mid + 1]) > 0)
+                merge(a, tempArray, first, mid, last);
+        } // end if
+    } // end mergeSort  
+    
+    // Merges the adjacent subarrays a[first...mid] and a[mid + 1...last].
+    private static <T extends Comparable<? super T>> void merge(T[] a, T[] tempArray, int first, int mid, int last)
+    {
+        int beginHalf1 = first;
+        int endHalf1 = mid;
+        int beginHalf2 = mid + 1;
+        int endHalf2 = last;
+        
+        // While both subarrays are not empty, compare an entry in one subarray with
+        // an entry in teh other; then copy the smaller item into the temporary array
+        int index = first; // Next available location in tempArray
+        while ((beginHalf1 <= endHalf1) && (beginHalf2 <= endHalf2))
+        {
+            if (a[beginHalf1].compareTo(a[beginHalf2]) <= 0)
+            {
+                tempArray[index] = a[beginHalf1];
+                beginHalf1++;
+            }
+            else
+            {
+                tempArray[index] = a[beginHalf2];
+                beginHalf2++;
+            } // end if
+            index++;
+        } // end while
+        // Assertion: One subarray has been completely copied to tempArray.
+        
+        // Copy remaining entries from other subarray to tempArray
+        if (beginHalf1 > endHalf1) // remaining array is latter half
+        {
+            for (int i = beginHalf2; i <= endHalf2; i++)
+            {
+                tempArray[index] = a[i];
+                index++;
+            } // end for
+        }
+        else
+        {
+            if (beginHalf2 > endHalf2) // remaining array is first half
+            {
+                for (int i = beginHalf1; i <= endHalf1; i++)
+                {
+                    tempArray[index] = a[i];
+                    index++;
+                } // end for
+            } 
+        } // end if
+        
+        // Copy entries from tempArray to array a
+        for (int i = first; i <= last; i++)
+        {
+            a[i] = tempArray[i];
+        }        
+    } // end merge
+} // end SortArray
@@ -1,17 +1,21 @@
 /** A class that implements a sorted version of the ADT dictionary having distinct 
     search keys.
  */
+import java.util.Arrays;
 import java.util.Iterator; 
 import java.util.Scanner;
 
 public class TelephoneDirectory 
 {
     private DictionaryInterface<Name, String> phoneBook;
+    private RadixTreeDictionary<Name> nameIndex;    // Lowercase full name -> Name
     
     public TelephoneDirectory() 
     {
         //phoneBook = new SortedArrayDictionary<>(); 
-        phoneBook = new SortedLinkedDictionary<>(); 
+        //phoneBook = new SortedLinkedDictionary<>(); 
+        phoneBook = new SkipListDictionary<>();
+        nameIndex = new RadixTreeDictionary<>();
     } // end default constructor
     
     /** Reads a text file of names and telephone numbers.
@@ -27,6 +31,7 @@ public class TelephoneDirectory
             String phoneNumber = data.next();
             Name fullName = new Name(firstName, lastName);
             phoneBook.add(fullName, phoneNumber);
+            nameIndex.add(getIndexKey(fullName), fullName);
        } // end while
        data.close();
     } // end readFile
@@ -36,11 +41,46 @@ public class TelephoneDirectory
     {
         return phoneBook.getValue(personName);
     } // end getPhoneNumber
+
+    /** Gets the phone number of a person given by first and last names.
+        A skip-list phone book compares the names with its keys directly,
+        so no Name is created; another phone book is searched for a new
+        Name. */
     public String getPhoneNumber(String firstName, String lastName) 
     {
-        Name fullName = new Name(firstName, lastName);
-        return phoneBook.getValue(fullName); 
+        if (phoneBook instanceof SkipListDictionary)
+        {
+            SkipListDictionary<Name, String> skipList =
+                (SkipListDictionary<Name, String>)phoneBook;
+            return skipList.getValue(firstName, lastName, Name::compare);
+        }
+        else
+            return phoneBook.getValue(new Name(firstName, lastName));
+        // end if
     } // end getPhoneNumber
+    
+    /** Finds the people whose full names begin with given characters, such
+        as the suggestions for a name that is being typed. Letter case is
+        ignored.
+        @param prefix  The beginning of a first name, or a first name, a
+                       space, and the beginning of a last name.
+        @param n       The largest number of names wanted.
+        @return  An array of at most n names, in alphabetical order of
+                 first name and then last name. */
+    public Name[] getNamesStartingWith(String prefix, int n)
+    {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of names cannot be negative: " + n);
+        Name[] result = new Name[Math.min(n, nameIndex.getSize())];
+        int count = 0;
+        Iterator<Name> nameIterator = nameIndex.prefixValueIterator(prefix.toLowerCase());
+        while ((count < result.length) && nameIterator.hasNext())
+        {
+            result[count] = nameIterator.next();
+            count++;
+        } // end while
+        return Arrays.copyOf(result, count);
+    } // end getNamesStartingWith
         
     /** Changes a person's telephone number
         @param personName A Name of the new entry.
@@ -50,6 +90,7 @@ public class TelephoneDirectory
                 to it. */
     public String changePhoneNumber(Name personName, String newPhoneNumber)
     {
+        nameIndex.add(getIndexKey(personName), personName);
         return phoneBook.add(personName, newPhoneNumber);
     } // end replace
     
@@ -59,6 +100,7 @@ public class TelephoneDirectory
                 null if the person is not in the directly.  */
     public String remove(Name personName)
     {
+        nameIndex.remove(getIndexKey(personName));
         return phoneBook.remove(personName);
     } // end add
 
@@ -92,4 +134,10 @@ public class TelephoneDirectory
                     name + ": " + found);                
         }
     } // end display
+    
+    // Returns the key of a name in nameIndex.
+    private static String getIndexKey(Name personName)
+    {
+        return personName.toString().toLowerCase();
+    } // end getIndexKey
 } // end TelephoneDirectory
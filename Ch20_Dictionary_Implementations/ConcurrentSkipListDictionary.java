@@ -0,0 +1,429 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+/**
+    A class that implements a sorted dictionary by using a skip list that
+    many threads can share without locks.
+    Every link is an AtomicMarkableReference and is changed only by
+    compareAndSet, so a thread that is delayed never blocks the others.
+    An entry is removed in three steps: its value is set to null, which is
+    the moment it leaves the dictionary; its links are marked, from the
+    top chain down, so that no node can be linked after it; and any
+    thread whose search passes a marked node unlinks it.
+    add, remove and getValue take O(log n) time on average. getValue and
+    contains never change the list.
+    The iterators traverse the entries in sorted order of their keys and
+    are weakly consistent: they never throw an exception because of
+    concurrent changes, and they reflect some, all, or none of the
+    changes made after they were created. getSize is exact only when no
+    other thread is changing the dictionary.
+    The dictionary is sorted and has distinct search keys.
+*/
+public class ConcurrentSkipListDictionary<K extends Comparable<? super K>, V>
+       implements DictionaryInterface<K, V>
+{
+    private final Node<K, V> head;              // Precedes all nodes; has no key
+    private final AtomicInteger numberOfEntries;
+    private static final int MAX_LEVEL = 32;
+
+    public ConcurrentSkipListDictionary()
+    {
+        head = new Node<>(null, null, MAX_LEVEL);
+        numberOfEntries = new AtomicInteger(0);
+    } // end default constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+        exists in the dictionary, replaces the corresponding value.
+        @param key    An object search key of the new entry.
+        @param value  An object associated with the search key.
+        @return  Either null if the new entry was added to the dictionary
+                 or the value that was associated with key if that value
+                 was replaced. */
+    public V add(K key, V value)
+    {
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        Node<K, V>[] nodesBefore = newNodeArray(MAX_LEVEL);
+        Node<K, V>[] nodesAfter = newNodeArray(MAX_LEVEL);
+        int newLevel = randomLevel();
+        while (true)
+        {
+            if (find(key, nodesBefore, nodesAfter))
+            {   // Key found; replace its value unless the entry is being removed
+                Node<K, V> currentNode = nodesAfter[0];
+                V oldValue = currentNode.value.get();
+                if (oldValue == null)
+                    markNode(currentNode);  // Help the removal, then retry
+                else if (currentNode.value.compareAndSet(oldValue, value))
+                    return oldValue;
+            }
+            else
+            {
+                Node<K, V> newNode = new Node<>(key, value, newLevel);
+                for (int index = 0; index < newLevel; index++)
+                    newNode.next[index].set(nodesAfter[index], false);
+                // The node is in the dictionary once it is in the bottom chain
+                if (nodesBefore[0].next[0].compareAndSet(nodesAfter[0], newNode,
+                                                         false, false))
+                {
+                    numberOfEntries.incrementAndGet();
+                    linkUpperLevels(newNode, nodesBefore, nodesAfter);
+                    return null;
+                } // end if
+            } // end if
+        } // end while
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        if (key == null)
+            throw new IllegalArgumentException();
+        Node<K, V>[] nodesBefore = newNodeArray(MAX_LEVEL);
+        Node<K, V>[] nodesAfter = newNodeArray(MAX_LEVEL);
+        while (true)
+        {
+            if (!find(key, nodesBefore, nodesAfter))
+                return null;
+            Node<K, V> currentNode = nodesAfter[0];
+            V oldValue = currentNode.value.get();
+            if (oldValue == null)
+                return null;                // Another thread removed it
+            if (currentNode.value.compareAndSet(oldValue, null))
+            {
+                numberOfEntries.decrementAndGet();
+                markNode(currentNode);
+                find(key, nodesBefore, nodesAfter); // Unlinks the node
+                return oldValue;
+            } // end if
+        } // end while
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key. Does not wait for or change the list.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        Node<K, V> currentNode = getFirstNodeAtLeast(key);
+        if ((currentNode != null) && key.equals(currentNode.key))
+            return currentNode.value.get();
+        else
+            return null;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary. Does not wait
+        for or change the list.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    /** Creates a dictionary of the entries of this dictionary whose search
+        keys are at least from and less than to. Entries that other threads
+        add or remove meanwhile may or may not be included.
+        @param from  The smallest search key to include.
+        @param to    The search key at which to stop; it is not included.
+        @return  A new dictionary containing the entries in the range. */
+    public ConcurrentSkipListDictionary<K, V> subMap(K from, K to)
+    {
+        if ((from == null) || (to == null))
+            throw new IllegalArgumentException();
+        ConcurrentSkipListDictionary<K, V> result = new ConcurrentSkipListDictionary<>();
+        Node<K, V> currentNode = getFirstNodeAtLeast(from);
+        while ((currentNode != null) && (currentNode.key.compareTo(to) < 0))
+        {
+            V value = currentNode.value.get();
+            if (value != null)
+                result.add(currentNode.key, value);
+            currentNode = currentNode.next[0].getReference();
+        } // end while
+        return result;
+    } // end subMap
+
+    /** Creates a weakly consistent iterator that traverses all search keys
+        in this dictionary in sorted order.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates a weakly consistent iterator that traverses all values in
+        this dictionary in sorted order of their keys.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return !new KeyIterator().hasNext();
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return Math.max(numberOfEntries.get(), 0);
+    } // end getSize
+
+    /** Removes all entries from this dictionary, one at a time. Entries
+        that other threads add meanwhile may remain. */
+    public void clear()
+    {
+        Iterator<K> keyIterator = getKeyIterator();
+        while (keyIterator.hasNext())
+            remove(keyIterator.next());
+    } // end clear
+
+    // Returns the number of chains for a new node: 1 with probability 1/2,
+    // 2 with probability 1/4, and so on, up to MAX_LEVEL.
+    private static int randomLevel()
+    {
+        int bits = ThreadLocalRandom.current().nextInt();
+        return Integer.numberOfTrailingZeros(bits | (1 << (MAX_LEVEL - 1))) + 1;
+    } // end randomLevel
+
+    // Searches for key, unlinking any marked node that the search passes.
+    // Sets nodesBefore[i] to the last node in chain i whose key is less
+    // than key, or head, and nodesAfter[i] to the node after it, or null.
+    // Returns true if nodesAfter[0] contains key.
+    private boolean find(K key, Node<K, V>[] nodesBefore, Node<K, V>[] nodesAfter)
+    {
+        boolean[] marked = new boolean[1];
+        retry:
+        while (true)
+        {
+            Node<K, V> nodeBefore = head;
+            for (int index = MAX_LEVEL - 1; index >= 0; index--)
+            {
+                Node<K, V> currentNode = nodeBefore.next[index].getReference();
+                while (currentNode != null)
+                {
+                    Node<K, V> nodeAfter = currentNode.next[index].get(marked);
+                    if (marked[0])
+                    {   // currentNode is removed; unlink it from this chain
+                        if (!nodeBefore.next[index].compareAndSet(currentNode, nodeAfter,
+                                                                   false, false))
+                            continue retry;         // nodeBefore changed
+                        currentNode = nodeAfter;
+                    }
+                    else if (key.compareTo(currentNode.key) > 0)
+                    {
+                        nodeBefore = currentNode;
+                        currentNode = nodeAfter;
+                    }
+                    else
+                        break;
+                    // end if
+                } // end while
+                nodesBefore[index] = nodeBefore;
+                nodesAfter[index] = currentNode;
+            } // end for
+            return (nodesAfter[0] != null) && key.equals(nodesAfter[0].key);
+        } // end while
+    } // end find
+
+    // Returns the first node in the bottom chain whose key is at least key
+    // and that is not marked when the search reaches it, or null if there
+    // is none. Skips marked nodes without unlinking them.
+    private Node<K, V> getFirstNodeAtLeast(K key)
+    {
+        boolean[] marked = new boolean[1];
+        Node<K, V> nodeBefore = head;
+        Node<K, V> currentNode = null;
+        for (int index = MAX_LEVEL - 1; index >= 0; index--)
+        {
+            currentNode = nodeBefore.next[index].getReference();
+            while (currentNode != null)
+            {
+                Node<K, V> nodeAfter = currentNode.next[index].get(marked);
+                if (marked[0])
+                    currentNode = nodeAfter;
+                else if (key.compareTo(currentNode.key) > 0)
+                {
+                    nodeBefore = currentNode;
+                    currentNode = nodeAfter;
+                }
+                else
+                    break;
+                // end if
+            } // end while
+        } // end for
+        return currentNode;
+    } // end getFirstNodeAtLeast
+
+    // Links newNode, which is already in the bottom chain, into its higher
+    // chains. Stops early if another thread starts to remove it.
+    private void linkUpperLevels(Node<K, V> newNode, Node<K, V>[] nodesBefore,
+                                 Node<K, V>[] nodesAfter)
+    {
+        boolean[] marked = new boolean[1];
+        for (int index = 1; index < newNode.next.length; index++)
+        {
+            while (true)
+            {
+                Node<K, V> nodeAfter = nodesAfter[index];
+                Node<K, V> currentAfter = newNode.next[index].get(marked);
+                if (marked[0])
+                    return;
+                if ((currentAfter != nodeAfter) &&
+                    !newNode.next[index].compareAndSet(currentAfter, nodeAfter,
+                                                       false, false))
+                    return;                         // Marked meanwhile
+                if (nodesBefore[index].next[index].compareAndSet(nodeAfter, newNode,
+                                                                 false, false))
+                    break;
+                find(newNode.key, nodesBefore, nodesAfter);
+                if (nodesAfter[0] != newNode)
+                    return;                         // Removed meanwhile
+            } // end while
+        } // end for
+    } // end linkUpperLevels
+
+    // Marks every link of a node whose value is null, from the top chain
+    // down, so that nothing can be linked after it.
+    private static <S, T> void markNode(Node<S, T> node)
+    {
+        boolean[] marked = new boolean[1];
+        for (int index = node.next.length - 1; index >= 0; index--)
+        {
+            Node<S, T> nodeAfter = node.next[index].get(marked);
+            while (!marked[0])
+            {
+                node.next[index].attemptMark(nodeAfter, true);
+                nodeAfter = node.next[index].get(marked);
+            } // end while
+        } // end for
+    } // end markNode
+
+    // Returns a new array of nodes whose elements are null.
+    private static <S, T> Node<S, T>[] newNodeArray(int length)
+    {
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        Node<S, T>[] result = (Node<S, T>[])new Node[length];
+        return result;
+    } // end newNodeArray
+
+    private abstract class ChainIterator
+    {
+        private Node<K, V> nextNode;    // Node of next entry, or null at the end
+        private V nextValue;            // Value of nextNode when it was found
+        V lastValue;                    // Value of the node advance returned last
+
+        private ChainIterator()
+        {
+            nextNode = head;
+            findNext();
+        } // end default constructor
+
+        // Moves nextNode to the next node after it whose entry has not been
+        // removed, and saves that entry's value.
+        private void findNext()
+        {
+            Node<K, V> currentNode = nextNode.next[0].getReference();
+            while (currentNode != null)
+            {
+                V value = currentNode.value.get();
+                if (value != null)
+                {
+                    nextNode = currentNode;
+                    nextValue = value;
+                    return;
+                } // end if
+                currentNode = currentNode.next[0].getReference();
+            } // end while
+            nextNode = null;
+            nextValue = null;
+        } // end findNext
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        } // end hasNext
+
+        // Returns the next node and advances past it.
+        Node<K, V> advance()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException("Illegal call to next(); " +
+                                                 "iterator is after end of list.");
+            Node<K, V> result = nextNode;
+            lastValue = nextValue;
+            findNext();
+            return result;
+        } // end advance
+
+        /** Throws UnsupportedOperationException, since the iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() is not supported "
+                                                    + "by this iterator");
+        } // end remove
+    } // end ChainIterator
+
+    private class KeyIterator extends ChainIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in sorted order.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return advance().key;
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends ChainIterator implements Iterator<V>
+    {
+        /** Retrieves the value of the next search key in sorted order, as
+            it was when the iterator reached that entry.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            advance();
+            return lastValue;
+        } // end next
+    } // end ValueIterator
+
+    private static class Node<S, T>
+    {
+        private final S key;                            // Search key in the dictionary
+        private final AtomicReference<T> value;         // Null once removed
+        private final AtomicMarkableReference<Node<S, T>>[] next; // Marked once removed
+
+        private Node(S keyData, T valueData, int nodeLevel)
+        {
+            key = keyData;
+            value = new AtomicReference<>(valueData);
+            // The cast is safe because every element is set below
+            @SuppressWarnings("unchecked")
+            AtomicMarkableReference<Node<S, T>>[] tempNext =
+                (AtomicMarkableReference<Node<S, T>>[])new AtomicMarkableReference[nodeLevel];
+            next = tempNext;
+            for (int index = 0; index < nodeLevel; index++)
+                next[index] = new AtomicMarkableReference<>(null, false);
+        } // end constructor
+    } // end Node
+} // end ConcurrentSkipListDictionary
@@ -0,0 +1,364 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+/**
+    A class that implements a read-only sorted dictionary for lookup-heavy
+    use. The dictionary is built once, from arrays or from another
+    dictionary, and cannot be changed afterwards; add, remove and clear
+    throw UnsupportedOperationException.
+    Instead of an array of entries in sorted order, the keys are kept in
+    their own array in Eytzinger order: the array is a complete binary
+    search tree stored level by level, with the children of index i at
+    indices 2i and 2i + 1. The first levels of every search touch the same
+    few array locations, which therefore stay in the cache, and each step
+    of the search just chooses the next index from one comparison, without
+    a branch that depends on the outcome. Values are in a parallel array.
+    getKeyIterator and getValueIterator still traverse the dictionary in
+    sorted order of its keys.
+    The dictionary has distinct search keys.
+*/
+public class EytzingerDictionary<K extends Comparable<? super K>, V>
+       implements DictionaryInterface<K, V>
+{
+    private final K[] keys;         // Index 0 is unused
+    private final V[] values;       // Parallel to keys
+    private final int numberOfEntries;
+
+    /** Creates a dictionary of the given entries. The arrays are not
+        changed; they need not be sorted. If a key occurs more than once,
+        its last value is used.
+        @param searchKeys  An array of search keys; none is null.
+        @param dataValues  An array of the values of those keys, in the same
+                           order; none is null. */
+    public EytzingerDictionary(K[] searchKeys, V[] dataValues)
+    {
+        if (searchKeys.length != dataValues.length)
+            throw new IllegalArgumentException("There are " + searchKeys.length +
+                                               " keys but " + dataValues.length +
+                                               " values.");
+        int n = searchKeys.length;
+        K[] sortedKeys = searchKeys.clone();
+        V[] sortedValues = dataValues.clone();
+        for (int index = 0; index < n; index++)
+        {
+            if ((sortedKeys[index] == null) || (sortedValues[index] == null))
+                throw new IllegalArgumentException();
+        } // end for
+        if (!isSorted(sortedKeys, n))
+            mergeSort(sortedKeys, sortedValues, n);
+        n = removeDuplicates(sortedKeys, sortedValues, n);
+
+        // The casts are safe because the new arrays contain null entries
+        @SuppressWarnings("unchecked")
+        K[] tempKeys = (K[])new Comparable<?>[n + 1];
+        @SuppressWarnings("unchecked")
+        V[] tempValues = (V[])new Object[n + 1];
+        keys = tempKeys;
+        values = tempValues;
+        numberOfEntries = n;
+
+        // Visiting the implicit tree in order assigns the sorted entries
+        int sortedIndex = 0;
+        for (int index = firstInorder(); index != 0; index = nextInorder(index))
+        {
+            keys[index] = sortedKeys[sortedIndex];
+            values[index] = sortedValues[sortedIndex];
+            sortedIndex++;
+        } // end for
+    } // end constructor
+
+    /** Creates a dictionary that contains the entries of a given dictionary.
+        The entries are copied, so later changes to the given dictionary do
+        not affect this one.
+        @param source  A dictionary whose key and value iterators traverse
+                       its entries in the same order. */
+    public EytzingerDictionary(DictionaryInterface<K, V> source)
+    {
+        this(keysOf(source), valuesOf(source));
+    } // end constructor
+
+    /** Throws UnsupportedOperationException, since this dictionary
+        cannot be changed. */
+    public V add(K key, V value)
+    {
+        throw new UnsupportedOperationException("EytzingerDictionary is read-only.");
+    } // end add
+
+    /** Throws UnsupportedOperationException, since this dictionary
+        cannot be changed. */
+    public V remove(K key)
+    {
+        throw new UnsupportedOperationException("EytzingerDictionary is read-only.");
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        int index = locateIndex(key);
+        return (index == 0) ? null : values[index];
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        return locateIndex(key) != 0;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary
+        in sorted order.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary
+        in sorted order of their keys.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Throws UnsupportedOperationException, since this dictionary
+        cannot be changed. */
+    public void clear()
+    {
+        throw new UnsupportedOperationException("EytzingerDictionary is read-only.");
+    } // end clear
+
+    // Returns the index of the entry that contains key, or 0 if no such
+    // entry exists.
+    private int locateIndex(K key)
+    {
+        // Descend to a leaf: go right past keys smaller than key, else left.
+        // The loop runs the same number of times whatever the outcomes.
+        int index = 1;
+        while (index <= numberOfEntries)
+            index = 2 * index + (keys[index].compareTo(key) < 0 ? 1 : 0);
+        // end while
+
+        // The path's last left turn was at the smallest key >= key; undo the
+        // trailing right turns (1 bits) and that left turn (a 0 bit)
+        index = index >>> (Integer.numberOfTrailingZeros(~index) + 1);
+        if ((index != 0) && (keys[index].compareTo(key) == 0))
+            return index;
+        else
+            return 0;
+    } // end locateIndex
+
+    // Returns the index of the first entry in sorted order, or 0 if the
+    // dictionary is empty.
+    private int firstInorder()
+    {
+        if (numberOfEntries == 0)
+            return 0;
+        int index = 1;
+        while (2 * index <= numberOfEntries)
+            index = 2 * index;
+        return index;
+    } // end firstInorder
+
+    // Returns the index of the entry after the one at index in sorted
+    // order, or 0 if there is none.
+    private int nextInorder(int index)
+    {
+        if (2 * index + 1 <= numberOfEntries)
+        {   // Leftmost node of right subtree
+            index = 2 * index + 1;
+            while (2 * index <= numberOfEntries)
+                index = 2 * index;
+        }
+        else
+        {   // Climb while a right child, then once more
+            while ((index & 1) == 1)
+                index = index >>> 1;
+            index = index >>> 1;
+        } // end if
+        return index;
+    } // end nextInorder
+
+    private static <S extends Comparable<? super S>> boolean isSorted(S[] a, int n)
+    {
+        for (int index = 1; index < n; index++)
+        {
+            if (a[index - 1].compareTo(a[index]) > 0)
+                return false;
+        } // end for
+        return true;
+    } // end isSorted
+
+    // Sorts keys and, in parallel, values, by a stable merge sort, so that
+    // equal keys stay in their given order.
+    private static <S extends Comparable<? super S>, T> void mergeSort(S[] keys, T[] values, int n)
+    {
+        S[] tempKeys = keys.clone();
+        T[] tempValues = values.clone();
+        for (int width = 1; width < n; width = 2 * width)
+        {
+            for (int first = 0; first < n - width; first = first + 2 * width)
+            {
+                int mid = first + width;
+                int last = Math.min(first + 2 * width, n);
+                // Merge keys[first..mid-1] and keys[mid..last-1]
+                int left = first;
+                int right = mid;
+                int out = first;
+                while ((left < mid) && (right < last))
+                {
+                    if (keys[right].compareTo(keys[left]) < 0)
+                    {
+                        tempKeys[out] = keys[right];
+                        tempValues[out] = values[right];
+                        right++;
+                    }
+                    else
+                    {
+                        tempKeys[out] = keys[left];
+                        tempValues[out] = values[left];
+                        left++;
+                    } // end if
+                    out++;
+                } // end while
+                while (left < mid)
+                {
+                    tempKeys[out] = keys[left];
+                    tempValues[out] = values[left];
+                    left++;
+                    out++;
+                } // end while
+                while (right < last)
+                {
+                    tempKeys[out] = keys[right];
+                    tempValues[out] = values[right];
+                    right++;
+                    out++;
+                } // end while
+                System.arraycopy(tempKeys, first, keys, first, last - first);
+                System.arraycopy(tempValues, first, values, first, last - first);
+            } // end for
+        } // end for
+    } // end mergeSort
+
+    // Keeps the last entry of each run of equal keys in sorted arrays and
+    // returns the number of entries kept.
+    private static <S extends Comparable<? super S>, T> int removeDuplicates(S[] keys, T[] values, int n)
+    {
+        int kept = 0;
+        for (int index = 0; index < n; index++)
+        {
+            if ((kept > 0) && (keys[kept - 1].compareTo(keys[index]) == 0))
+                values[kept - 1] = values[index];   // Later value wins
+            else
+            {
+                keys[kept] = keys[index];
+                values[kept] = values[index];
+                kept++;
+            } // end if
+        } // end for
+        return kept;
+    } // end removeDuplicates
+
+    private static <S extends Comparable<? super S>, T> S[] keysOf(DictionaryInterface<S, T> source)
+    {
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        S[] result = (S[])new Comparable<?>[source.getSize()];
+        Iterator<S> keyIterator = source.getKeyIterator();
+        for (int index = 0; index < result.length; index++)
+            result[index] = keyIterator.next();
+        return result;
+    } // end keysOf
+
+    private static <S extends Comparable<? super S>, T> T[] valuesOf(DictionaryInterface<S, T> source)
+    {
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        T[] result = (T[])new Object[source.getSize()];
+        Iterator<T> valueIterator = source.getValueIterator();
+        for (int index = 0; index < result.length; index++)
+            result[index] = valueIterator.next();
+        return result;
+    } // end valuesOf
+
+    private abstract class InorderIterator
+    {
+        private int nextIndex;      // Index of next entry, or 0 at the end
+
+        private InorderIterator()
+        {
+            nextIndex = firstInorder();
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return nextIndex != 0;
+        } // end hasNext
+
+        // Returns the index of the next entry and advances past it.
+        // Throws NoSuchElementException if hasNext() is false.
+        int advance()
+        {
+            if (nextIndex == 0)
+                throw new NoSuchElementException();
+            int result = nextIndex;
+            nextIndex = nextInorder(nextIndex);
+            return result;
+        } // end advance
+
+        /** Throws UnsupportedOperationException, since this dictionary
+            cannot be changed. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() method is not " +
+                                                    "supported.");
+        } // end remove
+    } // end InorderIterator
+
+    private class KeyIterator extends InorderIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in sorted order.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return keys[advance()];
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends InorderIterator implements Iterator<V>
+    {
+        /** Retrieves the value of the next search key in sorted order.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            return values[advance()];
+        } // end next
+    } // end ValueIterator
+} // end EytzingerDictionary
@@ -1,6 +1,7 @@
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
 /**
     A class that implements a dictionary by using a resizable sorted array.
     The dictionary is unsorted and has distinct search keys.
@@ -12,7 +13,7 @@ public class SortedArrayDictionary<K extends Comparable<? super K>, V> implement
     private int numberOfEntries;
     private boolean initialized = false;
     private final static int DEFAULT_CAPACITY = 25;
-    private static final int MAX_CAPACITY = 10000;
+    private static final int MAX_CAPACITY = 1 << 26;
     
     public SortedArrayDictionary()
     {
@@ -64,6 +65,76 @@ public class SortedArrayDictionary<K extends Comparable<? super K>, V> implement
         } // end if
     } // end add
     
+    /** Adds a batch of new entries to this dictionary. The result is the
+        same as calling add for each pair in order, so a key that occurs more
+        than once in the batch gets its last value. The batch is sorted and
+        then merged with the dictionary's entries in one pass, rather than
+        shifting the array once for each new entry.
+        @param keys    An array of search keys; none is null.
+        @param values  An array of the values of those keys, in the same
+                       order; none is null. */
+    public void addAll(K[] keys, V[] values)
+    {
+        checkInitialization();
+        if (keys.length != values.length)
+            throw new IllegalArgumentException("There are " + keys.length +
+                                               " keys but " + values.length +
+                                               " values.");
+        int batchSize = keys.length;
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        Entry<K, V>[] batch = (Entry<K, V>[])new Entry[batchSize];
+        for (int index = 0; index < batchSize; index++)
+        {
+            if ((keys[index] == null) || (values[index] == null))
+                throw new IllegalArgumentException();
+            batch[index] = new Entry<>(keys[index], values[index]);
+        } // end for
+
+        // Merge sort is stable, so equal keys keep their order in the batch
+        SortArray.mergeSort(batch, 0, batchSize - 1);
+        int distinct = 0;
+        for (int index = 0; index < batchSize; index++)
+        {
+            if ((distinct > 0) && batch[index].getKey().equals(batch[distinct - 1].getKey()))
+                batch[distinct - 1] = batch[index];     // Later entry wins
+            else
+            {
+                batch[distinct] = batch[index];
+                distinct++;
+            } // end if
+        } // end for
+        mergeEntries(batch, distinct, null);
+    } // end addAll
+
+    /** Adds the entries of another dictionary to this dictionary. When a
+        search key is in both dictionaries, a given function combines the
+        two values; if it returns null, the entry is removed. The other
+        dictionary is not changed.
+        @param other     A dictionary whose entries are to be added.
+        @param resolver  A function that receives the value in this
+                         dictionary and the value in other, in that order,
+                         and returns the value to keep.
+        @throws IllegalArgumentException if resolver is null. */
+    public void merge(SortedArrayDictionary<K, V> other,
+                      BiFunction<? super V, ? super V, ? extends V> resolver)
+    {
+        checkInitialization();
+        other.checkInitialization();
+        if (resolver == null)
+            throw new IllegalArgumentException();
+        int otherSize = other.numberOfEntries;
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        Entry<K, V>[] batch = (Entry<K, V>[])new Entry[otherSize];
+        for (int index = 0; index < otherSize; index++)
+        {   // Copy entries so that the two dictionaries do not share them
+            Entry<K, V> entry = other.dictionary[index];
+            batch[index] = new Entry<>(entry.getKey(), entry.getValue());
+        } // end for
+        mergeEntries(batch, otherSize, resolver);
+    } // end merge
+    
     /** Removes a specific entry from this dictionary.
         @param key An object search key of the entry to be removed.
         @return Either the value that was associated with the search key
@@ -230,6 +301,76 @@ public class SortedArrayDictionary<K extends Comparable<? super K>, V> implement
     } // end binarySearchQ7 
     
     
+    // Merges the sorted entries batch[0..batchSize-1], whose keys are
+    // distinct, with this dictionary's entries in one linear pass. For a key
+    // in both, resolver combines the old and new values, or the new value
+    // replaces the old one if resolver is null. A null result removes
+    // the entry.
+    private void mergeEntries(Entry<K, V>[] batch, int batchSize,
+                              BiFunction<? super V, ? super V, ? extends V> resolver)
+    {
+        long total = (long)numberOfEntries + batchSize;
+        checkCapacity((int)Math.min(total, Integer.MAX_VALUE));
+        // Keep one extra location, as ensureCapacity does
+        int newCapacity = Math.max(dictionary.length, (int)total + 2);
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        Entry<K, V>[] merged = (Entry<K, V>[])new Entry[newCapacity];
+        
+        int oldIndex = 0;
+        int batchIndex = 0;
+        int mergedIndex = 0;
+        while ((oldIndex < numberOfEntries) && (batchIndex < batchSize))
+        {
+            Entry<K, V> oldEntry = dictionary[oldIndex];
+            Entry<K, V> newEntry = batch[batchIndex];
+            int comparison = oldEntry.getKey().compareTo(newEntry.getKey());
+            if (comparison < 0)
+            {
+                merged[mergedIndex] = oldEntry;
+                mergedIndex++;
+                oldIndex++;
+            }
+            else if (comparison > 0)
+            {
+                merged[mergedIndex] = newEntry;
+                mergedIndex++;
+                batchIndex++;
+            }
+            else
+            {   // Key in both; keep the old entry with the resolved value
+                V value = newEntry.getValue();
+                if (resolver != null)
+                    value = resolver.apply(oldEntry.getValue(), value);
+                if (value != null)
+                {
+                    oldEntry.setValue(value);
+                    merged[mergedIndex] = oldEntry;
+                    mergedIndex++;
+                } // end if
+                oldIndex++;
+                batchIndex++;
+            } // end if
+        } // end while
+        
+        // Copy the rest of whichever array is not exhausted
+        while (oldIndex < numberOfEntries)
+        {
+            merged[mergedIndex] = dictionary[oldIndex];
+            mergedIndex++;
+            oldIndex++;
+        } // end while
+        while (batchIndex < batchSize)
+        {
+            merged[mergedIndex] = batch[batchIndex];
+            mergedIndex++;
+            batchIndex++;
+        } // end while
+        
+        dictionary = merged;
+        numberOfEntries = mergedIndex;
+    } // end mergeEntries
+    
     // Makes room for a new entry at newPosition by shifting array entries towards 
     // the end of the array.
     // Precondition: 0 <= newPosition <= numberOfEntries;
@@ -392,7 +533,7 @@ public class SortedArrayDictionary<K extends Comparable<? super K>, V> implement
         } // end remove
     } // end ValueIterator
     
-    private class Entry<S, T> 
+    private class Entry<S extends Comparable<? super S>, T> implements Comparable<Entry<S, T>>
     {
         private S key; 
         private T value;
@@ -417,5 +558,11 @@ public class SortedArrayDictionary<K extends Comparable<? super K>, V> implement
         {
             value = newValue;
         } // end setValue
+        
+        // Orders entries by their search keys.
+        public int compareTo(Entry<S, T> other)
+        {
+            return key.compareTo(other.key);
+        } // end compareTo
     } // end Entry
 } // end Dictionary
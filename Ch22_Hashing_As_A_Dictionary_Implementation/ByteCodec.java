@@ -0,0 +1,17 @@
+/**
+    An interface for converting objects to and from arrays of bytes, so
+    that a dictionary can store them outside the Java heap.
+    Equal objects must give equal byte arrays.
+*/
+public interface ByteCodec<T>
+{
+    /** Converts an object to bytes.
+        @param object  The object to convert; not null.
+        @return  An array of bytes from which fromBytes recreates object. */
+    public byte[] toBytes(T object);
+
+    /** Recreates an object from bytes that toBytes produced.
+        @param bytes  An array of bytes.
+        @return  The object that the bytes represent. */
+    public T fromBytes(byte[] bytes);
+} // end ByteCodec
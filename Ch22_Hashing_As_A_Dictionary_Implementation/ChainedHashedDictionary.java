@@ -0,0 +1,749 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+/**
+    A class that implements the ADT dictionary by using hashing and
+    separate chaining to resolve collisions.
+    Each location, or bucket, of the hash table references a chain of the
+    entries whose keys hash to it. When a chain grows longer than
+    TREEIFY_THRESHOLD and its keys are Comparable and of the same class,
+    the chain is replaced by an AVL tree ordered by hash code and then by
+    compareTo, so even keys with poor or colliding hash codes are found in
+    O(log n) time. A tree that shrinks to UNTREEIFY_THRESHOLD entries
+    becomes a chain again.
+    The hash table's size is a power of two.
+    The dictionary is unsorted and has distinct search keys. For keys in
+    a tree bucket, compareTo must be consistent with equals.
+*/
+public class ChainedHashedDictionary<K, V> implements DictionaryInterface<K, V>
+{
+    // The dictionary:
+    private int numberOfEntries;
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of 2
+
+    // The hash table; for each index, at most one of chains[index] and
+    // trees[index] is not null:
+    private ChainNode<K, V>[] chains;
+    private TreeBucket<K, V>[] trees;
+    private int mask;                               // chains.length - 1
+    private boolean initialized = false;
+    private boolean rehashing = false;              // True during enlargeHashTable
+    private int resizeThreshold;                    // Entries allowed before resize
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+    private static final int TREEIFY_THRESHOLD = 8;     // Chain length that
+                                                        // becomes a tree
+    private static final int UNTREEIFY_THRESHOLD = 6;   // Tree size that
+                                                        // becomes a chain
+    private static final int MIN_TREEIFY_SIZE = 64;     // Smaller tables grow
+                                                        // instead of treeifying
+
+    public ChainedHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged. */
+    public ChainedHashedDictionary(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        numberOfEntries = 0;
+        allocateTable(getTableSizeFor((long)Math.ceil(initialCapacity / MAX_LOAD_FACTOR)));
+        initialized = true;
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+       exists in the dictionary, replaces the corresponding value.
+       @param key    An object search key of the new entry.
+       @param value  An object associated with the search key.
+       @return  Either null if the new entry was added to the dictionary
+                or the value that was associated with key if that value
+                was replaced. */
+    public V add(K key, V value)
+    {
+        checkInitialization();
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        else
+        {
+            int hash = spread(key.hashCode());
+            int index = hash & mask;
+            V oldValue;
+            if (trees[index] != null)
+                oldValue = addToTree(index, hash, key, value);
+            else
+                oldValue = addToChain(index, hash, key, value);
+
+            if ((oldValue == null) && (numberOfEntries > resizeThreshold))
+                enlargeHashTable();
+            return oldValue;
+        } // end if
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        checkInitialization();
+        int hash = spread(key.hashCode());
+        int index = hash & mask;
+        V removedValue = null;
+        TreeBucket<K, V> tree = trees[index];
+        if (tree != null)
+        {
+            removedValue = tree.remove(hash, key);
+            if ((removedValue != null) && (tree.size <= UNTREEIFY_THRESHOLD))
+                untreeify(index);
+        }
+        else
+        {
+            ChainNode<K, V> previousNode = null;
+            ChainNode<K, V> currentNode = chains[index];
+            while ((currentNode != null) && !currentNode.matches(hash, key))
+            {
+                previousNode = currentNode;
+                currentNode = currentNode.next;
+            } // end while
+
+            if (currentNode != null)
+            {   // Key found; unlink its node
+                removedValue = currentNode.value;
+                if (previousNode == null)
+                    chains[index] = currentNode.next;
+                else
+                    previousNode.next = currentNode.next;
+            } // end if
+        } // end if
+
+        if (removedValue != null)
+            numberOfEntries--;
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        checkInitialization();
+        int hash = spread(key.hashCode());
+        int index = hash & mask;
+        V result = null;
+        TreeBucket<K, V> tree = trees[index];
+        if (tree != null)
+        {
+            TreeNode<K, V> node = tree.find(hash, key);
+            if (node != null)
+                result = node.value;
+        }
+        else
+        {
+            ChainNode<K, V> currentNode = chains[index];
+            while ((currentNode != null) && !currentNode.matches(hash, key))
+                currentNode = currentNode.next;
+            if (currentNode != null)
+                result = currentNode.value;
+        } // end if
+        return result;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. The hash table keeps its
+        current size. */
+    public void clear()
+    {
+        checkInitialization();
+        for (int index = 0; index < chains.length; index++)
+        {
+            chains[index] = null;
+            trees[index] = null;
+        } // end for
+        numberOfEntries = 0;
+    } // end clear
+
+    /** Gets the number of buckets that are currently trees.
+        @return  The number of buckets whose entries are in an AVL tree. */
+    public int getNumberOfTreeBuckets()
+    {
+        int count = 0;
+        for (int index = 0; index < trees.length; index++)
+        {
+            if (trees[index] != null)
+                count++;
+        } // end for
+        return count;
+    } // end getNumberOfTreeBuckets
+
+    // Throws an exception if this object is not initialized.
+    private void checkInitialization()
+    {
+        if (!initialized)
+            throw new SecurityException("ChainedHashedDictionary object is corrupt.");
+    } // end checkInitialization
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    // Creates an empty hash table of the given size, which must be a power of 2.
+    private void allocateTable(int tableSize)
+    {
+        assert Integer.bitCount(tableSize) == 1;
+        // The casts are safe because the new arrays contain null entries
+        @SuppressWarnings("unchecked")
+        ChainNode<K, V>[] tempChains = (ChainNode<K, V>[])new ChainNode[tableSize];
+        @SuppressWarnings("unchecked")
+        TreeBucket<K, V>[] tempTrees = (TreeBucket<K, V>[])new TreeBucket[tableSize];
+        chains = tempChains;
+        trees = tempTrees;
+        mask = tableSize - 1;
+        if (tableSize == MAX_SIZE)
+            resizeThreshold = Integer.MAX_VALUE;    // Cannot grow; chains lengthen
+        else
+            resizeThreshold = (int)(tableSize * MAX_LOAD_FACTOR);
+    } // end allocateTable
+
+    // Mixes the high bits of a hash code into the low bits, since only the
+    // low bits select a bucket.
+    private static int spread(int hashCode)
+    {
+        return hashCode ^ (hashCode >>> 16);
+    } // end spread
+
+    // Adds an entry to the chain at index, or replaces the value of a
+    // matching entry. Turns a chain that becomes too long into a tree.
+    // Returns the replaced value, or null if a new entry was added.
+    private V addToChain(int index, int hash, K key, V value)
+    {
+        int chainLength = 0;
+        ChainNode<K, V> currentNode = chains[index];
+        while (currentNode != null)
+        {
+            if (currentNode.matches(hash, key))
+            {   // Key found; replace value
+                V oldValue = currentNode.value;
+                currentNode.value = value;
+                return oldValue;
+            } // end if
+            chainLength++;
+            currentNode = currentNode.next;
+        } // end while
+
+        // Key not found; add new entry to beginning of chain
+        chains[index] = new ChainNode<>(hash, key, value, chains[index]);
+        numberOfEntries++;
+        if (chainLength + 1 > TREEIFY_THRESHOLD)
+            treeify(index);
+        return null;
+    } // end addToChain
+
+    // Adds an entry to the tree at index, or replaces the value of a matching
+    // entry. A key that cannot be ordered with the tree's keys turns the tree
+    // back into a chain. Returns the replaced value, or null if a new entry
+    // was added.
+    private V addToTree(int index, int hash, K key, V value)
+    {
+        TreeBucket<K, V> tree = trees[index];
+        if (!tree.accepts(key))
+        {
+            untreeify(index);
+            return addToChain(index, hash, key, value);
+        } // end if
+
+        V oldValue = tree.add(hash, key, value);
+        if (oldValue == null)
+            numberOfEntries++;
+        return oldValue;
+    } // end addToTree
+
+    // Replaces the chain at index with a tree, if its keys can be ordered.
+    // A small table is enlarged instead, since that also shortens chains.
+    private void treeify(int index)
+    {
+        if (chains.length < MIN_TREEIFY_SIZE)
+        {
+            if (!rehashing)
+                enlargeHashTable();
+            return;
+        } // end if
+
+        ChainNode<K, V> firstNode = chains[index];
+        Class<?> keyClass = TreeBucket.getComparableClass(firstNode.key);
+        if (keyClass == null)
+            return;     // Keys are not Comparable; keep chain
+        for (ChainNode<K, V> node = firstNode; node != null; node = node.next)
+        {
+            if (node.key.getClass() != keyClass)
+                return; // Keys cannot be compared with one another; keep chain
+        } // end for
+
+        TreeBucket<K, V> tree = new TreeBucket<>(keyClass);
+        for (ChainNode<K, V> node = firstNode; node != null; node = node.next)
+            tree.add(node.hash, node.key, node.value);
+        trees[index] = tree;
+        chains[index] = null;
+    } // end treeify
+
+    // Replaces the tree at index with a chain.
+    private void untreeify(int index)
+    {
+        ChainNode<K, V> firstNode = null;
+        TreeNodeIterator<K, V> traversal = new TreeNodeIterator<>(trees[index]);
+        while (traversal.hasNext())
+        {
+            TreeNode<K, V> node = traversal.next();
+            firstNode = new ChainNode<>(node.hash, node.key, node.value, firstNode);
+        } // end while
+        chains[index] = firstNode;
+        trees[index] = null;
+    } // end untreeify
+
+    // Doubles the size of the hash table and re-adds the current entries.
+    // Each entry keeps its saved hash, so hashCode is not called again.
+    private void enlargeHashTable()
+    {
+        if (chains.length >= MAX_SIZE)
+            return;
+        ChainNode<K, V>[] oldChains = chains;
+        TreeBucket<K, V>[] oldTrees = trees;
+        allocateTable(getTableSizeFor((long)oldChains.length << 1));
+        numberOfEntries = 0;    // Reset number of dictionary entries, since
+                                // it will be incremented during rehash
+        rehashing = true;
+        for (int index = 0; index < oldChains.length; index++)
+        {
+            for (ChainNode<K, V> node = oldChains[index]; node != null; node = node.next)
+                reAdd(node.hash, node.key, node.value);
+            if (oldTrees[index] != null)
+            {
+                TreeNodeIterator<K, V> traversal = new TreeNodeIterator<>(oldTrees[index]);
+                while (traversal.hasNext())
+                {
+                    TreeNode<K, V> node = traversal.next();
+                    reAdd(node.hash, node.key, node.value);
+                } // end while
+            } // end if
+        } // end for
+        rehashing = false;
+    } // end enlargeHashTable
+
+    // Adds an entry, which is known not to be in the table, during a rehash.
+    private void reAdd(int hash, K key, V value)
+    {
+        int index = hash & mask;
+        if (trees[index] != null)
+            addToTree(index, hash, key, value);
+        else
+            addToChain(index, hash, key, value);
+    } // end reAdd
+
+    private abstract class BucketIterator
+    {
+        private int currentIndex;               // Next bucket to examine
+        private ChainNode<K, V> nextChainNode;  // Next node in current chain
+        private TreeNodeIterator<K, V> treeTraversal; // Traversal of current tree
+        private int numberLeft;                 // Number of entries left
+
+        private BucketIterator()
+        {
+            currentIndex = 0;
+            nextChainNode = null;
+            treeTraversal = null;
+            numberLeft = numberOfEntries;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Advances to the next entry and returns its key or value.
+        // Throws NoSuchElementException if hasNext() is false.
+        Object advance(boolean wantKey)
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while ((nextChainNode == null) &&
+                   ((treeTraversal == null) || !treeTraversal.hasNext()))
+            {   // Move to next nonempty bucket
+                nextChainNode = chains[currentIndex];
+                if (trees[currentIndex] != null)
+                    treeTraversal = new TreeNodeIterator<>(trees[currentIndex]);
+                else
+                    treeTraversal = null;
+                currentIndex++;
+            } // end while
+
+            numberLeft--;
+            if (nextChainNode != null)
+            {
+                ChainNode<K, V> node = nextChainNode;
+                nextChainNode = node.next;
+                return wantKey ? node.key : node.value;
+            }
+            else
+            {
+                TreeNode<K, V> node = treeTraversal.next();
+                return wantKey ? node.key : node.value;
+            } // end if
+        } // end advance
+
+        /** Throws UnsupportedOperationException, since this iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() method is not " +
+                                                    "supported.");
+        } // end remove
+    } // end BucketIterator
+
+    private class KeyIterator extends BucketIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in the dictionary.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        @SuppressWarnings("unchecked")
+        public K next()
+        {
+            return (K)advance(true);
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends BucketIterator implements Iterator<V>
+    {
+        /** Retrieves the next value in the dictionary.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        @SuppressWarnings("unchecked")
+        public V next()
+        {
+            return (V)advance(false);
+        } // end next
+    } // end ValueIterator
+
+    private static class ChainNode<S, T>
+    {
+        private final int hash;     // Spread hash code of key
+        private final S key;
+        private T value;
+        private ChainNode<S, T> next;
+
+        private ChainNode(int keyHash, S searchKey, T dataValue, ChainNode<S, T> nextNode)
+        {
+            hash = keyHash;
+            key = searchKey;
+            value = dataValue;
+            next = nextNode;
+        } // end constructor
+
+        private boolean matches(int keyHash, Object searchKey)
+        {
+            return (hash == keyHash) && searchKey.equals(key);
+        } // end matches
+    } // end ChainNode
+
+    private static class TreeNode<S, T>
+    {
+        private final int hash;     // Spread hash code of key
+        private final S key;
+        private T value;
+        private TreeNode<S, T> left;
+        private TreeNode<S, T> right;
+        private int height;         // Height of the subtree rooted here
+
+        private TreeNode(int keyHash, S searchKey, T dataValue)
+        {
+            hash = keyHash;
+            key = searchKey;
+            value = dataValue;
+            height = 1;
+        } // end constructor
+    } // end TreeNode
+
+    // An AVL tree of the entries in one bucket, ordered by hash code and
+    // then by compareTo. Every key in the tree belongs to keyClass.
+    private static class TreeBucket<S, T>
+    {
+        private TreeNode<S, T> root;
+        private int size;
+        private final Class<?> keyClass;
+        private T oldValue;         // Value replaced or removed by last operation
+
+        private TreeBucket(Class<?> keyClass)
+        {
+            root = null;
+            size = 0;
+            this.keyClass = keyClass;
+        } // end constructor
+
+        // Returns the class of key if it implements Comparable; otherwise null.
+        private static Class<?> getComparableClass(Object key)
+        {
+            if (key instanceof Comparable)
+                return key.getClass();
+            else
+                return null;
+        } // end getComparableClass
+
+        // Returns true if key can be ordered with the keys in this tree.
+        private boolean accepts(Object key)
+        {
+            return key.getClass() == keyClass;
+        } // end accepts
+
+        @SuppressWarnings("unchecked")
+        private static int compare(int hash, Object key, TreeNode<?, ?> node)
+        {
+            int result = Integer.compare(hash, node.hash);
+            if (result == 0)
+                result = ((Comparable<Object>)key).compareTo(node.key);
+            return result;
+        } // end compare
+
+        // Returns the node containing key, or null if key is not in the tree.
+        // A key of another class cannot be in the tree.
+        private TreeNode<S, T> find(int hash, Object key)
+        {
+            if (!accepts(key))
+                return null;
+            TreeNode<S, T> currentNode = root;
+            while (currentNode != null)
+            {
+                int comparison = compare(hash, key, currentNode);
+                if (comparison == 0)
+                    return currentNode;
+                else if (comparison < 0)
+                    currentNode = currentNode.left;
+                else
+                    currentNode = currentNode.right;
+            } // end while
+            return null;
+        } // end find
+
+        // Returns the replaced value, or null if a new entry was added.
+        private T add(int hash, S key, T value)
+        {
+            oldValue = null;
+            root = addEntry(root, hash, key, value);
+            if (oldValue == null)
+                size++;
+            return oldValue;
+        } // end add
+
+        // Returns the removed value, or null if key is not in the tree.
+        private T remove(int hash, Object key)
+        {
+            oldValue = null;
+            if (accepts(key))
+                root = removeEntry(root, hash, key);
+            if (oldValue != null)
+                size--;
+            return oldValue;
+        } // end remove
+
+        private TreeNode<S, T> addEntry(TreeNode<S, T> rootNode, int hash, S key, T value)
+        {
+            if (rootNode == null)
+                return new TreeNode<>(hash, key, value);
+            int comparison = compare(hash, key, rootNode);
+            if (comparison == 0)
+            {
+                oldValue = rootNode.value;
+                rootNode.value = value;
+                return rootNode;
+            }
+            else if (comparison < 0)
+                rootNode.left = addEntry(rootNode.left, hash, key, value);
+            else
+                rootNode.right = addEntry(rootNode.right, hash, key, value);
+            return rebalance(rootNode);
+        } // end addEntry
+
+        private TreeNode<S, T> removeEntry(TreeNode<S, T> rootNode, int hash, Object key)
+        {
+            if (rootNode == null)
+                return null;
+            int comparison = compare(hash, key, rootNode);
+            if (comparison < 0)
+                rootNode.left = removeEntry(rootNode.left, hash, key);
+            else if (comparison > 0)
+                rootNode.right = removeEntry(rootNode.right, hash, key);
+            else
+            {
+                oldValue = rootNode.value;
+                if (rootNode.left == null)
+                    return rootNode.right;
+                else if (rootNode.right == null)
+                    return rootNode.left;
+                else
+                {   // Replace node with its in-order successor
+                    TreeNode<S, T> successor = rootNode.right;
+                    while (successor.left != null)
+                        successor = successor.left;
+                    successor.right = removeLeftmost(rootNode.right);
+                    successor.left = rootNode.left;
+                    rootNode = successor;
+                } // end if
+            } // end if
+            return rebalance(rootNode);
+        } // end removeEntry
+
+        // Removes the leftmost node of a nonempty subtree and returns the
+        // subtree's new root.
+        private TreeNode<S, T> removeLeftmost(TreeNode<S, T> rootNode)
+        {
+            if (rootNode.left == null)
+                return rootNode.right;
+            rootNode.left = removeLeftmost(rootNode.left);
+            return rebalance(rootNode);
+        } // end removeLeftmost
+
+        private static int heightOf(TreeNode<?, ?> node)
+        {
+            return (node == null) ? 0 : node.height;
+        } // end heightOf
+
+        private static void updateHeight(TreeNode<?, ?> node)
+        {
+            node.height = 1 + Math.max(heightOf(node.left), heightOf(node.right));
+        } // end updateHeight
+
+        // Restores the AVL property at nodeN, whose subtrees are balanced,
+        // and returns the root of the resulting subtree.
+        private TreeNode<S, T> rebalance(TreeNode<S, T> nodeN)
+        {
+            updateHeight(nodeN);
+            int heightDifference = heightOf(nodeN.left) - heightOf(nodeN.right);
+            if (heightDifference > 1)
+            {   // Left subtree is taller by more than 1
+                if (heightOf(nodeN.left.left) < heightOf(nodeN.left.right))
+                    nodeN.left = rotateLeft(nodeN.left);
+                nodeN = rotateRight(nodeN);
+            }
+            else if (heightDifference < -1)
+            {   // Right subtree is taller by more than 1
+                if (heightOf(nodeN.right.right) < heightOf(nodeN.right.left))
+                    nodeN.right = rotateRight(nodeN.right);
+                nodeN = rotateLeft(nodeN);
+            } // end if
+            return nodeN;
+        } // end rebalance
+
+        private TreeNode<S, T> rotateRight(TreeNode<S, T> nodeN)
+        {
+            TreeNode<S, T> nodeC = nodeN.left;
+            nodeN.left = nodeC.right;
+            nodeC.right = nodeN;
+            updateHeight(nodeN);
+            updateHeight(nodeC);
+            return nodeC;
+        } // end rotateRight
+
+        private TreeNode<S, T> rotateLeft(TreeNode<S, T> nodeN)
+        {
+            TreeNode<S, T> nodeC = nodeN.right;
+            nodeN.right = nodeC.left;
+            nodeC.left = nodeN;
+            updateHeight(nodeN);
+            updateHeight(nodeC);
+            return nodeC;
+        } // end rotateLeft
+    } // end TreeBucket
+
+    // An in-order traversal of the nodes in one tree bucket. Its stack is
+    // an array as deep as the tree is tall.
+    private static class TreeNodeIterator<S, T>
+    {
+        private final TreeNode<S, T>[] stack;
+        private int top;                        // Number of nodes on stack
+
+        @SuppressWarnings("unchecked")
+        private TreeNodeIterator(TreeBucket<S, T> tree)
+        {
+            stack = (TreeNode<S, T>[])new TreeNode[TreeBucket.heightOf(tree.root)];
+            top = 0;
+            pushLeftPath(tree.root);
+        } // end constructor
+
+        private void pushLeftPath(TreeNode<S, T> node)
+        {
+            while (node != null)
+            {
+                stack[top] = node;
+                top++;
+                node = node.left;
+            } // end while
+        } // end pushLeftPath
+
+        private boolean hasNext()
+        {
+            return top > 0;
+        } // end hasNext
+
+        private TreeNode<S, T> next()
+        {
+            top--;
+            TreeNode<S, T> node = stack[top];
+            pushLeftPath(node.right);
+            return node;
+        } // end next
+    } // end TreeNodeIterator
+} // end ChainedHashedDictionary
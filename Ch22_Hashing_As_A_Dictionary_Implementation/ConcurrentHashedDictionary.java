@@ -0,0 +1,539 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+/**
+    A class that implements the ADT dictionary by using hashing and
+    separate chaining, and that can be shared by many threads.
+    The hash table is split into segments, each a smaller hash table with
+    its own lock (lock striping). Operations that change the dictionary
+    lock only the segment of the key involved, so threads that change
+    different segments do not wait for one another. getValue and contains
+    never lock: chains are published through volatile reads and writes,
+    and a segment that is enlarged gets a new table instead of changing
+    the one that readers may be traversing.
+    The iterators are weakly consistent: they never throw an exception
+    because of concurrent changes, and they reflect some, all, or none of
+    the changes made after they were created. getSize is exact only when
+    no other thread is changing the dictionary.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class ConcurrentHashedDictionary<K, V> implements DictionaryInterface<K, V>
+{
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;                 // 32 - log2(segments.length)
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 64; // Number of segments
+    private static final int MAX_SEGMENTS = 1 << 16;
+    private static final int MIN_SEGMENT_TABLE_SIZE = 2;     // Must be a power of 2
+    private static final int MAX_SEGMENT_TABLE_SIZE = 1 << 30;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    public ConcurrentHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    } // end default constructor
+
+    public ConcurrentHashedDictionary(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_CONCURRENCY_LEVEL);
+    } // end constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity   The number of entries the dictionary can
+                                 hold before any segment is enlarged.
+        @param concurrencyLevel  The expected number of threads that change
+                                 the dictionary at the same time; it is
+                                 rounded up to a power of 2 to give the
+                                 number of segments. */
+    public ConcurrentHashedDictionary(int initialCapacity, int concurrencyLevel)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        if (concurrencyLevel <= 0)
+            throw new IllegalArgumentException("Concurrency level must be " +
+                                               "positive: " + concurrencyLevel);
+        int numberOfSegments = 1;
+        while ((numberOfSegments < concurrencyLevel) && (numberOfSegments < MAX_SEGMENTS))
+            numberOfSegments = numberOfSegments << 1;
+        segmentShift = 32 - Integer.numberOfTrailingZeros(numberOfSegments);
+
+        int perSegment = (int)Math.ceil(initialCapacity / MAX_LOAD_FACTOR / numberOfSegments);
+        int segmentTableSize = MIN_SEGMENT_TABLE_SIZE;
+        while ((segmentTableSize < perSegment) && (segmentTableSize < MAX_SEGMENT_TABLE_SIZE))
+            segmentTableSize = segmentTableSize << 1;
+
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        Segment<K, V>[] temp = (Segment<K, V>[])new Segment[numberOfSegments];
+        segments = temp;
+        for (int index = 0; index < numberOfSegments; index++)
+            segments[index] = new Segment<>(segmentTableSize);
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+       exists in the dictionary, replaces the corresponding value.
+       @param key    An object search key of the new entry.
+       @param value  An object associated with the search key.
+       @return  Either null if the new entry was added to the dictionary
+                or the value that was associated with key if that value
+                was replaced. */
+    public V add(K key, V value)
+    {
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).add(hash, key, value, false);
+    } // end add
+
+    /** Adds a new entry to this dictionary only if the given search key is
+        not already in the dictionary. The test and the addition happen as
+        one atomic action.
+        @param key    An object search key of the new entry.
+        @param value  An object associated with the search key.
+        @return  Either null if the new entry was added to the dictionary
+                 or the value already associated with key, which is
+                 left unchanged. */
+    public V addIfAbsent(K key, V value)
+    {
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).add(hash, key, value, true);
+    } // end addIfAbsent
+
+    /** Combines a given value with the value associated with a search key,
+        as one atomic action. If key is not in the dictionary, adds it with
+        the given value. Otherwise, replaces its value with the result of
+        mergeFunction, or removes its entry if that result is null.
+        mergeFunction is called while other changes to part of the
+        dictionary wait, so it should be short and must not change this
+        dictionary.
+        @param key            An object search key.
+        @param value          The value to add or to combine with the
+                              existing value.
+        @param mergeFunction  A function of the existing value and value
+                              that computes the new value.
+        @return  The value now associated with key, or null if its entry
+                 was removed. */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> mergeFunction)
+    {
+        if ((key == null) || (value == null) || (mergeFunction == null))
+            throw new IllegalArgumentException();
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).compute(hash, key,
+                   (k, oldValue) -> (oldValue == null) ? value
+                                                      : mergeFunction.apply(oldValue, value));
+    } // end merge
+
+    /** Computes a new value for a search key from its current value, as
+        one atomic action. If the result is null, the key's entry is
+        removed, or not added. remappingFunction is called while other
+        changes to part of the dictionary wait, so it should be short and
+        must not change this dictionary.
+        @param key                An object search key.
+        @param remappingFunction  A function of key and its current value,
+                                  or null if key has no entry, that computes
+                                  the new value.
+        @return  The value now associated with key, or null if it has none. */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+    {
+        if ((key == null) || (remappingFunction == null))
+            throw new IllegalArgumentException();
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).compute(hash, key, remappingFunction);
+    } // end compute
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).remove(hash, key);
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key. Does not wait for any lock.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).getValue(hash, key);
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary. Does not wait
+        for any lock.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    /** Creates a weakly consistent iterator that traverses all search keys
+        in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates a weakly consistent iterator that traverses all values in
+        this dictionary.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        for (Segment<K, V> segment : segments)
+        {
+            if (segment.count != 0)
+                return false;
+        } // end for
+        return true;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        long sum = 0;
+        for (Segment<K, V> segment : segments)
+            sum = sum + segment.count;
+        return (int)Math.min(sum, Integer.MAX_VALUE);
+    } // end getSize
+
+    /** Removes all entries from this dictionary, one segment at a time. */
+    public void clear()
+    {
+        for (Segment<K, V> segment : segments)
+            segment.clear();
+    } // end clear
+
+    // Mixes the high bits of a hash code into the low bits.
+    private static int spread(int hashCode)
+    {
+        int h = hashCode * 0x9E3779B9;  // 2^32 / phi
+        return h ^ (h >>> 16);
+    } // end spread
+
+    // The high bits of a hash choose a segment; the low bits choose a
+    // location within the segment's table.
+    private Segment<K, V> segmentFor(int hash)
+    {
+        return segments[(segmentShift == 32) ? 0 : (hash >>> segmentShift)];
+    } // end segmentFor
+
+    private static class Node<S, T>
+    {
+        private final int hash;         // Spread hash code of key
+        private final S key;
+        private volatile T value;
+        private volatile Node<S, T> next;
+
+        private Node(int keyHash, S searchKey, T dataValue, Node<S, T> nextNode)
+        {
+            hash = keyHash;
+            key = searchKey;
+            value = dataValue;
+            next = nextNode;
+        } // end constructor
+
+        private boolean matches(int keyHash, Object searchKey)
+        {
+            return (hash == keyHash) && searchKey.equals(key);
+        } // end matches
+    } // end Node
+
+    // A hash table with chained entries and its own lock. Changes lock the
+    // segment; reads do not. Each write to a chain is a single volatile
+    // store, so a reader sees either the chain before or after a change.
+    private static class Segment<S, T> extends ReentrantLock
+    {
+        private static final long serialVersionUID = 1L;
+        private volatile AtomicReferenceArray<Node<S, T>> table;
+        private volatile int count;     // Number of entries in this segment
+        private int resizeThreshold;    // Entries allowed before resize
+
+        private Segment(int tableSize)
+        {
+            setTable(new AtomicReferenceArray<>(tableSize));
+            count = 0;
+        } // end constructor
+
+        private void setTable(AtomicReferenceArray<Node<S, T>> newTable)
+        {
+            if (newTable.length() >= MAX_SEGMENT_TABLE_SIZE)
+                resizeThreshold = Integer.MAX_VALUE;
+            else
+                resizeThreshold = (int)(newTable.length() * MAX_LOAD_FACTOR);
+            table = newTable;
+        } // end setTable
+
+        private T getValue(int hash, Object key)
+        {
+            AtomicReferenceArray<Node<S, T>> currentTable = table;
+            Node<S, T> node = currentTable.get(hash & (currentTable.length() - 1));
+            while (node != null)
+            {
+                if (node.matches(hash, key))
+                    return node.value;
+                node = node.next;
+            } // end while
+            return null;
+        } // end getValue
+
+        // Returns the node in the current table that contains key, or null.
+        // Precondition: the caller holds this segment's lock.
+        private Node<S, T> find(int hash, Object key)
+        {
+            Node<S, T> node = table.get(hash & (table.length() - 1));
+            while ((node != null) && !node.matches(hash, key))
+                node = node.next;
+            return node;
+        } // end find
+
+        private T add(int hash, S key, T value, boolean onlyIfAbsent)
+        {
+            lock();
+            try
+            {
+                Node<S, T> node = find(hash, key);
+                if (node != null)
+                {
+                    T oldValue = node.value;
+                    if (!onlyIfAbsent)
+                        node.value = value;
+                    return oldValue;
+                } // end if
+                addNew(hash, key, value);
+                return null;
+            }
+            finally
+            {
+                unlock();
+            } // end try
+        } // end add
+
+        private T compute(int hash, S key, BiFunction<? super S, ? super T, ? extends T> function)
+        {
+            lock();
+            try
+            {
+                Node<S, T> node = find(hash, key);
+                T oldValue = (node == null) ? null : node.value;
+                T newValue = function.apply(key, oldValue);
+                if (newValue == null)
+                {
+                    if (node != null)
+                        unlink(hash, key);
+                }
+                else if (node != null)
+                    node.value = newValue;
+                else
+                    addNew(hash, key, newValue);
+                return newValue;
+            }
+            finally
+            {
+                unlock();
+            } // end try
+        } // end compute
+
+        private T remove(int hash, Object key)
+        {
+            lock();
+            try
+            {
+                return unlink(hash, key);
+            }
+            finally
+            {
+                unlock();
+            } // end try
+        } // end remove
+
+        private void clear()
+        {
+            lock();
+            try
+            {
+                setTable(new AtomicReferenceArray<>(table.length()));
+                count = 0;
+            }
+            finally
+            {
+                unlock();
+            } // end try
+        } // end clear
+
+        // Adds a new node to the beginning of its chain.
+        // Precondition: the caller holds this segment's lock, and key is
+        // not in the segment.
+        private void addNew(int hash, S key, T value)
+        {
+            if (count >= resizeThreshold)
+                enlargeTable();
+            AtomicReferenceArray<Node<S, T>> currentTable = table;
+            int index = hash & (currentTable.length() - 1);
+            currentTable.set(index, new Node<>(hash, key, value, currentTable.get(index)));
+            count = count + 1;
+        } // end addNew
+
+        // Removes the node containing key and returns its value, or null.
+        // Precondition: the caller holds this segment's lock.
+        private T unlink(int hash, Object key)
+        {
+            AtomicReferenceArray<Node<S, T>> currentTable = table;
+            int index = hash & (currentTable.length() - 1);
+            Node<S, T> previousNode = null;
+            Node<S, T> node = currentTable.get(index);
+            while ((node != null) && !node.matches(hash, key))
+            {
+                previousNode = node;
+                node = node.next;
+            } // end while
+            if (node == null)
+                return null;
+
+            // A reader at node still follows node.next, which is unchanged
+            if (previousNode == null)
+                currentTable.set(index, node.next);
+            else
+                previousNode.next = node.next;
+            count = count - 1;
+            return node.value;
+        } // end unlink
+
+        // Doubles the size of this segment's table. The entries are copied
+        // into new nodes, so readers still traversing the old table see its
+        // chains intact.
+        // Precondition: the caller holds this segment's lock.
+        private void enlargeTable()
+        {
+            AtomicReferenceArray<Node<S, T>> oldTable = table;
+            int oldSize = oldTable.length();
+            if (oldSize >= MAX_SEGMENT_TABLE_SIZE)
+                return;
+            AtomicReferenceArray<Node<S, T>> newTable = new AtomicReferenceArray<>(oldSize << 1);
+            int newMask = newTable.length() - 1;
+            for (int index = 0; index < oldSize; index++)
+            {
+                for (Node<S, T> node = oldTable.get(index); node != null; node = node.next)
+                {
+                    int newIndex = node.hash & newMask;
+                    newTable.set(newIndex, new Node<>(node.hash, node.key, node.value,
+                                                      newTable.get(newIndex)));
+                } // end for
+            } // end for
+            setTable(newTable);
+        } // end enlargeTable
+    } // end Segment
+
+    // Traverses the segments in order, reading each segment's current
+    // table without locking it.
+    private abstract class WeaklyConsistentIterator
+    {
+        private int nextSegmentIndex;                   // Next segment to visit
+        private AtomicReferenceArray<Node<K, V>> currentTable;
+        private int nextTableIndex;                     // Next location in table
+        private Node<K, V> nextNode;                    // Next node to return
+
+        private WeaklyConsistentIterator()
+        {
+            nextSegmentIndex = 0;
+            currentTable = null;
+            nextTableIndex = 0;
+            nextNode = null;
+            advance();
+        } // end constructor
+
+        // Sets nextNode to the next node, or to null at the end.
+        private void advance()
+        {
+            if (nextNode != null)
+                nextNode = nextNode.next;
+            while (nextNode == null)
+            {
+                if ((currentTable != null) && (nextTableIndex < currentTable.length()))
+                {
+                    nextNode = currentTable.get(nextTableIndex);
+                    nextTableIndex++;
+                }
+                else if (nextSegmentIndex < segments.length)
+                {
+                    currentTable = segments[nextSegmentIndex].table;
+                    nextSegmentIndex++;
+                    nextTableIndex = 0;
+                }
+                else
+                    return;     // No more nodes
+            } // end while
+        } // end advance
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        } // end hasNext
+
+        // Returns the next node and advances this iterator past it.
+        // Throws NoSuchElementException if hasNext() is false.
+        Node<K, V> nextEntry()
+        {
+            if (nextNode == null)
+                throw new NoSuchElementException();
+            Node<K, V> result = nextNode;
+            advance();
+            return result;
+        } // end nextEntry
+
+        /** Throws UnsupportedOperationException, since this iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() method is not " +
+                                                    "supported.");
+        } // end remove
+    } // end WeaklyConsistentIterator
+
+    private class KeyIterator extends WeaklyConsistentIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in the dictionary.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return nextEntry().key;
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends WeaklyConsistentIterator implements Iterator<V>
+    {
+        /** Retrieves the next value in the dictionary. If the entry was
+            removed after this iterator reached it, the value it had then
+            is returned.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            return nextEntry().value;
+        } // end next
+    } // end ValueIterator
+} // end ConcurrentHashedDictionary
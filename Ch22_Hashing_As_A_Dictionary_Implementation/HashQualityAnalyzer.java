@@ -0,0 +1,218 @@
+import java.util.Arrays;
+import java.util.Iterator;
+/**
+    A class that measures how well a hash strategy spreads a given set of
+    distinct search keys over a hash table of a given size.
+    A key's hash index is its hash code modulo the table size, with no
+    further mixing, so the report reflects the strategy alone. Power-of-2
+    table sizes use only the low bits of the hash codes and so expose
+    strategies whose low bits are weak.
+*/
+public class HashQualityAnalyzer
+{
+    private HashQualityAnalyzer()
+    {
+    } // end constructor
+
+    /** Analyzes how a hash strategy distributes an array of keys.
+        @param keys       An array of distinct search keys; none is null.
+        @param strategy   The hash strategy to measure.
+        @param tableSize  The number of locations in the hash table; must be
+                          greater than the number of keys.
+        @return  A report of the distribution. */
+    public static <T> Report analyze(T[] keys, HashStrategy<? super T> strategy,
+                                     int tableSize)
+    {
+        return analyze(Arrays.asList(keys).iterator(), strategy, tableSize);
+    } // end analyze
+
+    /** Analyzes how a hash strategy distributes the keys that an iterator,
+        such as a dictionary's key iterator, provides.
+        @param keys       An iterator of distinct search keys; none is null.
+        @param strategy   The hash strategy to measure.
+        @param tableSize  The number of locations in the hash table; must be
+                          greater than the number of keys.
+        @return  A report of the distribution. */
+    public static <T> Report analyze(Iterator<? extends T> keys,
+                                     HashStrategy<? super T> strategy, int tableSize)
+    {
+        if (tableSize <= 0)
+            throw new IllegalArgumentException("Table size must be positive: " +
+                                               tableSize);
+        int[] hashes = new int[16];
+        int numberOfKeys = 0;
+        while (keys.hasNext())
+        {
+            if (numberOfKeys == hashes.length)
+                hashes = Arrays.copyOf(hashes, 2 * hashes.length);
+            hashes[numberOfKeys] = strategy.hash(keys.next());
+            numberOfKeys++;
+        } // end while
+        if (numberOfKeys >= tableSize)
+            throw new IllegalArgumentException("Table size " + tableSize +
+                                               " must exceed the number of keys " +
+                                               numberOfKeys);
+        hashes = Arrays.copyOf(hashes, numberOfKeys);
+
+        // Bucket sizes, as separate chaining would see them
+        int[] bucketSizes = new int[tableSize];
+        for (int hash : hashes)
+            bucketSizes[Math.floorMod(hash, tableSize)]++;
+        int occupiedBuckets = 0;
+        int largestBucket = 0;
+        double chiSquare = 0.0;
+        double expected = (double)numberOfKeys / tableSize;
+        for (int size : bucketSizes)
+        {
+            if (size > 0)
+                occupiedBuckets++;
+            largestBucket = Math.max(largestBucket, size);
+            chiSquare = chiSquare + (size - expected) * (size - expected) / expected;
+        } // end for
+        int[] bucketSizeCounts = new int[largestBucket + 1];
+        for (int size : bucketSizes)
+            bucketSizeCounts[size]++;
+
+        // Probe lengths, as linear probing would see them
+        boolean[] used = new boolean[tableSize];
+        long totalProbes = 0;
+        int longestProbe = 0;
+        for (int hash : hashes)
+        {
+            int index = Math.floorMod(hash, tableSize);
+            int probes = 1;
+            while (used[index])
+            {
+                index = (index + 1) % tableSize;
+                probes++;
+            } // end while
+            used[index] = true;
+            totalProbes = totalProbes + probes;
+            longestProbe = Math.max(longestProbe, probes);
+        } // end for
+
+        // Keys whose full 32-bit hash codes are equal
+        int[] sortedHashes = hashes.clone();
+        Arrays.sort(sortedHashes);
+        int hashCollisions = 0;
+        for (int i = 1; i < numberOfKeys; i++)
+        {
+            if (sortedHashes[i] == sortedHashes[i - 1])
+                hashCollisions++;
+        } // end for
+
+        double averageProbeLength = (numberOfKeys == 0) ? 0.0
+                                                        : (double)totalProbes / numberOfKeys;
+        return new Report(numberOfKeys, tableSize, occupiedBuckets, largestBucket,
+                          bucketSizeCounts, hashCollisions, chiSquare,
+                          averageProbeLength, longestProbe);
+    } // end analyze
+
+    /** The measurements of one analysis. */
+    public static class Report
+    {
+        private final int numberOfKeys;
+        private final int tableSize;
+        private final int occupiedBuckets;
+        private final int largestBucket;
+        private final int[] bucketSizeCounts;
+        private final int hashCollisions;
+        private final double chiSquare;
+        private final double averageProbeLength;
+        private final int longestProbe;
+
+        private Report(int numberOfKeys, int tableSize, int occupiedBuckets,
+                       int largestBucket, int[] bucketSizeCounts, int hashCollisions,
+                       double chiSquare, double averageProbeLength, int longestProbe)
+        {
+            this.numberOfKeys = numberOfKeys;
+            this.tableSize = tableSize;
+            this.occupiedBuckets = occupiedBuckets;
+            this.largestBucket = largestBucket;
+            this.bucketSizeCounts = bucketSizeCounts;
+            this.hashCollisions = hashCollisions;
+            this.chiSquare = chiSquare;
+            this.averageProbeLength = averageProbeLength;
+            this.longestProbe = longestProbe;
+        } // end constructor
+
+        /** @return  The number of keys analyzed. */
+        public int getNumberOfKeys()
+        {
+            return numberOfKeys;
+        } // end getNumberOfKeys
+
+        /** @return  The number of locations in the hash table. */
+        public int getTableSize()
+        {
+            return tableSize;
+        } // end getTableSize
+
+        /** @return  The number of locations that are the hash index of
+                     at least one key. */
+        public int getOccupiedBuckets()
+        {
+            return occupiedBuckets;
+        } // end getOccupiedBuckets
+
+        /** @return  The number of keys whose hash index is already the
+                     hash index of another key. */
+        public int getBucketCollisions()
+        {
+            return numberOfKeys - occupiedBuckets;
+        } // end getBucketCollisions
+
+        /** @return  The largest number of keys that share a hash index. */
+        public int getLargestBucket()
+        {
+            return largestBucket;
+        } // end getLargestBucket
+
+        /** @return  An array whose element at index i is the number of
+                     locations that are the hash index of exactly i keys. */
+        public int[] getBucketSizeCounts()
+        {
+            return bucketSizeCounts.clone();
+        } // end getBucketSizeCounts
+
+        /** @return  The number of keys whose 32-bit hash code equals that
+                     of another key; no table size can separate them. */
+        public int getHashCollisions()
+        {
+            return hashCollisions;
+        } // end getHashCollisions
+
+        /** @return  The chi-square statistic of the bucket sizes against a
+                     uniform distribution. For a good strategy it is close
+                     to the table size. */
+        public double getChiSquare()
+        {
+            return chiSquare;
+        } // end getChiSquare
+
+        /** @return  The average number of locations that a successful search
+                     examines when the keys are added in order to a table
+                     that uses linear probing. */
+        public double getAverageProbeLength()
+        {
+            return averageProbeLength;
+        } // end getAverageProbeLength
+
+        /** @return  The most locations that a successful search examines
+                     under linear probing. */
+        public int getLongestProbe()
+        {
+            return longestProbe;
+        } // end getLongestProbe
+
+        public String toString()
+        {
+            return String.format("keys=%d tableSize=%d occupied=%d bucketCollisions=%d " +
+                                 "largestBucket=%d hashCollisions=%d chiSquare=%.1f " +
+                                 "averageProbe=%.3f longestProbe=%d",
+                                 numberOfKeys, tableSize, occupiedBuckets,
+                                 getBucketCollisions(), largestBucket, hashCollisions,
+                                 chiSquare, averageProbeLength, longestProbe);
+        } // end toString
+    } // end Report
+} // end HashQualityAnalyzer
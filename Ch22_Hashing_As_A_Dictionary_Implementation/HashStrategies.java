@@ -0,0 +1,194 @@
+import java.security.SecureRandom;
+/**
+    A class of static methods that create hash strategies.
+    Strategies that hash the characters of a key do so only for keys that
+    are CharSequences, such as Strings; for other keys they mix the bits of
+    the key's hashCode. Mixing cannot separate keys whose hashCodes are
+    equal, but it spreads keys whose hashCodes differ only slightly.
+*/
+public final class HashStrategies
+{
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final long WY_P0 = 0xA0761D6478BD642FL;
+    private static final long WY_P1 = 0xE7037ED1A0B428DBL;
+    private static final long WY_P2 = 0x8EBC6AF09C88C6E3L;
+
+    private HashStrategies()
+    {
+    } // end constructor
+
+    /** Creates a strategy that uses each key's own hashCode method.
+        @return  The strategy. */
+    public static <T> HashStrategy<T> objectHash()
+    {
+        return new ObjectHash<>();
+    } // end objectHash
+
+    /** Creates a strategy that evaluates the characters of a key as a
+        polynomial in 31 by using Horner's method, as String.hashCode does.
+        @return  The strategy. */
+    public static <T> HashStrategy<T> hornerHash()
+    {
+        return new HornerHash<>();
+    } // end hornerHash
+
+    /** Creates a strategy that uses the 32-bit FNV-1a hash, which folds
+        each byte of a key into the hash with an exclusive or followed by a
+        multiplication.
+        @return  The strategy. */
+    public static <T> HashStrategy<T> fnv1aHash()
+    {
+        return new Fnv1aHash<>();
+    } // end fnv1aHash
+
+    /** Creates a strategy that passes each key's hashCode through the
+        finalization step of MurmurHash3, so every bit of the hashCode
+        affects every bit of the result.
+        @return  The strategy. */
+    public static <T> HashStrategy<T> murmur3Hash()
+    {
+        return new Murmur3Hash<>();
+    } // end murmur3Hash
+
+    /** Creates a strategy in the style of wyhash, which multiplies 64-bit
+        blocks of a key to a 128-bit product and folds the product's halves
+        together.
+        @return  The strategy. */
+    public static <T> HashStrategy<T> wyHash()
+    {
+        return new WyHash<>(0L);
+    } // end wyHash
+
+    /** Creates a wyhash-style strategy whose results depend on a seed that
+        is chosen at random. An adversary who does not know the seed cannot
+        choose CharSequence keys that collide, which resists attacks that
+        flood a dictionary with colliding keys. Two such strategies hash
+        the same key differently.
+        @return  The strategy. */
+    public static <T> HashStrategy<T> seededHash()
+    {
+        return seededHash(new SecureRandom().nextLong());
+    } // end seededHash
+
+    /** Creates a wyhash-style strategy whose results depend on a given seed.
+        @param seed  A value that selects the hash function.
+        @return  The strategy. */
+    public static <T> HashStrategy<T> seededHash(long seed)
+    {
+        return new WyHash<>(seed);
+    } // end seededHash
+
+    private static class ObjectHash<T> implements HashStrategy<T>
+    {
+        public int hash(T key)
+        {
+            return key.hashCode();
+        } // end hash
+    } // end ObjectHash
+
+    private static class HornerHash<T> implements HashStrategy<T>
+    {
+        public int hash(T key)
+        {
+            if (!(key instanceof CharSequence))
+                return key.hashCode();
+            CharSequence s = (CharSequence)key;
+            int hash = 0;
+            int n = s.length();
+            for (int i = 0; i < n; i++)
+                hash = 31 * hash + s.charAt(i);
+            return hash;
+        } // end hash
+    } // end HornerHash
+
+    private static class Fnv1aHash<T> implements HashStrategy<T>
+    {
+        public int hash(T key)
+        {
+            int hash = FNV_OFFSET_BASIS;
+            if (key instanceof CharSequence)
+            {   // Fold in both bytes of each character
+                CharSequence s = (CharSequence)key;
+                int n = s.length();
+                for (int i = 0; i < n; i++)
+                {
+                    char c = s.charAt(i);
+                    hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+                    hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+                } // end for
+            }
+            else
+            {   // Fold in the four bytes of the hashCode
+                int code = key.hashCode();
+                for (int i = 0; i < 4; i++)
+                {
+                    hash = (hash ^ (code & 0xFF)) * FNV_PRIME;
+                    code = code >>> 8;
+                } // end for
+            } // end if
+            return hash;
+        } // end hash
+    } // end Fnv1aHash
+
+    private static class Murmur3Hash<T> implements HashStrategy<T>
+    {
+        // Applies the MurmurHash3 fmix32 finalizer.
+        public int hash(T key)
+        {
+            int hash = key.hashCode();
+            hash = hash ^ (hash >>> 16);
+            hash = hash * 0x85EBCA6B;
+            hash = hash ^ (hash >>> 13);
+            hash = hash * 0xC2B2AE35;
+            hash = hash ^ (hash >>> 16);
+            return hash;
+        } // end hash
+    } // end Murmur3Hash
+
+    private static class WyHash<T> implements HashStrategy<T>
+    {
+        private final long seed;
+        private final long secret;  // Mixed into every block, so that no block
+                                    // value zeroes the product for every seed
+
+        private WyHash(long seed)
+        {
+            this.seed = seed;
+            secret = multiplyAndFold(seed ^ WY_P0, WY_P1) ^ WY_P1;
+        } // end constructor
+
+        public int hash(T key)
+        {
+            long hash = seed ^ WY_P0;
+            if (key instanceof CharSequence)
+            {
+                CharSequence s = (CharSequence)key;
+                int n = s.length();
+                int i = 0;
+                // Four characters make one 64-bit block
+                for (; i + 4 <= n; i = i + 4)
+                {
+                    long block = s.charAt(i) | ((long)s.charAt(i + 1) << 16) |
+                                 ((long)s.charAt(i + 2) << 32) | ((long)s.charAt(i + 3) << 48);
+                    hash = multiplyAndFold(block ^ secret, hash ^ seed);
+                } // end for
+                long lastBlock = 0;
+                for (int shift = 0; i < n; i++, shift = shift + 16)
+                    lastBlock = lastBlock | ((long)s.charAt(i) << shift);
+                hash = multiplyAndFold(lastBlock ^ secret, hash ^ seed ^ n);
+            }
+            else
+                hash = multiplyAndFold((key.hashCode() & 0xFFFFFFFFL) ^ secret, hash ^ seed);
+            // end if
+            hash = multiplyAndFold(hash ^ WY_P2, WY_P1);
+            return (int)(hash ^ (hash >>> 32));
+        } // end hash
+
+        // Multiplies two 64-bit values to 128 bits and folds the halves together.
+        private static long multiplyAndFold(long a, long b)
+        {
+            return Math.multiplyHigh(a, b) ^ (a * b);
+        } // end multiplyAndFold
+    } // end WyHash
+} // end HashStrategies
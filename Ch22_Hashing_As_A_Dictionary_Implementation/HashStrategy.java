@@ -0,0 +1,13 @@
+/**
+    An interface for a function that computes the hash code a hashed
+    dictionary uses for its search keys, in place of the keys' own
+    hashCode methods. HashStrategies provides several implementations.
+*/
+public interface HashStrategy<T>
+{
+    /** Computes the hash code of a search key. Keys that are equal must
+        have the same hash code.
+        @param key  An object search key; not null.
+        @return  The key's hash code. */
+    public int hash(T key);
+} // end HashStrategy
@@ -20,6 +20,7 @@ public class HashedDictionary<K, V> implements DictionaryInterface<K, V>
     private boolean initialized = false;
     private static final double MAX_LOAD_FACTOR = 0.5;  // Fraction of hash table
                                                         // that can be filled
+    private final HashStrategy<? super K> hashStrategy; // Null means use hashCode
     
     public HashedDictionary()
     {
@@ -28,6 +29,17 @@ public class HashedDictionary<K, V> implements DictionaryInterface<K, V>
     
     public HashedDictionary(int initialCapacity) 
     {
+        this(initialCapacity, null);
+    } // end constructor
+    
+    /** Creates an empty dictionary whose keys are hashed by a given strategy
+        instead of by their hashCode methods.
+        @param initialCapacity  The initial size of the hash table.
+        @param hashStrategy     The strategy that computes the keys' hash
+                                codes, or null to use their hashCode methods. */
+    public HashedDictionary(int initialCapacity, HashStrategy<? super K> hashStrategy) 
+    {
+        this.hashStrategy = hashStrategy;
         checkCapacity(initialCapacity);
         numberOfEntries = 0;
 
@@ -231,7 +243,8 @@ public class HashedDictionary<K, V> implements DictionaryInterface<K, V>
     
     private int getHashIndex(K key)
     {
-        int hashIndex = key.hashCode() % hashTable.length;
+        int hashCode = (hashStrategy == null) ? key.hashCode() : hashStrategy.hash(key);
+        int hashIndex = hashCode % hashTable.length;
         if (hashIndex < 0)
             hashIndex = hashIndex + hashTable.length;
         return hashIndex;
@@ -316,7 +329,7 @@ public class HashedDictionary<K, V> implements DictionaryInterface<K, V>
               
         // The cas is safe because the new array contains null entries
         @SuppressWarnings("unchecked")
-        TableEntry<K, V>[] temp = (TableEntry<K, V>[]) new TableEntry[tableSize];
+        TableEntry<K, V>[] temp = (TableEntry<K, V>[]) new TableEntry[newSize];
         hashTable = temp;
         numberOfEntries = 0;    // Reset number of dictionary entries, since
                                 // it will be incremented by add during rehash
@@ -325,7 +338,7 @@ public class HashedDictionary<K, V> implements DictionaryInterface<K, V>
         // skip both null locations and removed entries.
         for (int index = 0; index < oldSize; index++)
         {
-            if (oldTable[index] != null || oldTable[index].isIn())
+            if (oldTable[index] != null && oldTable[index].isIn())
                 add(oldTable[index].getKey(),oldTable[index].getValue());        
         } // end for
     } // end enlargeHashTable
@@ -0,0 +1,114 @@
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+    Copies the entries of one hashed dictionary into a new, empty one by
+    adding them in the order the first dictionary's iterator gives them,
+    and checks that the copy holds the same entries.
+*/
+public class HashedDictionaryCopyTest
+{
+    private static final int NUMBER_OF_KEYS = 100000;
+
+    public static void main(String[] args)
+    {
+        testCopy("ScalableHashedDictionary",
+                 new ScalableHashedDictionary<>(), new ScalableHashedDictionary<>());
+        testCopy("RobinHoodHashedDictionary",
+                 new RobinHoodHashedDictionary<>(), new RobinHoodHashedDictionary<>());
+        testCopy("HopscotchHashedDictionary",
+                 new HopscotchHashedDictionary<>(), new HopscotchHashedDictionary<>());
+        testObjectIntCopy();
+        testIntIntCopy();
+        testLongObjectCopy();
+    } // end main
+
+    // Fills source, copies it into target, and displays the time the copy took.
+    public static void testCopy(String name, DictionaryInterface<String, Integer> source,
+                                DictionaryInterface<String, Integer> target)
+    {
+        for (int i = 0; i < NUMBER_OF_KEYS; i++)
+            source.add("w" + i, i);
+
+        long startTime = System.nanoTime();
+        Iterator<String> keyIterator = source.getKeyIterator();
+        while (keyIterator.hasNext())
+        {
+            String key = keyIterator.next();
+            target.add(key, source.getValue(key));
+        } // end while
+        long elapsedTime = (System.nanoTime() - startTime) / 1000000;
+
+        boolean ok = (target.getSize() == NUMBER_OF_KEYS);
+        for (int i = 0; ok && (i < NUMBER_OF_KEYS); i++)
+            ok = Integer.valueOf(i).equals(target.getValue("w" + i));
+        System.out.println(name + ": copied " + target.getSize() + " keys in " +
+                           elapsedTime + " ms: " + (ok ? "passed" : "FAILED"));
+    } // end testCopy
+
+    public static void testObjectIntCopy()
+    {
+        ObjectIntHashedDictionary<String> source = new ObjectIntHashedDictionary<>();
+        for (int i = 0; i < NUMBER_OF_KEYS; i++)
+            source.add("w" + i, i);
+
+        long startTime = System.nanoTime();
+        ObjectIntHashedDictionary<String> target = new ObjectIntHashedDictionary<>();
+        Iterator<String> keyIterator = source.getKeyIterator();
+        PrimitiveIterator.OfInt valueIterator = source.getValueIterator();
+        while (keyIterator.hasNext())
+            target.add(keyIterator.next(), valueIterator.nextInt());
+        long elapsedTime = (System.nanoTime() - startTime) / 1000000;
+
+        boolean ok = (target.getSize() == NUMBER_OF_KEYS);
+        for (int i = 0; ok && (i < NUMBER_OF_KEYS); i++)
+            ok = (target.getValue("w" + i) == i);
+        System.out.println("ObjectIntHashedDictionary: copied " + target.getSize() +
+                           " keys in " + elapsedTime + " ms: " +
+                           (ok ? "passed" : "FAILED"));
+    } // end testObjectIntCopy
+
+    public static void testIntIntCopy()
+    {
+        IntIntHashedDictionary source = new IntIntHashedDictionary();
+        for (int i = 0; i < NUMBER_OF_KEYS; i++)
+            source.add(i, -i);
+
+        long startTime = System.nanoTime();
+        IntIntHashedDictionary target = new IntIntHashedDictionary();
+        PrimitiveIterator.OfInt keyIterator = source.getKeyIterator();
+        PrimitiveIterator.OfInt valueIterator = source.getValueIterator();
+        while (keyIterator.hasNext())
+            target.add(keyIterator.nextInt(), valueIterator.nextInt());
+        long elapsedTime = (System.nanoTime() - startTime) / 1000000;
+
+        boolean ok = (target.getSize() == NUMBER_OF_KEYS);
+        for (int i = 0; ok && (i < NUMBER_OF_KEYS); i++)
+            ok = (target.getValue(i) == -i);
+        System.out.println("IntIntHashedDictionary: copied " + target.getSize() +
+                           " keys in " + elapsedTime + " ms: " +
+                           (ok ? "passed" : "FAILED"));
+    } // end testIntIntCopy
+
+    public static void testLongObjectCopy()
+    {
+        LongObjectHashedDictionary<String> source = new LongObjectHashedDictionary<>();
+        for (int i = 0; i < NUMBER_OF_KEYS; i++)
+            source.add(i, "w" + i);
+
+        long startTime = System.nanoTime();
+        LongObjectHashedDictionary<String> target = new LongObjectHashedDictionary<>();
+        PrimitiveIterator.OfLong keyIterator = source.getKeyIterator();
+        Iterator<String> valueIterator = source.getValueIterator();
+        while (keyIterator.hasNext())
+            target.add(keyIterator.nextLong(), valueIterator.next());
+        long elapsedTime = (System.nanoTime() - startTime) / 1000000;
+
+        boolean ok = (target.getSize() == NUMBER_OF_KEYS);
+        for (int i = 0; ok && (i < NUMBER_OF_KEYS); i++)
+            ok = ("w" + i).equals(target.getValue(i));
+        System.out.println("LongObjectHashedDictionary: copied " + target.getSize() +
+                           " keys in " + elapsedTime + " ms: " +
+                           (ok ? "passed" : "FAILED"));
+    } // end testLongObjectCopy
+} // end HashedDictionaryCopyTest
@@ -0,0 +1,537 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+    A class that implements the ADT dictionary by using hopscotch hashing to
+    resolve collisions.
+    Every entry lies within a fixed neighborhood of NEIGHBORHOOD_SIZE
+    locations that begins at its home location, and each home location keeps
+    a bitmap of which locations in its neighborhood hold its entries. A search
+    examines only those locations, so its probe length is bounded even at
+    load factors well above 0.5. An add that finds an empty location outside
+    the neighborhood hops entries closer, each within its own neighborhood,
+    until the empty location is close enough; if it cannot, the table is
+    enlarged. A removal just clears a location and its bit, so the table
+    never contains locations in the removed state.
+    The hash table's size is a power of two.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class HopscotchHashedDictionary<K, V> implements ProbeStatisticsInterface<K, V>
+{
+    // The dictionary:
+    private int numberOfEntries;
+    private static final int DEFAULT_CAPACITY = 32; // Must be a power of 2 and
+                                                    // at least NEIGHBORHOOD_SIZE
+    private static final int NEIGHBORHOOD_SIZE = 32;    // Bits in hopInfo element
+    private static final int MAX_ADD_DISTANCE = 1024;   // Farthest empty location
+                                                        // an add looks for
+    private static final int MAX_ADD_ENLARGEMENTS = 4;  // Doublings an add may
+                                                        // cause before failing
+
+    // The hash table, stored as parallel arrays; a null key marks an
+    // empty location:
+    private K[] keys;
+    private V[] values;
+    private int[] hashes;                           // Spread hash codes of keys
+    private int[] hopInfo;                          // Bit i of hopInfo[h] is set if
+                                                    // location h + i holds an
+                                                    // entry whose home is h
+    private int mask;                               // keys.length - 1
+    private final int seed;                         // Mixed into every hash code
+    private boolean initialized = false;
+    private final double maxLoadFactor;
+    private int resizeThreshold;                    // Entries allowed before resize
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.9;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+
+    public HopscotchHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    public HopscotchHashedDictionary(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_MAX_LOAD_FACTOR);
+    } // end constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be filled before it is enlarged; must be
+                                greater than 0 and less than 1. */
+    public HopscotchHashedDictionary(int initialCapacity, double maxLoadFactor)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        if (!(maxLoadFactor > 0.0 && maxLoadFactor < 1.0))
+            throw new IllegalArgumentException("Load factor must be between " +
+                                               "0 and 1: " + maxLoadFactor);
+        this.maxLoadFactor = maxLoadFactor;
+        numberOfEntries = 0;
+        seed = ThreadLocalRandom.current().nextInt();
+        allocateTable(getTableSizeFor((long)Math.ceil(initialCapacity / maxLoadFactor) + 1));
+        initialized = true;
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+       exists in the dictionary, replaces the corresponding value.
+       @param key    An object search key of the new entry.
+       @param value  An object associated with the search key.
+       @return  Either null if the new entry was added to the dictionary
+                or the value that was associated with key if that value
+                was replaced.
+       @throws IllegalStateException if NEIGHBORHOOD_SIZE keys already in
+               the dictionary have the same hash code as key, or if the
+               new entry or one already in the table still does not fit
+               after the table has been doubled MAX_ADD_ENLARGEMENTS times.
+               The dictionary keeps all of its entries in either case. */
+    public V add(K key, V value)
+    {
+        checkInitialization();
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        else
+        {
+            int hash = spread(key.hashCode());
+            int index = locate(key, hash);
+            if (index >= 0)
+            {   // Key found; get old value for return and then replace it
+                V oldValue = values[index];
+                values[index] = value;
+                return oldValue;
+            } // end if
+
+            // Key not found; add new entry to dictionary
+            int enlargements = 0;
+            if (numberOfEntries >= resizeThreshold)
+                enlargements = enlargeHashTable(MAX_ADD_ENLARGEMENTS);
+            while (!insert(key, value, hash))
+            {
+                if (isNeighborhoodFullOf(hash))
+                    throw new IllegalStateException("Cannot add a key: " +
+                                                    NEIGHBORHOOD_SIZE + " keys " +
+                                                    "already share its hash code.");
+                if (enlargements == MAX_ADD_ENLARGEMENTS)
+                    throw tooManyEnlargements();
+                enlargements = enlargements +
+                               enlargeHashTable(MAX_ADD_ENLARGEMENTS - enlargements);
+            } // end while
+            numberOfEntries++;
+            return null;
+        } // end if
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        checkInitialization();
+        V removedValue = null;
+        int index = locate(key, spread(key.hashCode()));
+        if (index >= 0)
+        {   // Key found; remove entry and return its value
+            removedValue = values[index];
+            int home = getHashIndex(hashes[index]);
+            hopInfo[home] &= ~(1 << getDisplacement(index));
+            keys[index] = null;
+            values[index] = null;
+            numberOfEntries--;
+        } // end if
+        // Else key not found; return null
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        checkInitialization();
+        V result = null;
+        int index = locate(key, spread(key.hashCode()));
+        if (index >= 0)
+            result = values[index];     // Key found; get value
+        // Else key not found; return null
+        return result;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        checkInitialization();
+        return locate(key, spread(key.hashCode())) >= 0;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. The hash table keeps its
+        current size. */
+    public void clear()
+    {
+        checkInitialization();
+        for (int index = 0; index < keys.length; index++)
+        {
+            keys[index] = null;
+            values[index] = null;
+            hopInfo[index] = 0;
+        } // end for
+        numberOfEntries = 0;
+    } // end clear
+
+    /** Counts the entries in this dictionary by probe length. Since a search
+        examines only the locations flagged in the home location's bitmap,
+        an entry's probe length is one more than the number of entries of
+        the same home that lie before it.
+        @return  An array whose element at index i is the number of entries
+                 found after i + 1 probes. */
+    public int[] getProbeLengthHistogram()
+    {
+        checkInitialization();
+        int[] histogram = new int[NEIGHBORHOOD_SIZE];
+        int longest = 0;
+        for (int index = 0; index < keys.length; index++)
+        {
+            if (keys[index] != null)
+            {
+                int home = getHashIndex(hashes[index]);
+                int earlierBits = hopInfo[home] & ((1 << getDisplacement(index)) - 1);
+                int probes = Integer.bitCount(earlierBits) + 1;
+                histogram[probes - 1]++;
+                longest = Math.max(longest, probes);
+            } // end if
+        } // end for
+        return Arrays.copyOf(histogram, longest);
+    } // end getProbeLengthHistogram
+
+    /** Gets the fraction of the hash table that currently holds entries.
+        @return  The number of entries divided by the hash table's length. */
+    public double getLoadFactor()
+    {
+        return (double)numberOfEntries / keys.length;
+    } // end getLoadFactor
+
+    // Throws an exception if this object is not initialized.
+    private void checkInitialization()
+    {
+        if (!initialized)
+            throw new SecurityException("HopscotchHashedDictionary object is corrupt.");
+    } // end checkInitialization
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    // Creates an empty hash table of the given size, which must be a power of 2.
+    private void allocateTable(int tableSize)
+    {
+        assert (Integer.bitCount(tableSize) == 1) && (tableSize >= NEIGHBORHOOD_SIZE);
+        // The casts are safe because the new arrays contain null entries
+        @SuppressWarnings("unchecked")
+        K[] tempKeys = (K[])new Object[tableSize];
+        @SuppressWarnings("unchecked")
+        V[] tempValues = (V[])new Object[tableSize];
+        useTable(tempKeys, tempValues, new int[tableSize], new int[tableSize]);
+    } // end allocateTable
+
+    // Makes the given parallel arrays the hash table.
+    private void useTable(K[] newKeys, V[] newValues, int[] newHashes, int[] newHopInfo)
+    {
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        hopInfo = newHopInfo;
+        int tableSize = newKeys.length;
+        mask = tableSize - 1;
+        if (tableSize == MAX_SIZE)
+            resizeThreshold = tableSize - 1;    // Cannot grow; fill what fits
+        else
+            resizeThreshold = (int)(tableSize * maxLoadFactor);
+    } // end useTable
+
+    // Scrambles a hash code, together with this dictionary's seed, so that
+    // each of its low bits depends on all of its bits. The mapping is
+    // one-to-one, so keys whose spread hash codes are equal also have equal
+    // hash codes.
+    private int spread(int hashCode)
+    {
+        int h = hashCode ^ seed;
+        h = h ^ (h >>> 16);
+        h = h * 0x85EBCA6B;
+        h = h ^ (h >>> 13);
+        h = h * 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    } // end spread
+
+    // Indexes a power-of-2 table by the low bits of a spread hash code.
+    // Entries lie in the table roughly in order of these bits. Since each
+    // dictionary has its own seed, adding the keys of one dictionary to
+    // another, in the order its iterator gives them, sends consecutive keys
+    // to unrelated home locations rather than crowding them together.
+    private int getHashIndex(int hash)
+    {
+        return hash & mask;
+    } // end getHashIndex
+
+    // Returns how many locations the entry at index lies beyond its home
+    // location, which is also its bit's position in the home's bitmap.
+    private int getDisplacement(int index)
+    {
+        return (index - getHashIndex(hashes[index])) & mask;
+    } // end getDisplacement
+
+    // Searches the neighborhood of key's home location and returns either
+    // the index of the entry containing key or -1, if no such entry exists.
+    // Only the locations whose bits are set in the home's bitmap are examined.
+    private int locate(K key, int hash)
+    {
+        int home = getHashIndex(hash);
+        int bits = hopInfo[home];
+        while (bits != 0)
+        {
+            int index = (home + Integer.numberOfTrailingZeros(bits)) & mask;
+            if ((hashes[index] == hash) && key.equals(keys[index]))
+                return index;                   // Key found
+            bits = bits & (bits - 1);           // Clear lowest set bit
+        } // end while
+        return -1;
+    } // end locate
+
+    // Places a new entry, which must not already be in the table, within the
+    // neighborhood of its home location. Returns false if that is not
+    // possible without enlarging the table.
+    private boolean insert(K key, V value, int hash)
+    {
+        int home = getHashIndex(hash);
+
+        // Find the nearest empty location by linear probing
+        int free = home;
+        int distance = 0;
+        int limit = Math.min(MAX_ADD_DISTANCE, keys.length);
+        while (keys[free] != null)
+        {
+            free = (free + 1) & mask;
+            distance++;
+            if (distance >= limit)
+                return false;
+        } // end while
+
+        // Hop the empty location back until it is in home's neighborhood
+        while (distance >= NEIGHBORHOOD_SIZE)
+        {
+            int newFree = moveCloser(free);
+            if (newFree == -1)
+                return false;
+            distance = distance - ((free - newFree) & mask);
+            free = newFree;
+        } // end while
+
+        keys[free] = key;
+        values[free] = value;
+        hashes[free] = hash;
+        hopInfo[home] |= 1 << distance;
+        return true;
+    } // end insert
+
+    // Sees whether the neighborhood of hash's home location is full of
+    // entries with that same hash, which no larger table could separate.
+    private boolean isNeighborhoodFullOf(int hash)
+    {
+        int home = getHashIndex(hash);
+        if (hopInfo[home] != -1)
+            return false;
+        for (int offset = 0; offset < NEIGHBORHOOD_SIZE; offset++)
+        {
+            if (hashes[(home + offset) & mask] != hash)
+                return false;
+        } // end for
+        return true;
+    } // end isNeighborhoodFullOf
+
+    // Moves into the empty location free an entry that lies before it and
+    // whose neighborhood still covers free, choosing the entry farthest back.
+    // Returns the index of the location that entry vacated, or -1 if no
+    // entry can be moved.
+    private int moveCloser(int free)
+    {
+        for (int back = NEIGHBORHOOD_SIZE - 1; back > 0; back--)
+        {
+            int home = (free - back) & mask;
+            // Entries of home that lie before free, at offsets less than back
+            int candidates = hopInfo[home] & ((1 << back) - 1);
+            if (candidates != 0)
+            {
+                int offset = Integer.numberOfTrailingZeros(candidates);
+                int from = (home + offset) & mask;
+                keys[free] = keys[from];
+                values[free] = values[from];
+                hashes[free] = hashes[from];
+                keys[from] = null;
+                values[from] = null;
+                hopInfo[home] = (hopInfo[home] & ~(1 << offset)) | (1 << back);
+                return from;
+            } // end if
+        } // end for
+        return -1;
+    } // end moveCloser
+
+    // Doubles the size of the hash table and reinserts the current entries.
+    // Doubles again in the rare case that some entry does not fit within
+    // its neighborhood, but at most maxDoublings times in all. Returns the
+    // number of doublings. If the entries still do not fit, or the table
+    // would exceed MAX_SIZE, restores the original table and throws an
+    // IllegalStateException.
+    private int enlargeHashTable(int maxDoublings)
+    {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        int[] oldHashes = hashes;
+        int[] oldHopInfo = hopInfo;
+        int newSize = oldKeys.length;
+        int doublings = 0;
+        boolean allInserted = false;
+        while (!allInserted)
+        {
+            if (doublings == maxDoublings)
+            {
+                useTable(oldKeys, oldValues, oldHashes, oldHopInfo);
+                throw tooManyEnlargements();
+            } // end if
+            try
+            {
+                newSize = getTableSizeFor((long)newSize << 1);
+            }
+            catch (IllegalStateException e)
+            {
+                useTable(oldKeys, oldValues, oldHashes, oldHopInfo);
+                throw e;
+            } // end try
+            allocateTable(newSize);
+            doublings++;
+            allInserted = true;
+            for (int index = 0; allInserted && (index < oldKeys.length); index++)
+            {
+                if (oldKeys[index] != null)
+                    allInserted = insert(oldKeys[index], oldValues[index], oldHashes[index]);
+            } // end for
+        } // end while
+        return doublings;
+    } // end enlargeHashTable
+
+    private static IllegalStateException tooManyEnlargements()
+    {
+        return new IllegalStateException("Cannot add a key: no room in a " +
+                                         "neighborhood after " +
+                                         MAX_ADD_ENLARGEMENTS + " enlargements.");
+    } // end tooManyEnlargements
+
+    private abstract class TableIterator
+    {
+        private int currentIndex; // Current position in hash table
+        private int numberLeft;   // Number of entries left in iteration
+
+        private TableIterator()
+        {
+            currentIndex = 0;
+            numberLeft = numberOfEntries;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Returns the index of the next entry in the hash table.
+        // Throws NoSuchElementException if hasNext() is false.
+        int nextIndex()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while (keys[currentIndex] == null)
+                currentIndex++;
+            numberLeft--;
+            currentIndex++;
+            return currentIndex - 1;
+        } // end nextIndex
+
+        /** Throws UnsupportedOperationException, since this iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() method is not " +
+                                                    "supported.");
+        } // end remove
+    } // end TableIterator
+
+    private class KeyIterator extends TableIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in the dictionary.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return keys[nextIndex()];
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends TableIterator implements Iterator<V>
+    {
+        /** Retrieves the next value in the dictionary.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            return values[nextIndex()];
+        } // end next
+    } // end ValueIterator
+} // end HopscotchHashedDictionary
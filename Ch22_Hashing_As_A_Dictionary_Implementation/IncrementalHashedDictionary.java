@@ -0,0 +1,409 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+/**
+    A class that implements the ADT dictionary by using hashing and
+    separate chaining, and that enlarges its hash table incrementally.
+    When the table becomes too full, a table twice as large is created, but
+    the entries are not all moved at once. Instead, the old and new tables
+    are kept side by side, and each add or remove moves the chains of at
+    most MIGRATION_STEP locations of the old table into the new one. No
+    single operation therefore pays for rehashing the whole dictionary.
+    While the migration is under way, searches examine both tables.
+    Searches never move entries, so an iterator stays valid as long as
+    no entries are added or removed.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class IncrementalHashedDictionary<K, V> implements DictionaryInterface<K, V>
+{
+    // The dictionary:
+    private int numberOfEntries;
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of 2
+
+    // The hash tables:
+    private Node<K, V>[] hashTable;                 // Table that receives adds
+    private Node<K, V>[] oldTable;                  // Table being emptied, or null
+    private int migrationIndex;                     // Next location of oldTable
+                                                    // to move
+    private boolean initialized = false;
+    private int resizeThreshold;                    // Entries allowed before resize
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+    private static final int MIGRATION_STEP = 4;    // Nonempty locations moved
+                                                    // per add or remove
+    private static final int MAX_EMPTY_VISITS = 10 * MIGRATION_STEP; // Empty
+                                                    // locations skipped per step
+
+    public IncrementalHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged. */
+    public IncrementalHashedDictionary(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        numberOfEntries = 0;
+        hashTable = newTable(getTableSizeFor((long)Math.ceil(initialCapacity / MAX_LOAD_FACTOR)));
+        setResizeThreshold();
+        oldTable = null;
+        migrationIndex = 0;
+        initialized = true;
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+       exists in the dictionary, replaces the corresponding value.
+       @param key    An object search key of the new entry.
+       @param value  An object associated with the search key.
+       @return  Either null if the new entry was added to the dictionary
+                or the value that was associated with key if that value
+                was replaced. */
+    public V add(K key, V value)
+    {
+        checkInitialization();
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        else
+        {
+            migrateStep();
+            int hash = spread(key.hashCode());
+            Node<K, V> node = find(hash, key);
+            if (node != null)
+            {   // Key found; get old value for return and then replace it
+                V oldValue = node.value;
+                node.value = value;
+                return oldValue;
+            } // end if
+
+            // Key not found; add new entry to the table that receives adds
+            int index = hash & (hashTable.length - 1);
+            hashTable[index] = new Node<>(hash, key, value, hashTable[index]);
+            numberOfEntries++;
+            if (numberOfEntries > resizeThreshold)
+                startMigration();
+            return null;
+        } // end if
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        checkInitialization();
+        migrateStep();
+        int hash = spread(key.hashCode());
+        V removedValue = unlink(hashTable, hash, key);
+        if ((removedValue == null) && (oldTable != null))
+            removedValue = unlink(oldTable, hash, key);
+        if (removedValue != null)
+            numberOfEntries--;
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        checkInitialization();
+        Node<K, V> node = find(spread(key.hashCode()), key);
+        return (node == null) ? null : node.value;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. Any migration under way
+        is abandoned, and the larger table is kept. */
+    public void clear()
+    {
+        checkInitialization();
+        hashTable = newTable(hashTable.length);
+        oldTable = null;
+        migrationIndex = 0;
+        numberOfEntries = 0;
+    } // end clear
+
+    /** Sees whether entries are still being moved into an enlarged table.
+        @return  True if the old and new hash tables are both in use. */
+    public boolean isMigrating()
+    {
+        return oldTable != null;
+    } // end isMigrating
+
+    // Throws an exception if this object is not initialized.
+    private void checkInitialization()
+    {
+        if (!initialized)
+            throw new SecurityException("IncrementalHashedDictionary object is corrupt.");
+    } // end checkInitialization
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    private Node<K, V>[] newTable(int tableSize)
+    {
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        Node<K, V>[] temp = (Node<K, V>[])new Node[tableSize];
+        return temp;
+    } // end newTable
+
+    private void setResizeThreshold()
+    {
+        if (hashTable.length == MAX_SIZE)
+            resizeThreshold = Integer.MAX_VALUE;    // Cannot grow; chains lengthen
+        else
+            resizeThreshold = (int)(hashTable.length * MAX_LOAD_FACTOR);
+    } // end setResizeThreshold
+
+    // Mixes the high bits of a hash code into the low bits, since only the
+    // low bits select a location.
+    private static int spread(int hashCode)
+    {
+        return hashCode ^ (hashCode >>> 16);
+    } // end spread
+
+    // Returns the node containing key in either table, or null.
+    private Node<K, V> find(int hash, Object key)
+    {
+        Node<K, V> node = findInTable(hashTable, hash, key);
+        if ((node == null) && (oldTable != null))
+            node = findInTable(oldTable, hash, key);
+        return node;
+    } // end find
+
+    private static <S, T> Node<S, T> findInTable(Node<S, T>[] table, int hash, Object key)
+    {
+        Node<S, T> node = table[hash & (table.length - 1)];
+        while ((node != null) && !node.matches(hash, key))
+            node = node.next;
+        return node;
+    } // end findInTable
+
+    // Removes the node containing key from a table and returns its value,
+    // or null if key is not in the table.
+    private static <S, T> T unlink(Node<S, T>[] table, int hash, Object key)
+    {
+        int index = hash & (table.length - 1);
+        Node<S, T> previousNode = null;
+        Node<S, T> node = table[index];
+        while ((node != null) && !node.matches(hash, key))
+        {
+            previousNode = node;
+            node = node.next;
+        } // end while
+        if (node == null)
+            return null;
+        if (previousNode == null)
+            table[index] = node.next;
+        else
+            previousNode.next = node.next;
+        return node.value;
+    } // end unlink
+
+    // Begins moving entries into a table twice as large. A migration that
+    // is still under way is finished first.
+    private void startMigration()
+    {
+        if (hashTable.length >= MAX_SIZE)
+            return;
+        while (oldTable != null)
+            migrateStep();
+        oldTable = hashTable;
+        hashTable = newTable(getTableSizeFor((long)oldTable.length << 1));
+        setResizeThreshold();
+        migrationIndex = 0;
+    } // end startMigration
+
+    // Moves the chains of up to MIGRATION_STEP nonempty locations of the
+    // old table into the new table, skipping at most MAX_EMPTY_VISITS empty
+    // locations. Ends the migration when the old table is empty.
+    private void migrateStep()
+    {
+        if (oldTable == null)
+            return;
+        int moved = 0;
+        int emptyVisits = 0;
+        int newMask = hashTable.length - 1;
+        while ((moved < MIGRATION_STEP) && (emptyVisits < MAX_EMPTY_VISITS) &&
+               (migrationIndex < oldTable.length))
+        {
+            Node<K, V> node = oldTable[migrationIndex];
+            if (node == null)
+                emptyVisits++;
+            else
+            {   // Relink each node into the new table; nothing is allocated
+                while (node != null)
+                {
+                    Node<K, V> nextNode = node.next;
+                    int newIndex = node.hash & newMask;
+                    node.next = hashTable[newIndex];
+                    hashTable[newIndex] = node;
+                    node = nextNode;
+                } // end while
+                oldTable[migrationIndex] = null;
+                moved++;
+            } // end if
+            migrationIndex++;
+        } // end while
+
+        if (migrationIndex >= oldTable.length)
+        {   // Migration is complete
+            oldTable = null;
+            migrationIndex = 0;
+        } // end if
+    } // end migrateStep
+
+    // Traverses the new table and then what remains of the old one.
+    private abstract class TableIterator
+    {
+        private Node<K, V>[] currentTable;
+        private int nextIndex;          // Next location of currentTable
+        private Node<K, V> nextNode;    // Next node to return
+        private int numberLeft;         // Number of entries left in iteration
+
+        private TableIterator()
+        {
+            currentTable = hashTable;
+            nextIndex = 0;
+            nextNode = null;
+            numberLeft = numberOfEntries;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Returns the next node.
+        // Throws NoSuchElementException if hasNext() is false.
+        Node<K, V> nextEntry()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while (nextNode == null)
+            {
+                if (nextIndex >= currentTable.length)
+                {   // New table is done; only the old one can remain
+                    currentTable = oldTable;
+                    nextIndex = 0;
+                } // end if
+                nextNode = currentTable[nextIndex];
+                nextIndex++;
+            } // end while
+            Node<K, V> result = nextNode;
+            nextNode = nextNode.next;
+            numberLeft--;
+            return result;
+        } // end nextEntry
+
+        /** Throws UnsupportedOperationException, since this iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() method is not " +
+                                                    "supported.");
+        } // end remove
+    } // end TableIterator
+
+    private class KeyIterator extends TableIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in the dictionary.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return nextEntry().key;
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends TableIterator implements Iterator<V>
+    {
+        /** Retrieves the next value in the dictionary.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            return nextEntry().value;
+        } // end next
+    } // end ValueIterator
+
+    private static class Node<S, T>
+    {
+        private final int hash;     // Spread hash code of key
+        private final S key;
+        private T value;
+        private Node<S, T> next;
+
+        private Node(int keyHash, S searchKey, T dataValue, Node<S, T> nextNode)
+        {
+            hash = keyHash;
+            key = searchKey;
+            value = dataValue;
+            next = nextNode;
+        } // end constructor
+
+        private boolean matches(int keyHash, Object searchKey)
+        {
+            return (hash == keyHash) && searchKey.equals(key);
+        } // end matches
+    } // end Node
+} // end IncrementalHashedDictionary
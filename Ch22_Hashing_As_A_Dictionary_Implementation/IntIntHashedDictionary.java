@@ -0,0 +1,381 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+    A class that implements a dictionary of int search keys and int values
+    by using hashing and linear probing to resolve collisions.
+    Keys and values are kept in two int arrays, so no entry or wrapper
+    objects are created. Key 0 marks an empty location in the key array,
+    so an entry whose key is 0 is kept apart from the table. A removal
+    shifts the following entries of its probe sequence back instead of
+    leaving a removed entry behind.
+    Methods that find no entry for a key return the dictionary's
+    missing value, which is 0 unless given to the constructor.
+    The hash table's size is a power of two.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class IntIntHashedDictionary
+{
+    // The dictionary:
+    private int numberOfEntries;                    // Includes entry for key 0
+    private boolean hasZeroKey;                     // True if key 0 is present
+    private int zeroKeyValue;                       // Value of key 0
+    private final int missingValue;                 // Returned when no entry
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of 2
+
+    // The hash table:
+    private int[] keys;                             // 0 marks an empty location
+    private int[] values;
+    private int mask;                               // keys.length - 1
+    private final int seed;                         // Mixed into every key
+    private final double maxLoadFactor;
+    private int resizeThreshold;                    // Entries allowed before resize
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+
+    public IntIntHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    public IntIntHashedDictionary(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_MAX_LOAD_FACTOR, 0);
+    } // end constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be filled before it is enlarged; must be
+                                greater than 0 and less than 1.
+        @param missingValue     The value that methods return when a key
+                                has no entry. */
+    public IntIntHashedDictionary(int initialCapacity, double maxLoadFactor,
+                                  int missingValue)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        if (!(maxLoadFactor > 0.0 && maxLoadFactor < 1.0))
+            throw new IllegalArgumentException("Load factor must be between " +
+                                               "0 and 1: " + maxLoadFactor);
+        this.maxLoadFactor = maxLoadFactor;
+        this.missingValue = missingValue;
+        numberOfEntries = 0;
+        seed = ThreadLocalRandom.current().nextInt();
+        hasZeroKey = false;
+        allocateTable(getTableSizeFor((long)Math.ceil(initialCapacity / maxLoadFactor) + 1));
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+        exists in the dictionary, replaces the corresponding value.
+        @param key    The search key of the new entry.
+        @param value  The value associated with the search key.
+        @return  Either the missing value if the new entry was added to the
+                 dictionary or the value that was associated with key if
+                 that value was replaced. */
+    public int add(int key, int value)
+    {
+        if (key == 0)
+        {
+            int oldValue = hasZeroKey ? zeroKeyValue : missingValue;
+            if (!hasZeroKey)
+            {
+                hasZeroKey = true;
+                numberOfEntries++;
+            } // end if
+            zeroKeyValue = value;
+            return oldValue;
+        } // end if
+
+        int index = probe(key);
+        if (keys[index] == key)
+        {   // Key found; get old value for return and then replace it
+            int oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        } // end if
+
+        // Key not found; add new entry at the empty location
+        insertAt(index, key, value);
+        return missingValue;
+    } // end add
+
+    /** Adds delta to the value associated with a given search key. If the
+        key is not in the dictionary, adds it with the value delta.
+        @param key    The search key of the entry to change.
+        @param delta  The amount to add to the entry's value.
+        @return  The entry's new value. */
+    public int addTo(int key, int delta)
+    {
+        if (key == 0)
+        {
+            if (hasZeroKey)
+                zeroKeyValue += delta;
+            else
+            {
+                hasZeroKey = true;
+                zeroKeyValue = delta;
+                numberOfEntries++;
+            } // end if
+            return zeroKeyValue;
+        } // end if
+
+        int index = probe(key);
+        if (keys[index] == key)
+        {
+            values[index] += delta;
+            return values[index];
+        } // end if
+        insertAt(index, key, delta);
+        return delta;
+    } // end addTo
+
+    /** Removes a specific entry from this dictionary.
+        @param key  The search key of the entry to be removed.
+        @return  Either the value that was associated with the search key
+                 or the missing value if no such entry exists. */
+    public int remove(int key)
+    {
+        int removedValue = missingValue;
+        if (key == 0)
+        {
+            if (hasZeroKey)
+            {
+                removedValue = zeroKeyValue;
+                hasZeroKey = false;
+                numberOfEntries--;
+            } // end if
+        }
+        else
+        {
+            int index = probe(key);
+            if (keys[index] == key)
+            {   // Key found; remove entry and return its value
+                removedValue = values[index];
+                closeGap(index);
+                numberOfEntries--;
+            } // end if
+        } // end if
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key  The search key of the entry to be retrieved.
+        @return  Either the value that is associated with the search key
+                 or the missing value if no such entry exists. */
+    public int getValue(int key)
+    {
+        if (key == 0)
+            return hasZeroKey ? zeroKeyValue : missingValue;
+        int index = probe(key);
+        return (keys[index] == key) ? values[index] : missingValue;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  The search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(int key)
+    {
+        if (key == 0)
+            return hasZeroKey;
+        return keys[probe(key)] == key;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator whose nextInt method returns each key
+                 without boxing it. */
+    public PrimitiveIterator.OfInt getKeyIterator()
+    {
+        return new TableIterator(true);
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        The values are in the same order as the keys of getKeyIterator.
+        @return  An iterator whose nextInt method returns each value
+                 without boxing it. */
+    public PrimitiveIterator.OfInt getValueIterator()
+    {
+        return new TableIterator(false);
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Gets the value that methods return when a key has no entry.
+        @return  The missing value given to the constructor. */
+    public int getMissingValue()
+    {
+        return missingValue;
+    } // end getMissingValue
+
+    /** Removes all entries from this dictionary. The hash table keeps its
+        current size. */
+    public void clear()
+    {
+        for (int index = 0; index < keys.length; index++)
+            keys[index] = 0;
+        numberOfEntries = 0;
+        hasZeroKey = false;
+    } // end clear
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    // Creates an empty hash table of the given size, which must be a power of 2.
+    private void allocateTable(int tableSize)
+    {
+        assert Integer.bitCount(tableSize) == 1;
+        keys = new int[tableSize];
+        values = new int[tableSize];
+        mask = tableSize - 1;
+        if (tableSize == MAX_SIZE)
+            resizeThreshold = tableSize - 1;    // Cannot grow; keep one empty
+        else
+            resizeThreshold = (int)(tableSize * maxLoadFactor);
+    } // end allocateTable
+
+    // Scrambles a key, together with this dictionary's seed, so that each
+    // low bit of the result depends on all of the key's bits, and indexes a
+    // power-of-2 table by those low bits. Since each dictionary has its own
+    // seed, adding the keys of one dictionary to another, in the order its
+    // iterator gives them, sends consecutive keys to unrelated home locations.
+    private int getHashIndex(int key)
+    {
+        int h = key ^ seed;
+        h = h ^ (h >>> 16);
+        h = h * 0x85EBCA6B;
+        h = h ^ (h >>> 13);
+        h = h * 0xC2B2AE35;
+        return (h ^ (h >>> 16)) & mask;
+    } // end getHashIndex
+
+    // Searches the probe sequence for a nonzero key. Returns either the
+    // index of the entry containing key or the index of the empty location
+    // that ends the probe sequence.
+    private int probe(int key)
+    {
+        int index = getHashIndex(key);
+        while ((keys[index] != 0) && (keys[index] != key))
+            index = (index + 1) & mask; // Linear probing (circular)
+        return index;
+    } // end probe
+
+    // Adds a new entry at the empty location index, which probe returned.
+    private void insertAt(int index, int key, int value)
+    {
+        keys[index] = key;
+        values[index] = value;
+        numberOfEntries++;
+        if (numberOfEntries - (hasZeroKey ? 1 : 0) > resizeThreshold)
+            enlargeHashTable();
+    } // end insertAt
+
+    // Empties the location at index and moves back any later entry of the
+    // same run whose home location would otherwise be cut off from it.
+    private void closeGap(int gap)
+    {
+        int index = (gap + 1) & mask;
+        while (keys[index] != 0)
+        {
+            int home = getHashIndex(keys[index]);
+            // The entry can fill the gap if its home is not strictly
+            // between the gap and its own location (circularly)
+            if (((index - home) & mask) >= ((index - gap) & mask))
+            {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            } // end if
+            index = (index + 1) & mask;
+        } // end while
+        keys[gap] = 0;
+    } // end closeGap
+
+    // Doubles the size of the hash table and reinserts the current entries.
+    private void enlargeHashTable()
+    {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocateTable(getTableSizeFor((long)oldKeys.length << 1));
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++)
+        {
+            int key = oldKeys[oldIndex];
+            if (key != 0)
+            {
+                int index = getHashIndex(key);
+                while (keys[index] != 0)
+                    index = (index + 1) & mask;
+                keys[index] = key;
+                values[index] = oldValues[oldIndex];
+            } // end if
+        } // end for
+    } // end enlargeHashTable
+
+    private class TableIterator implements PrimitiveIterator.OfInt
+    {
+        private final boolean returnKeys;   // Otherwise returns values
+        private int currentIndex;           // Current position in hash table
+        private int numberLeft;             // Number of entries left in iteration
+        private boolean zeroKeyLeft;        // True if key 0 is still to come
+
+        private TableIterator(boolean returnKeys)
+        {
+            this.returnKeys = returnKeys;
+            currentIndex = 0;
+            numberLeft = numberOfEntries;
+            zeroKeyLeft = hasZeroKey;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        /** Retrieves the next key or value without boxing it.
+            @return  The next key or value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public int nextInt()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            numberLeft--;
+            if (zeroKeyLeft)
+            {
+                zeroKeyLeft = false;
+                return returnKeys ? 0 : zeroKeyValue;
+            } // end if
+            while (keys[currentIndex] == 0)
+                currentIndex++;
+            currentIndex++;
+            return returnKeys ? keys[currentIndex - 1] : values[currentIndex - 1];
+        } // end nextInt
+    } // end TableIterator
+} // end IntIntHashedDictionary
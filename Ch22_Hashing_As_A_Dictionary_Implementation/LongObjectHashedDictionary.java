@@ -0,0 +1,360 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+    A class that implements a dictionary of long search keys and object
+    values by using hashing and linear probing to resolve collisions.
+    Keys are kept in a long array and values in a parallel array, so no
+    entry or wrapper objects are created. Key 0 marks an empty location in
+    the key array, so an entry whose key is 0 is kept apart from the table.
+    A removal shifts the following entries of its probe sequence back
+    instead of leaving a removed entry behind.
+    The hash table's size is a power of two.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class LongObjectHashedDictionary<V>
+{
+    // The dictionary:
+    private int numberOfEntries;                    // Includes entry for key 0
+    private V zeroKeyValue;                         // Value of key 0, or null
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of 2
+
+    // The hash table:
+    private long[] keys;                            // 0 marks an empty location
+    private V[] values;
+    private int mask;                               // keys.length - 1
+    private final long seed;                        // Mixed into every key
+    private final double maxLoadFactor;
+    private int resizeThreshold;                    // Entries allowed before resize
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+
+    public LongObjectHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    public LongObjectHashedDictionary(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_MAX_LOAD_FACTOR);
+    } // end constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be filled before it is enlarged; must be
+                                greater than 0 and less than 1. */
+    public LongObjectHashedDictionary(int initialCapacity, double maxLoadFactor)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        if (!(maxLoadFactor > 0.0 && maxLoadFactor < 1.0))
+            throw new IllegalArgumentException("Load factor must be between " +
+                                               "0 and 1: " + maxLoadFactor);
+        this.maxLoadFactor = maxLoadFactor;
+        numberOfEntries = 0;
+        zeroKeyValue = null;
+        seed = ThreadLocalRandom.current().nextLong();
+        allocateTable(getTableSizeFor((long)Math.ceil(initialCapacity / maxLoadFactor) + 1));
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+        exists in the dictionary, replaces the corresponding value.
+        @param key    The search key of the new entry.
+        @param value  An object associated with the search key.
+        @return  Either null if the new entry was added to the dictionary
+                 or the value that was associated with key if that value
+                 was replaced. */
+    public V add(long key, V value)
+    {
+        if (value == null)
+            throw new IllegalArgumentException();
+        V oldValue;
+        if (key == 0)
+        {
+            oldValue = zeroKeyValue;
+            if (oldValue == null)
+                numberOfEntries++;
+            zeroKeyValue = value;
+        }
+        else
+        {
+            int index = probe(key);
+            if (keys[index] == key)
+            {   // Key found; get old value for return and then replace it
+                oldValue = values[index];
+                values[index] = value;
+            }
+            else
+            {   // Key not found; add new entry at the empty location
+                oldValue = null;
+                keys[index] = key;
+                values[index] = value;
+                numberOfEntries++;
+                if (numberOfEntries - (zeroKeyValue != null ? 1 : 0) > resizeThreshold)
+                    enlargeHashTable();
+            } // end if
+        } // end if
+        return oldValue;
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key  The search key of the entry to be removed.
+        @return  Either the value that was associated with the search key
+                 or null if no such entry exists. */
+    public V remove(long key)
+    {
+        V removedValue = null;
+        if (key == 0)
+        {
+            removedValue = zeroKeyValue;
+            if (removedValue != null)
+            {
+                zeroKeyValue = null;
+                numberOfEntries--;
+            } // end if
+        }
+        else
+        {
+            int index = probe(key);
+            if (keys[index] == key)
+            {   // Key found; remove entry and return its value
+                removedValue = values[index];
+                closeGap(index);
+                numberOfEntries--;
+            } // end if
+        } // end if
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key  The search key of the entry to be retrieved.
+        @return  Either the value that is associated with the search key
+                 or null if no such entry exists. */
+    public V getValue(long key)
+    {
+        if (key == 0)
+            return zeroKeyValue;
+        int index = probe(key);
+        return (keys[index] == key) ? values[index] : null;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  The search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(long key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator whose nextLong method returns each key
+                 without boxing it. */
+    public PrimitiveIterator.OfLong getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        The values are in the same order as the keys of getKeyIterator.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. The hash table keeps its
+        current size. */
+    public void clear()
+    {
+        for (int index = 0; index < keys.length; index++)
+        {
+            keys[index] = 0;
+            values[index] = null;
+        } // end for
+        numberOfEntries = 0;
+        zeroKeyValue = null;
+    } // end clear
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    // Creates an empty hash table of the given size, which must be a power of 2.
+    private void allocateTable(int tableSize)
+    {
+        assert Integer.bitCount(tableSize) == 1;
+        keys = new long[tableSize];
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        V[] tempValues = (V[])new Object[tableSize];
+        values = tempValues;
+        mask = tableSize - 1;
+        if (tableSize == MAX_SIZE)
+            resizeThreshold = tableSize - 1;    // Cannot grow; keep one empty
+        else
+            resizeThreshold = (int)(tableSize * maxLoadFactor);
+    } // end allocateTable
+
+    // Scrambles a key, together with this dictionary's seed, so that each
+    // low bit of the result depends on all of the key's bits, and indexes a
+    // power-of-2 table by those low bits. Since each dictionary has its own
+    // seed, adding the keys of one dictionary to another, in the order its
+    // iterator gives them, sends consecutive keys to unrelated home locations.
+    private int getHashIndex(long key)
+    {
+        long h = key ^ seed;
+        h = h ^ (h >>> 33);
+        h = h * 0xFF51AFD7ED558CCDL;
+        h = h ^ (h >>> 33);
+        h = h * 0xC4CEB9FE1A85EC53L;
+        return (int)(h ^ (h >>> 33)) & mask;
+    } // end getHashIndex
+
+    // Searches the probe sequence for a nonzero key. Returns either the
+    // index of the entry containing key or the index of the empty location
+    // that ends the probe sequence.
+    private int probe(long key)
+    {
+        int index = getHashIndex(key);
+        while ((keys[index] != 0) && (keys[index] != key))
+            index = (index + 1) & mask; // Linear probing (circular)
+        return index;
+    } // end probe
+
+    // Empties the location at index and moves back any later entry of the
+    // same run whose home location would otherwise be cut off from it.
+    private void closeGap(int gap)
+    {
+        int index = (gap + 1) & mask;
+        while (keys[index] != 0)
+        {
+            int home = getHashIndex(keys[index]);
+            // The entry can fill the gap if its home is not strictly
+            // between the gap and its own location (circularly)
+            if (((index - home) & mask) >= ((index - gap) & mask))
+            {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            } // end if
+            index = (index + 1) & mask;
+        } // end while
+        keys[gap] = 0;
+        values[gap] = null;
+    } // end closeGap
+
+    // Doubles the size of the hash table and reinserts the current entries.
+    private void enlargeHashTable()
+    {
+        long[] oldKeys = keys;
+        V[] oldValues = values;
+        allocateTable(getTableSizeFor((long)oldKeys.length << 1));
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++)
+        {
+            long key = oldKeys[oldIndex];
+            if (key != 0)
+            {
+                int index = getHashIndex(key);
+                while (keys[index] != 0)
+                    index = (index + 1) & mask;
+                keys[index] = key;
+                values[index] = oldValues[oldIndex];
+            } // end if
+        } // end for
+    } // end enlargeHashTable
+
+    private abstract class TableIterator
+    {
+        private int currentIndex;           // Current position in hash table
+        private int numberLeft;             // Number of entries left in iteration
+        private boolean zeroKeyLeft;        // True if key 0 is still to come
+
+        private TableIterator()
+        {
+            currentIndex = 0;
+            numberLeft = numberOfEntries;
+            zeroKeyLeft = zeroKeyValue != null;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Returns the index of the next entry in the hash table, or -1 for
+        // the entry whose key is 0.
+        // Throws NoSuchElementException if hasNext() is false.
+        int nextIndex()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            numberLeft--;
+            if (zeroKeyLeft)
+            {
+                zeroKeyLeft = false;
+                return -1;
+            } // end if
+            while (keys[currentIndex] == 0)
+                currentIndex++;
+            currentIndex++;
+            return currentIndex - 1;
+        } // end nextIndex
+    } // end TableIterator
+
+    private class KeyIterator extends TableIterator implements PrimitiveIterator.OfLong
+    {
+        /** Retrieves the next search key without boxing it.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public long nextLong()
+        {
+            int index = nextIndex();
+            return (index == -1) ? 0 : keys[index];
+        } // end nextLong
+    } // end KeyIterator
+
+    private class ValueIterator extends TableIterator implements Iterator<V>
+    {
+        /** Retrieves the next value in the dictionary.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            int index = nextIndex();
+            return (index == -1) ? zeroKeyValue : values[index];
+        } // end next
+    } // end ValueIterator
+} // end LongObjectHashedDictionary
@@ -0,0 +1,644 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+/**
+    A class that implements a dictionary whose entries live in two files
+    that are mapped into memory, so that the dictionary outlives the
+    program and its entries are never objects that the garbage collector
+    must scan.
+    Each add writes a record holding the encoded key and value after the
+    last record in the data file, and a replaced or removed value leaves
+    its old record unused. When the data file must grow, or the index is
+    rehashed, and at least half of its records are unused, the current
+    records are first moved down over the unused ones (compaction). The
+    index file holds a hash table, with linear probing, of the data file
+    offsets of the current records and their hash codes. Opening existing
+    files only maps them; no entry is read until it is needed.
+    Changes reach the files through the mappings; call flush to force
+    them to the storage device. A compaction rewrites records in place,
+    so a crash during one can leave the files unusable.
+    The data file can hold at most 2^31 - 1 bytes, counting records not
+    yet reclaimed by compaction, and it never shrinks. An object of this
+    class must not be shared by threads, and the files must not be opened
+    by two objects at once.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class MappedHashedDictionary<K, V> implements DictionaryInterface<K, V>, Closeable
+{
+    // The dictionary:
+    private final ByteCodec<K> keyCodec;
+    private final ByteCodec<V> valueCodec;
+    private int numberOfEntries;
+    private int numberOfRemoved;            // Removed locations in the index
+    private long unusedBytes;               // Size of the records no location
+                                            // points to
+    private boolean initialized = false;
+
+    // The index file: a header, then tableSize locations
+    private final FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int tableSize;                  // A power of 2
+    private int mask;                       // tableSize - 1
+    private int shift;                      // 32 - log2(tableSize)
+    private static final int INDEX_MAGIC = 0x4D484931;     // "MHI1"
+    private static final int SIZE_POSITION = 4;
+    private static final int ENTRIES_POSITION = 8;
+    private static final int REMOVED_POSITION = 12;
+    private static final int DATA_END_POSITION = 16;
+    private static final int UNUSED_BYTES_POSITION = 24;
+    private static final int INDEX_HEADER_SIZE = 32;
+    private static final int LOCATION_SIZE = 16;   // long offset, int hash, unused int
+    private static final long EMPTY = 0;           // Offset of a location never used
+    private static final long REMOVED = -1;        // Offset of a removed entry's location
+
+    // The data file: a header, then records of key length, value length,
+    // key bytes and value bytes
+    private final FileChannel dataChannel;
+    private MappedByteBuffer data;
+    private long dataEnd;                   // Offset after the last record
+    private static final int DATA_MAGIC = 0x4D484431;      // "MHD1"
+    private static final int DATA_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int DEFAULT_TABLE_SIZE = 64;      // Must be a power of 2
+    private static final int MAX_TABLE_SIZE = 1 << 26;     // Index file under 2^31 bytes
+    private static final double MAX_LOAD_FACTOR = 0.5;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;    // 2^32 / phi
+
+    /** Opens the dictionary stored in the files fileName + ".idx" and
+        fileName + ".dat", creating an empty one if the files do not exist.
+        @param fileName    The name of the files, without extension.
+        @param keyCodec    Converts search keys to and from bytes; must
+                           be the same each time the files are opened.
+        @param valueCodec  Converts values to and from bytes.
+        @throws IOException if the files cannot be opened or are not
+                the files of a dictionary. */
+    public MappedHashedDictionary(String fileName, ByteCodec<K> keyCodec,
+                                  ByteCodec<V> valueCodec) throws IOException
+    {
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        Path indexPath = Paths.get(fileName + ".idx");
+        Path dataPath = Paths.get(fileName + ".dat");
+        indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE,
+                                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+        dataChannel = FileChannel.open(dataPath, StandardOpenOption.CREATE,
+                                       StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try
+        {
+            if (indexChannel.size() == 0)
+                createFiles();
+            else
+                openFiles();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            indexChannel.close();
+            dataChannel.close();
+            throw e;
+        } // end try
+        initialized = true;
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+        exists in the dictionary, replaces the corresponding value.
+        @param key    An object search key of the new entry.
+        @param value  An object associated with the search key.
+        @return  Either null if the new entry was added to the dictionary
+                 or the value that was associated with key if that value
+                 was replaced. */
+    public V add(K key, V value)
+    {
+        checkInitialization();
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        byte[] keyBytes = keyCodec.toBytes(key);
+        byte[] valueBytes = valueCodec.toBytes(value);
+        int hash = hashOf(keyBytes);
+        int location = probe(keyBytes, hash);
+        long offset = appendRecord(keyBytes, valueBytes);
+        if (location >= 0)
+        {   // Key found; point its location at the new record
+            long oldOffset = getOffset(location);
+            V oldValue = readValue(oldOffset);
+            setLocation(location, offset, hash);
+            setUnusedBytes(unusedBytes + getRecordSize(oldOffset));
+            return oldValue;
+        } // end if
+
+        // Key not found; fill the location where the probe sequence ended
+        location = -(location + 1);
+        if (getOffset(location) == REMOVED)
+            setNumberOfRemoved(numberOfRemoved - 1);
+        setLocation(location, offset, hash);
+        setNumberOfEntries(numberOfEntries + 1);
+        if (numberOfEntries + numberOfRemoved > MAX_LOAD_FACTOR * tableSize)
+            rehash();
+        return null;
+    } // end add
+
+    /** Removes a specific entry from this dictionary. Its record stays in
+        the data file until the next compaction.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        checkInitialization();
+        if (key == null)
+            throw new IllegalArgumentException();
+        byte[] keyBytes = keyCodec.toBytes(key);
+        int location = probe(keyBytes, hashOf(keyBytes));
+        if (location < 0)
+            return null;
+        long oldOffset = getOffset(location);
+        V oldValue = readValue(oldOffset);
+        setLocation(location, REMOVED, 0);
+        setNumberOfEntries(numberOfEntries - 1);
+        setNumberOfRemoved(numberOfRemoved + 1);
+        setUnusedBytes(unusedBytes + getRecordSize(oldOffset));
+        return oldValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        checkInitialization();
+        if (key == null)
+            return null;
+        byte[] keyBytes = keyCodec.toBytes(key);
+        int location = probe(keyBytes, hashOf(keyBytes));
+        if (location < 0)
+            return null;
+        return readValue(getOffset(location));
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        checkInitialization();
+        if (key == null)
+            return false;
+        byte[] keyBytes = keyCodec.toBytes(key);
+        return probe(keyBytes, hashOf(keyBytes)) >= 0;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        checkInitialization();
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        checkInitialization();
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. Later records overwrite
+        the data file from its beginning. */
+    public void clear()
+    {
+        checkInitialization();
+        for (int location = 0; location < tableSize; location++)
+            setLocation(location, EMPTY, 0);
+        setNumberOfEntries(0);
+        setNumberOfRemoved(0);
+        setDataEnd(DATA_HEADER_SIZE);
+        setUnusedBytes(0);
+    } // end clear
+
+    /** Forces all changes to this dictionary to the storage device. */
+    public void flush()
+    {
+        checkInitialization();
+        data.force();
+        index.force();
+    } // end flush
+
+    /** Flushes this dictionary and closes its files. The dictionary cannot
+        be used afterwards.
+        @throws IOException if a file cannot be closed. */
+    public void close() throws IOException
+    {
+        if (initialized)
+        {
+            flush();
+            initialized = false;
+            index = null;
+            data = null;
+            indexChannel.close();
+            dataChannel.close();
+        } // end if
+    } // end close
+
+    // Throws an exception if this object is closed or not initialized.
+    private void checkInitialization()
+    {
+        if (!initialized)
+            throw new SecurityException("MappedHashedDictionary object is not " +
+                                        "open or is corrupt.");
+    } // end checkInitialization
+
+    // Writes the headers of new, empty files and maps them.
+    private void createFiles() throws IOException
+    {
+        mapIndex(DEFAULT_TABLE_SIZE);
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(SIZE_POSITION, tableSize);
+        setNumberOfEntries(0);
+        setNumberOfRemoved(0);
+        mapData(Math.max(dataChannel.size(), 4096));
+        data.putInt(0, DATA_MAGIC);
+        setDataEnd(DATA_HEADER_SIZE);
+        setUnusedBytes(0);
+    } // end createFiles
+
+    // Maps existing files and reads their headers.
+    private void openFiles() throws IOException
+    {
+        if (indexChannel.size() < INDEX_HEADER_SIZE)
+            throw new IOException("Index file is too short.");
+        MappedByteBuffer header = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0,
+                                                   INDEX_HEADER_SIZE);
+        int size = header.getInt(SIZE_POSITION);
+        if ((header.getInt(0) != INDEX_MAGIC) || (Integer.bitCount(size) != 1) ||
+            (size > MAX_TABLE_SIZE))
+            throw new IOException("Not a dictionary index file.");
+        mapIndex(size);
+        numberOfEntries = index.getInt(ENTRIES_POSITION);
+        numberOfRemoved = index.getInt(REMOVED_POSITION);
+        dataEnd = index.getLong(DATA_END_POSITION);
+        unusedBytes = index.getLong(UNUSED_BYTES_POSITION);
+        if ((dataChannel.size() < dataEnd) || (dataEnd < DATA_HEADER_SIZE))
+            throw new IOException("Data file is shorter than its index says.");
+        mapData(dataChannel.size());
+        if (data.getInt(0) != DATA_MAGIC)
+            throw new IOException("Not a dictionary data file.");
+    } // end openFiles
+
+    // Maps the index file for a table of the given size, which must be a
+    // power of 2, enlarging the file if necessary.
+    private void mapIndex(int size) throws IOException
+    {
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                 INDEX_HEADER_SIZE + (long)size * LOCATION_SIZE);
+        tableSize = size;
+        mask = size - 1;
+        shift = 32 - Integer.numberOfTrailingZeros(size);
+    } // end mapIndex
+
+    // Maps the given number of bytes of the data file, enlarging the file
+    // if necessary.
+    private void mapData(long size) throws IOException
+    {
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    } // end mapData
+
+    // Returns the hash code of the bytes of a key: FNV-1a followed by the
+    // final mixing step of MurmurHash3.
+    private static int hashOf(byte[] keyBytes)
+    {
+        int hash = 0x811C9DC5;
+        for (byte b : keyBytes)
+            hash = (hash ^ (b & 0xFF)) * 0x01000193;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    } // end hashOf
+
+    // Searches the probe sequence of a key. Returns either the location of
+    // the key's entry or -(i + 1), where i is the location at which to add
+    // the key: the first removed location of the sequence, if any,
+    // otherwise the empty location that ends it.
+    private int probe(byte[] keyBytes, int hash)
+    {
+        int location = (hash * GOLDEN_RATIO) >>> shift;
+        int removedLocation = -1;
+        while (true)
+        {
+            long offset = getOffset(location);
+            if (offset == EMPTY)
+                return -((removedLocation >= 0 ? removedLocation : location) + 1);
+            if (offset == REMOVED)
+            {
+                if (removedLocation < 0)
+                    removedLocation = location;
+            }
+            else if ((getHash(location) == hash) && keyEquals(offset, keyBytes))
+                return location;
+            // end if
+            location = (location + 1) & mask;
+        } // end while
+    } // end probe
+
+    // Sees whether the record at offset has the given key bytes, without
+    // copying the record.
+    private boolean keyEquals(long offset, byte[] keyBytes)
+    {
+        int position = (int)offset;
+        if (data.getInt(position) != keyBytes.length)
+            return false;
+        position = position + RECORD_HEADER_SIZE;
+        for (int i = 0; i < keyBytes.length; i++)
+        {
+            if (data.get(position + i) != keyBytes[i])
+                return false;
+        } // end for
+        return true;
+    } // end keyEquals
+
+    // Writes a record at the end of the data file and returns its offset.
+    private long appendRecord(byte[] keyBytes, byte[] valueBytes)
+    {
+        long recordSize = (long)RECORD_HEADER_SIZE + keyBytes.length + valueBytes.length;
+        long newEnd = dataEnd + recordSize;
+        if ((newEnd > data.capacity()) && compactIfWasteful())
+            newEnd = dataEnd + recordSize;
+        if (newEnd > Integer.MAX_VALUE)
+            throw new IllegalStateException("Data file would exceed allowed " +
+                                            "maximum of " + Integer.MAX_VALUE +
+                                            " bytes.");
+        if (newEnd > data.capacity())
+        {
+            try
+            {
+                mapData(Math.min(Math.max(2L * data.capacity(), newEnd), Integer.MAX_VALUE));
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            } // end try
+        } // end if
+        int position = (int)dataEnd;
+        data.putInt(position, keyBytes.length);
+        data.putInt(position + 4, valueBytes.length);
+        data.put(position + RECORD_HEADER_SIZE, keyBytes);
+        data.put(position + RECORD_HEADER_SIZE + keyBytes.length, valueBytes);
+        setDataEnd(newEnd);
+        return position;
+    } // end appendRecord
+
+    private K readKey(long offset)
+    {
+        int position = (int)offset;
+        byte[] keyBytes = new byte[data.getInt(position)];
+        data.get(position + RECORD_HEADER_SIZE, keyBytes);
+        return keyCodec.fromBytes(keyBytes);
+    } // end readKey
+
+    // Returns the number of bytes in the record at offset.
+    private int getRecordSize(long offset)
+    {
+        int position = (int)offset;
+        return RECORD_HEADER_SIZE + data.getInt(position) + data.getInt(position + 4);
+    } // end getRecordSize
+
+    private V readValue(long offset)
+    {
+        int position = (int)offset;
+        int keyLength = data.getInt(position);
+        byte[] valueBytes = new byte[data.getInt(position + 4)];
+        data.get(position + RECORD_HEADER_SIZE + keyLength, valueBytes);
+        return valueCodec.fromBytes(valueBytes);
+    } // end readValue
+
+    private long getOffset(int location)
+    {
+        return index.getLong(INDEX_HEADER_SIZE + location * LOCATION_SIZE);
+    } // end getOffset
+
+    private int getHash(int location)
+    {
+        return index.getInt(INDEX_HEADER_SIZE + location * LOCATION_SIZE + 8);
+    } // end getHash
+
+    private void setLocation(int location, long offset, int hash)
+    {
+        int position = INDEX_HEADER_SIZE + location * LOCATION_SIZE;
+        index.putLong(position, offset);
+        index.putInt(position + 8, hash);
+    } // end setLocation
+
+    private void setNumberOfEntries(int newNumber)
+    {
+        numberOfEntries = newNumber;
+        index.putInt(ENTRIES_POSITION, newNumber);
+    } // end setNumberOfEntries
+
+    private void setNumberOfRemoved(int newNumber)
+    {
+        numberOfRemoved = newNumber;
+        index.putInt(REMOVED_POSITION, newNumber);
+    } // end setNumberOfRemoved
+
+    private void setDataEnd(long newEnd)
+    {
+        dataEnd = newEnd;
+        index.putLong(DATA_END_POSITION, newEnd);
+    } // end setDataEnd
+
+    private void setUnusedBytes(long newNumber)
+    {
+        unusedBytes = newNumber;
+        index.putLong(UNUSED_BYTES_POSITION, newNumber);
+    } // end setUnusedBytes
+
+    // Compacts the data file if at least half of its records' bytes are
+    // unused. Returns true if it did.
+    private boolean compactIfWasteful()
+    {
+        if ((unusedBytes == 0) || (2 * unusedBytes < dataEnd - DATA_HEADER_SIZE))
+            return false;
+        compact();
+        return true;
+    } // end compactIfWasteful
+
+    // Moves the current records, in order of their offsets, down over the
+    // unused ones, and points their locations at their new offsets. Since
+    // no record moves to a higher offset, none is overwritten before it moves.
+    private void compact()
+    {
+        // Each element holds a record's offset in its high half and the
+        // record's location in its low half, so sorting orders them by offset
+        long[] records = new long[numberOfEntries];
+        int count = 0;
+        for (int location = 0; location < tableSize; location++)
+        {
+            long offset = getOffset(location);
+            if ((offset != EMPTY) && (offset != REMOVED))
+            {
+                records[count] = (offset << 32) | location;
+                count++;
+            } // end if
+        } // end for
+        Arrays.sort(records, 0, count);
+
+        int newPosition = DATA_HEADER_SIZE;
+        byte[] buffer = new byte[0];
+        for (int i = 0; i < count; i++)
+        {
+            int position = (int)(records[i] >>> 32);
+            int location = (int)records[i];
+            int recordSize = getRecordSize(position);
+            if (position != newPosition)
+            {
+                if (buffer.length < recordSize)
+                    buffer = new byte[Math.max(recordSize, 2 * buffer.length)];
+                data.get(position, buffer, 0, recordSize);
+                data.put(newPosition, buffer, 0, recordSize);
+                setLocation(location, newPosition, getHash(location));
+            } // end if
+            newPosition = newPosition + recordSize;
+        } // end for
+        setDataEnd(newPosition);
+        setUnusedBytes(0);
+    } // end compact
+
+    // Rebuilds the index without its removed locations, doubling its size
+    // unless removals made the table too full. Then compacts the data file
+    // if it is mostly unused.
+    private void rehash()
+    {
+        int newSize = tableSize;
+        if (numberOfEntries > MAX_LOAD_FACTOR * tableSize / 2)
+            newSize = 2 * tableSize;
+        if (newSize > MAX_TABLE_SIZE)
+            throw new IllegalStateException("Attempt to create an index whose " +
+                                            "size exceeds allowed maximum of " +
+                                            MAX_TABLE_SIZE);
+        // Save the current entries' offsets and hash codes on the heap
+        long[] offsets = new long[numberOfEntries];
+        int[] hashes = new int[numberOfEntries];
+        int count = 0;
+        for (int location = 0; location < tableSize; location++)
+        {
+            long offset = getOffset(location);
+            if ((offset != EMPTY) && (offset != REMOVED))
+            {
+                offsets[count] = offset;
+                hashes[count] = getHash(location);
+                count++;
+            } // end if
+        } // end for
+
+        try
+        {
+            mapIndex(newSize);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        } // end try
+        index.putInt(SIZE_POSITION, newSize);
+        for (int location = 0; location < tableSize; location++)
+            setLocation(location, EMPTY, 0);
+        for (int i = 0; i < count; i++)
+        {
+            int location = (hashes[i] * GOLDEN_RATIO) >>> shift;
+            while (getOffset(location) != EMPTY)
+                location = (location + 1) & mask;
+            setLocation(location, offsets[i], hashes[i]);
+        } // end for
+        setNumberOfRemoved(0);
+        compactIfWasteful();
+    } // end rehash
+
+    private abstract class IndexIterator
+    {
+        private int currentLocation;    // Location after the last one returned
+        private int numberLeft;         // Number of entries left in iteration
+
+        private IndexIterator()
+        {
+            currentLocation = 0;
+            numberLeft = numberOfEntries;
+        } // end default constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Returns the data file offset of the next entry and advances
+        // past it.
+        long advance()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            long offset = getOffset(currentLocation);
+            while ((offset == EMPTY) || (offset == REMOVED))
+            {
+                currentLocation++;
+                offset = getOffset(currentLocation);
+            } // end while
+            currentLocation++;
+            numberLeft--;
+            return offset;
+        } // end advance
+
+        /** Throws UnsupportedOperationException, since the iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        } // end remove
+    } // end IndexIterator
+
+    private class KeyIterator extends IndexIterator implements Iterator<K>
+    {
+        public K next()
+        {
+            return readKey(advance());
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends IndexIterator implements Iterator<V>
+    {
+        public V next()
+        {
+            return readValue(advance());
+        } // end next
+    } // end ValueIterator
+} // end MappedHashedDictionary
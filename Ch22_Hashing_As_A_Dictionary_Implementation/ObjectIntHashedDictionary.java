@@ -0,0 +1,371 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+    A class that implements a dictionary of object search keys and int
+    values by using hashing and linear probing to resolve collisions.
+    Keys are kept in an array, and values and the keys' hash codes in
+    parallel int arrays, so no entry or Integer objects are created and no
+    hashCode is called again after an add; addTo changes a count in place.
+    A removal shifts the following entries of its probe sequence back
+    instead of leaving a removed entry behind.
+    Methods that find no entry for a key return the dictionary's
+    missing value, which is 0 unless given to the constructor.
+    The hash table's size is a power of two.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class ObjectIntHashedDictionary<K>
+{
+    // The dictionary:
+    private int numberOfEntries;
+    private final int missingValue;                 // Returned when no entry
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of 2
+
+    // The hash table:
+    private K[] keys;                               // null marks an empty location
+    private int[] values;
+    private int[] hashes;                           // Spread hash codes of keys
+    private int mask;                               // keys.length - 1
+    private final int seed;                         // Mixed into every hash code
+    private final double maxLoadFactor;
+    private int resizeThreshold;                    // Entries allowed before resize
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+
+    public ObjectIntHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    public ObjectIntHashedDictionary(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_MAX_LOAD_FACTOR, 0);
+    } // end constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be filled before it is enlarged; must be
+                                greater than 0 and less than 1.
+        @param missingValue     The value that methods return when a key
+                                has no entry. */
+    public ObjectIntHashedDictionary(int initialCapacity, double maxLoadFactor,
+                                  int missingValue)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        if (!(maxLoadFactor > 0.0 && maxLoadFactor < 1.0))
+            throw new IllegalArgumentException("Load factor must be between " +
+                                               "0 and 1: " + maxLoadFactor);
+        this.maxLoadFactor = maxLoadFactor;
+        this.missingValue = missingValue;
+        numberOfEntries = 0;
+        seed = ThreadLocalRandom.current().nextInt();
+        allocateTable(getTableSizeFor((long)Math.ceil(initialCapacity / maxLoadFactor) + 1));
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+        exists in the dictionary, replaces the corresponding value.
+        @param key    An object search key of the new entry.
+        @param value  The value associated with the search key.
+        @return  Either the missing value if the new entry was added to the
+                 dictionary or the value that was associated with key if
+                 that value was replaced. */
+    public int add(K key, int value)
+    {
+        if (key == null)
+            throw new IllegalArgumentException();
+        int hash = spread(key.hashCode());
+        int index = probe(key, hash);
+        if (keys[index] != null)
+        {   // Key found; get old value for return and then replace it
+            int oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        } // end if
+
+        // Key not found; add new entry at the empty location
+        insertAt(index, key, value, hash);
+        return missingValue;
+    } // end add
+
+    /** Adds delta to the value associated with a given search key. If the
+        key is not in the dictionary, adds it with the value delta.
+        @param key    An object search key of the entry to change.
+        @param delta  The amount to add to the entry's value.
+        @return  The entry's new value. */
+    public int addTo(K key, int delta)
+    {
+        if (key == null)
+            throw new IllegalArgumentException();
+        int hash = spread(key.hashCode());
+        int index = probe(key, hash);
+        if (keys[index] != null)
+        {
+            values[index] += delta;
+            return values[index];
+        } // end if
+        insertAt(index, key, delta, hash);
+        return delta;
+    } // end addTo
+
+    /** Removes a specific entry from this dictionary.
+        @param key  An object search key of the entry to be removed.
+        @return  Either the value that was associated with the search key
+                 or the missing value if no such entry exists. */
+    public int remove(K key)
+    {
+        int removedValue = missingValue;
+        int index = probe(key, spread(key.hashCode()));
+        if (keys[index] != null)
+        {   // Key found; remove entry and return its value
+            removedValue = values[index];
+            closeGap(index);
+            numberOfEntries--;
+        } // end if
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key  An object search key of the entry to be retrieved.
+        @return  Either the value that is associated with the search key
+                 or the missing value if no such entry exists. */
+    public int getValue(K key)
+    {
+        int index = probe(key, spread(key.hashCode()));
+        return (keys[index] != null) ? values[index] : missingValue;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        return keys[probe(key, spread(key.hashCode()))] != null;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        The values are in the same order as the keys of getKeyIterator.
+        @return  An iterator whose nextInt method returns each value
+                 without boxing it. */
+    public PrimitiveIterator.OfInt getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Gets the value that methods return when a key has no entry.
+        @return  The missing value given to the constructor. */
+    public int getMissingValue()
+    {
+        return missingValue;
+    } // end getMissingValue
+
+    /** Removes all entries from this dictionary. The hash table keeps its
+        current size. */
+    public void clear()
+    {
+        for (int index = 0; index < keys.length; index++)
+            keys[index] = null;
+        numberOfEntries = 0;
+    } // end clear
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    // Creates an empty hash table of the given size, which must be a power of 2.
+    private void allocateTable(int tableSize)
+    {
+        assert Integer.bitCount(tableSize) == 1;
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        K[] tempKeys = (K[])new Object[tableSize];
+        keys = tempKeys;
+        values = new int[tableSize];
+        hashes = new int[tableSize];
+        mask = tableSize - 1;
+        if (tableSize == MAX_SIZE)
+            resizeThreshold = tableSize - 1;    // Cannot grow; keep one empty
+        else
+            resizeThreshold = (int)(tableSize * maxLoadFactor);
+    } // end allocateTable
+
+    // Scrambles a hash code, together with this dictionary's seed, so that
+    // each of its low bits depends on all of its bits.
+    private int spread(int hashCode)
+    {
+        int h = hashCode ^ seed;
+        h = h ^ (h >>> 16);
+        h = h * 0x85EBCA6B;
+        h = h ^ (h >>> 13);
+        h = h * 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    } // end spread
+
+    // Indexes a power-of-2 table by the low bits of a spread hash code.
+    // Since each dictionary has its own seed, adding the keys of one
+    // dictionary to another, in the order its iterator gives them, sends
+    // consecutive keys to unrelated home locations.
+    private int getHashIndex(int hash)
+    {
+        return hash & mask;
+    } // end getHashIndex
+
+    // Searches the probe sequence for key, whose spread hash code is hash.
+    // Returns either the index of the entry containing key or the index of
+    // the empty location that ends the probe sequence.
+    private int probe(K key, int hash)
+    {
+        int index = getHashIndex(hash);
+        while ((keys[index] != null) &&
+               ((hashes[index] != hash) || !key.equals(keys[index])))
+            index = (index + 1) & mask; // Linear probing (circular)
+        return index;
+    } // end probe
+
+    // Adds a new entry at the empty location index, which probe returned.
+    private void insertAt(int index, K key, int value, int hash)
+    {
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        numberOfEntries++;
+        if (numberOfEntries > resizeThreshold)
+            enlargeHashTable();
+    } // end insertAt
+
+    // Empties the location at index and moves back any later entry of the
+    // same run whose home location would otherwise be cut off from it.
+    private void closeGap(int gap)
+    {
+        int index = (gap + 1) & mask;
+        while (keys[index] != null)
+        {
+            int home = getHashIndex(hashes[index]);
+            // The entry can fill the gap if its home is not strictly
+            // between the gap and its own location (circularly)
+            if (((index - home) & mask) >= ((index - gap) & mask))
+            {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                hashes[gap] = hashes[index];
+                gap = index;
+            } // end if
+            index = (index + 1) & mask;
+        } // end while
+        keys[gap] = null;
+    } // end closeGap
+
+    // Doubles the size of the hash table and reinserts the current entries.
+    private void enlargeHashTable()
+    {
+        K[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocateTable(getTableSizeFor((long)oldKeys.length << 1));
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++)
+        {
+            K key = oldKeys[oldIndex];
+            if (key != null)
+            {
+                int index = getHashIndex(oldHashes[oldIndex]);
+                while (keys[index] != null)
+                    index = (index + 1) & mask;
+                keys[index] = key;
+                values[index] = oldValues[oldIndex];
+                hashes[index] = oldHashes[oldIndex];
+            } // end if
+        } // end for
+    } // end enlargeHashTable
+
+    private abstract class TableIterator
+    {
+        private int currentIndex;           // Current position in hash table
+        private int numberLeft;             // Number of entries left in iteration
+
+        private TableIterator()
+        {
+            currentIndex = 0;
+            numberLeft = numberOfEntries;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Returns the index of the next entry in the hash table.
+        // Throws NoSuchElementException if hasNext() is false.
+        int nextIndex()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            numberLeft--;
+            while (keys[currentIndex] == null)
+                currentIndex++;
+            currentIndex++;
+            return currentIndex - 1;
+        } // end nextIndex
+    } // end TableIterator
+
+    private class KeyIterator extends TableIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in the dictionary.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return keys[nextIndex()];
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends TableIterator implements PrimitiveIterator.OfInt
+    {
+        /** Retrieves the next value without boxing it.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public int nextInt()
+        {
+            return values[nextIndex()];
+        } // end nextInt
+    } // end ValueIterator
+} // end ObjectIntHashedDictionary
@@ -0,0 +1,19 @@
+/**
+    An interface for a hashed dictionary that can report how far its entries
+    lie from their home locations in the hash table.
+*/
+public interface ProbeStatisticsInterface<K, V> extends DictionaryInterface<K, V>
+{
+    /** Counts the entries in this dictionary by probe length, that is, by
+        the number of locations a successful search for each entry examines.
+        @return  An array whose element at index i is the number of entries
+                 found after i + 1 probes. Element 0 counts the entries that
+                 are in their home locations. The array is as long as the
+                 longest probe length currently in the hash table; it is
+                 empty if the dictionary is empty. */
+    public int[] getProbeLengthHistogram();
+
+    /** Gets the fraction of the hash table that currently holds entries.
+        @return  The number of entries divided by the hash table's length. */
+    public double getLoadFactor();
+} // end ProbeStatisticsInterface
@@ -0,0 +1,67 @@
+/**
+    The collision resolution strategies available for a hashed dictionary.
+    Each strategy creates a dictionary that can report a histogram of its
+    probe lengths, so the strategies can be compared on the same keys.
+*/
+public enum ProbingStrategy
+{
+    /** Linear probing with entries in the removed state;
+        see ScalableHashedDictionary. Best kept at load factors near 0.5. */
+    LINEAR(0.5),
+
+    /** Robin Hood linear probing with backward-shift deletion;
+        see RobinHoodHashedDictionary. */
+    ROBIN_HOOD(0.85),
+
+    /** Hopscotch hashing with a neighborhood bitmap per home location;
+        see HopscotchHashedDictionary. */
+    HOPSCOTCH(0.9);
+
+    private final double defaultMaxLoadFactor;
+
+    private ProbingStrategy(double defaultMaxLoadFactor)
+    {
+        this.defaultMaxLoadFactor = defaultMaxLoadFactor;
+    } // end constructor
+
+    /** Gets the largest load factor this strategy handles well.
+        @return  The load factor used when none is given to newDictionary. */
+    public double getDefaultMaxLoadFactor()
+    {
+        return defaultMaxLoadFactor;
+    } // end getDefaultMaxLoadFactor
+
+    /** Creates an empty dictionary that uses this strategy and its
+        default maximum load factor.
+        @param initialCapacity  The number of entries the dictionary can
+                                hold before its hash table is enlarged.
+        @return  The new dictionary. */
+    public <K, V> ProbeStatisticsInterface<K, V> newDictionary(int initialCapacity)
+    {
+        return newDictionary(initialCapacity, defaultMaxLoadFactor);
+    } // end newDictionary
+
+    /** Creates an empty dictionary that uses this strategy.
+        @param initialCapacity  The number of entries the dictionary can
+                                hold before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be filled before it is enlarged.
+        @return  The new dictionary. */
+    public <K, V> ProbeStatisticsInterface<K, V> newDictionary(int initialCapacity,
+                                                             double maxLoadFactor)
+    {
+        ProbeStatisticsInterface<K, V> result;
+        switch (this)
+        {
+            case ROBIN_HOOD:
+                result = new RobinHoodHashedDictionary<>(initialCapacity, maxLoadFactor);
+                break;
+            case HOPSCOTCH:
+                result = new HopscotchHashedDictionary<>(initialCapacity, maxLoadFactor);
+                break;
+            default:
+                result = new ScalableHashedDictionary<>(initialCapacity, maxLoadFactor);
+        } // end switch
+        return result;
+    } // end newDictionary
+} // end ProbingStrategy
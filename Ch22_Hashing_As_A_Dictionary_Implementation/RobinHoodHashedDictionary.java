@@ -0,0 +1,423 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+    A class that implements the ADT dictionary by using hashing and
+    Robin Hood linear probing to resolve collisions.
+    An entry that is being added takes the location of any entry that lies
+    closer to its own home location, and the displaced entry continues along
+    the probe sequence. Probe lengths therefore stay short and even at load
+    factors well above 0.5. A removal shifts the following entries of its
+    probe sequence back by one location instead of leaving a removed entry
+    behind, so the table never contains locations in the removed state.
+    The hash table's size is a power of two.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class RobinHoodHashedDictionary<K, V> implements ProbeStatisticsInterface<K, V>
+{
+    // The dictionary:
+    private int numberOfEntries;
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of 2
+
+    // The hash table, stored as parallel arrays; a null key marks an
+    // empty location:
+    private K[] keys;
+    private V[] values;
+    private int[] hashes;                           // Spread hash codes of keys
+    private int mask;                               // keys.length - 1
+    private final int seed;                         // Mixed into every hash code
+    private boolean initialized = false;
+    private final double maxLoadFactor;
+    private int resizeThreshold;                    // Entries allowed before resize
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.85;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+
+    public RobinHoodHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    public RobinHoodHashedDictionary(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_MAX_LOAD_FACTOR);
+    } // end constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be filled before it is enlarged; must be
+                                greater than 0 and less than 1. */
+    public RobinHoodHashedDictionary(int initialCapacity, double maxLoadFactor)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        if (!(maxLoadFactor > 0.0 && maxLoadFactor < 1.0))
+            throw new IllegalArgumentException("Load factor must be between " +
+                                               "0 and 1: " + maxLoadFactor);
+        this.maxLoadFactor = maxLoadFactor;
+        numberOfEntries = 0;
+        seed = ThreadLocalRandom.current().nextInt();
+        allocateTable(getTableSizeFor((long)Math.ceil(initialCapacity / maxLoadFactor) + 1));
+        initialized = true;
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+       exists in the dictionary, replaces the corresponding value.
+       @param key    An object search key of the new entry.
+       @param value  An object associated with the search key.
+       @return  Either null if the new entry was added to the dictionary
+                or the value that was associated with key if that value
+                was replaced. */
+    public V add(K key, V value)
+    {
+        checkInitialization();
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        else
+        {
+            int hash = spread(key.hashCode());
+            int index = locate(key, hash);
+            if (index >= 0)
+            {   // Key found; get old value for return and then replace it
+                V oldValue = values[index];
+                values[index] = value;
+                return oldValue;
+            } // end if
+
+            // Key not found; add new entry to dictionary
+            if (numberOfEntries >= resizeThreshold)
+                enlargeHashTable();
+            insert(key, value, hash);
+            numberOfEntries++;
+            return null;
+        } // end if
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        checkInitialization();
+        V removedValue = null;
+        int index = locate(key, spread(key.hashCode()));
+        if (index >= 0)
+        {   // Key found; remove entry and return its value
+            removedValue = values[index];
+            // Backward-shift deletion: move each following entry that is not
+            // in its home location back by one, until an empty location or
+            // an entry in its home location ends the run
+            int next = (index + 1) & mask;
+            while ((keys[next] != null) && (getDisplacement(next) > 0))
+            {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                hashes[index] = hashes[next];
+                index = next;
+                next = (next + 1) & mask;
+            } // end while
+            keys[index] = null;
+            values[index] = null;
+            numberOfEntries--;
+        } // end if
+        // Else key not found; return null
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        checkInitialization();
+        V result = null;
+        int index = locate(key, spread(key.hashCode()));
+        if (index >= 0)
+            result = values[index];     // Key found; get value
+        // Else key not found; return null
+        return result;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        checkInitialization();
+        return locate(key, spread(key.hashCode())) >= 0;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. The hash table keeps its
+        current size. */
+    public void clear()
+    {
+        checkInitialization();
+        for (int index = 0; index < keys.length; index++)
+        {
+            keys[index] = null;
+            values[index] = null;
+        } // end for
+        numberOfEntries = 0;
+    } // end clear
+
+    /** Counts the entries in this dictionary by probe length.
+        @return  An array whose element at index i is the number of entries
+                 found after i + 1 probes. */
+    public int[] getProbeLengthHistogram()
+    {
+        checkInitialization();
+        int longest = 0;
+        for (int index = 0; index < keys.length; index++)
+        {
+            if (keys[index] != null)
+                longest = Math.max(longest, getDisplacement(index) + 1);
+        } // end for
+
+        int[] histogram = new int[longest];
+        for (int index = 0; index < keys.length; index++)
+        {
+            if (keys[index] != null)
+                histogram[getDisplacement(index)]++;
+        } // end for
+        return histogram;
+    } // end getProbeLengthHistogram
+
+    /** Gets the fraction of the hash table that currently holds entries.
+        @return  The number of entries divided by the hash table's length. */
+    public double getLoadFactor()
+    {
+        return (double)numberOfEntries / keys.length;
+    } // end getLoadFactor
+
+    // Throws an exception if this object is not initialized.
+    private void checkInitialization()
+    {
+        if (!initialized)
+            throw new SecurityException("RobinHoodHashedDictionary object is corrupt.");
+    } // end checkInitialization
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    // Creates an empty hash table of the given size, which must be a power of 2.
+    private void allocateTable(int tableSize)
+    {
+        assert Integer.bitCount(tableSize) == 1;
+        // The casts are safe because the new arrays contain null entries
+        @SuppressWarnings("unchecked")
+        K[] tempKeys = (K[])new Object[tableSize];
+        @SuppressWarnings("unchecked")
+        V[] tempValues = (V[])new Object[tableSize];
+        keys = tempKeys;
+        values = tempValues;
+        hashes = new int[tableSize];
+        mask = tableSize - 1;
+        if (tableSize == MAX_SIZE)
+            resizeThreshold = tableSize - 1;    // Cannot grow; keep one empty
+        else
+            resizeThreshold = (int)(tableSize * maxLoadFactor);
+    } // end allocateTable
+
+    // Scrambles a hash code, together with this dictionary's seed, so that
+    // each of its low bits depends on all of its bits. The mapping is
+    // one-to-one, so keys whose spread hash codes are equal also have equal
+    // hash codes.
+    private int spread(int hashCode)
+    {
+        int h = hashCode ^ seed;
+        h = h ^ (h >>> 16);
+        h = h * 0x85EBCA6B;
+        h = h ^ (h >>> 13);
+        h = h * 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    } // end spread
+
+    // Indexes a power-of-2 table by the low bits of a spread hash code.
+    // Entries lie in the table roughly in order of these bits. Since each
+    // dictionary has its own seed, adding the keys of one dictionary to
+    // another, in the order its iterator gives them, sends consecutive keys
+    // to unrelated home locations rather than crowding them together.
+    private int getHashIndex(int hash)
+    {
+        return hash & mask;
+    } // end getHashIndex
+
+    // Returns how many locations the entry at index lies beyond its home location.
+    private int getDisplacement(int index)
+    {
+        return (index - getHashIndex(hashes[index])) & mask;
+    } // end getDisplacement
+
+    // Searches the probe sequence for key and returns either the index of the
+    // entry containing key or -1, if no such entry exists. The search stops
+    // early at an entry that lies closer to its home location than key would,
+    // since an add would have placed key there.
+    private int locate(K key, int hash)
+    {
+        int index = getHashIndex(hash);
+        int distance = 0;
+        while ((keys[index] != null) && (distance <= getDisplacement(index)))
+        {
+            if ((hashes[index] == hash) && key.equals(keys[index]))
+                return index;                   // Key found
+            index = (index + 1) & mask;         // Linear probing (circular)
+            distance++;
+        } // end while
+        return -1;
+    } // end locate
+
+    // Places a new entry, which must not already be in the table, by
+    // swapping it with any entry that lies closer to its home location.
+    // Precondition: the table has at least one empty location.
+    private void insert(K key, V value, int hash)
+    {
+        int index = getHashIndex(hash);
+        int distance = 0;
+        while (keys[index] != null)
+        {
+            int residentDistance = getDisplacement(index);
+            if (residentDistance < distance)
+            {   // Take from the rich: the resident moves on instead
+                K tempKey = keys[index];
+                V tempValue = values[index];
+                int tempHash = hashes[index];
+                keys[index] = key;
+                values[index] = value;
+                hashes[index] = hash;
+                key = tempKey;
+                value = tempValue;
+                hash = tempHash;
+                distance = residentDistance;
+            } // end if
+            index = (index + 1) & mask;         // Linear probing (circular)
+            distance++;
+        } // end while
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    } // end insert
+
+    // Doubles the size of the hash table and reinserts the current entries.
+    private void enlargeHashTable()
+    {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocateTable(getTableSizeFor((long)oldKeys.length << 1));
+        for (int index = 0; index < oldKeys.length; index++)
+        {
+            if (oldKeys[index] != null)
+                insert(oldKeys[index], oldValues[index], oldHashes[index]);
+        } // end for
+    } // end enlargeHashTable
+
+    private abstract class TableIterator
+    {
+        private int currentIndex; // Current position in hash table
+        private int numberLeft;   // Number of entries left in iteration
+
+        private TableIterator()
+        {
+            currentIndex = 0;
+            numberLeft = numberOfEntries;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Returns the index of the next entry in the hash table.
+        // Throws NoSuchElementException if hasNext() is false.
+        int nextIndex()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while (keys[currentIndex] == null)
+                currentIndex++;
+            numberLeft--;
+            currentIndex++;
+            return currentIndex - 1;
+        } // end nextIndex
+
+        /** Throws UnsupportedOperationException, since this iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() method is not " +
+                                                    "supported.");
+        } // end remove
+    } // end TableIterator
+
+    private class KeyIterator extends TableIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in the dictionary.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return keys[nextIndex()];
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends TableIterator implements Iterator<V>
+    {
+        /** Retrieves the next value in the dictionary.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            return values[nextIndex()];
+        } // end next
+    } // end ValueIterator
+} // end RobinHoodHashedDictionary
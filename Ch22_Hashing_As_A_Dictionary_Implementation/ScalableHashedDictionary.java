@@ -0,0 +1,542 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+    A class that implements the ADT dictionary by using hashing and
+    linear probing to resolve collisions.
+    Unlike HashedDictionary, the hash table's size is always a power of two,
+    so a hash index is found by spreading the bits of a key's hash code and
+    masking instead of by using %. The table grows without a fixed ceiling
+    (up to the largest array Java allows), and it is rehashed at its current
+    size whenever entries in the removed state make up too much of it, so
+    probe sequences do not keep getting longer as keys are added and removed.
+    The dictionary is unsorted and has distinct search keys.
+*/
+public class ScalableHashedDictionary<K, V> implements ProbeStatisticsInterface<K, V>
+{
+    // The dictionary:
+    private int numberOfEntries;
+    private int numberOfRemoved;                    // Locations in removed state
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of 2
+
+    // The hash table:
+    private TableEntry<K, V>[] hashTable;           // Array of unsorted entries
+    private int mask;                               // hashTable.length - 1
+    private final int seed;                         // Mixed into every hash code
+    private boolean initialized = false;
+    private final double maxLoadFactor;             // Fraction of hash table that
+                                                    // can be filled, counting
+                                                    // removed locations
+    private int resizeThreshold;                    // Locations used before rehash
+    private final HashStrategy<? super K> hashStrategy; // Null means use hashCode
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.5;
+    private static final int MAX_SIZE = 1 << 30;    // Largest power-of-2 array
+
+    public ScalableHashedDictionary()
+    {
+        this(DEFAULT_CAPACITY); // Call next constructor
+    } // end default constructor
+
+    public ScalableHashedDictionary(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_MAX_LOAD_FACTOR);
+    } // end constructor
+
+    /** Creates an empty dictionary.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be used before it is enlarged; must be
+                                greater than 0 and less than 1. */
+    public ScalableHashedDictionary(int initialCapacity, double maxLoadFactor)
+    {
+        this(initialCapacity, maxLoadFactor, null);
+    } // end constructor
+
+    /** Creates an empty dictionary whose keys are hashed by a given strategy
+        instead of by their hashCode methods.
+        @param initialCapacity  The number of entries the dictionary can hold
+                                before its hash table is enlarged.
+        @param maxLoadFactor    The largest fraction of the hash table that
+                                can be used before it is enlarged; must be
+                                greater than 0 and less than 1.
+        @param hashStrategy     The strategy that computes the keys' hash
+                                codes, or null to use their hashCode methods. */
+    public ScalableHashedDictionary(int initialCapacity, double maxLoadFactor,
+                                    HashStrategy<? super K> hashStrategy)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative: " +
+                                               initialCapacity);
+        if (!(maxLoadFactor > 0.0 && maxLoadFactor < 1.0))
+            throw new IllegalArgumentException("Load factor must be between " +
+                                               "0 and 1: " + maxLoadFactor);
+        this.maxLoadFactor = maxLoadFactor;
+        this.hashStrategy = hashStrategy;
+        numberOfEntries = 0;
+        seed = ThreadLocalRandom.current().nextInt();
+        numberOfRemoved = 0;
+
+        // Smallest power of 2 that holds initialCapacity within the load factor
+        int tableSize = getTableSizeFor((long)Math.ceil(initialCapacity / maxLoadFactor) + 1);
+        allocateTable(tableSize);
+        initialized = true;
+    } // end constructor
+
+    /** Adds a new entry to this dictionary. If the given search key already
+       exists in the dictionary, replaces the corresponding value.
+       @param key    An object search key of the new entry.
+       @param value  An object associated with the search key.
+       @return  Either null if the new entry was added to the dictionary
+                or the value that was associated with key if that value
+                was replaced. */
+    public V add(K key, V value)
+    {
+        checkInitialization();
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException();
+        else
+        {
+            V oldValue; // Value to return
+            int hash = spread(hashOf(key));
+            int index = probe(getHashIndex(hash), hash, key);
+            // Assertion: index is within legal range for hashTable
+            assert (index >= 0) && (index < hashTable.length);
+            TableEntry<K, V> entry = hashTable[index];
+            if ((entry == null) || entry.isRemoved())
+            {   // Key not found; add new entry to dictionary
+                if (entry != null)
+                    numberOfRemoved--;  // Reuse location in removed state
+                else if (isLastNullLocation())
+                {   // Only at maximum size: make room by discarding removed
+                    // entries, then probe again since entries have moved
+                    rehash();
+                    index = probe(getHashIndex(hash), hash, key);
+                } // end if
+                hashTable[index] = new TableEntry<>(key, value, hash);
+                numberOfEntries++;
+                oldValue = null;
+                // Ensure that hash table is large enough for another add
+                if (isHashTableTooFull())
+                    rehash();
+            }
+            else
+            {   // Key found; get old value for return and then replace it
+                oldValue = entry.getValue();
+                entry.setValue(value);
+            } // end if
+            return oldValue;
+        } // end if
+    } // end add
+
+    /** Removes a specific entry from this dictionary.
+        @param key An object search key of the entry to be removed.
+        @return Either the value that was associated with the search key
+                or null if no such object exists. */
+    public V remove(K key)
+    {
+        checkInitialization();
+        V removedValue = null;
+        int index = locate(key);
+        if (index >= 0)
+        {   // Key found; remove entry and return its value
+            TableEntry<K, V> entry = hashTable[index];
+            removedValue = entry.getValue();
+            entry.setToRemoved();
+            numberOfEntries--;
+            numberOfRemoved++;  // Counted toward the load factor until the
+                                // next rehash discards it
+        } // end if
+        // Else key not found; return null
+        return removedValue;
+    } // end remove
+
+    /** Retrieves from this dictionary the value associated with a given
+        search key.
+        @param key An object search key of the entry to be retrieved.
+        @return Either the value that is associated with the search key
+         or null if no such object exists. */
+    public V getValue(K key)
+    {
+        checkInitialization();
+        V result = null;
+        int index = locate(key);
+        if (index >= 0)
+            result = hashTable[index].getValue();   // Key found; get value
+        // Else key not found; return null
+        return result;
+    } // end getValue
+
+    /** Sees whether a specific entry is in this dictionary.
+        @param key  An object search key of the desired entry.
+        @return  True if key is associated with an entry in the dictionary. */
+    public boolean contains(K key)
+    {
+        checkInitialization();
+        return locate(key) >= 0;
+    } // end contains
+
+    /** Creates an iterator that traverses all search keys in this dictionary.
+        @return  An iterator that provides sequential access to the search
+                 keys in the dictionary. */
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator();
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses all values in this dictionary.
+        @return  An iterator that provides sequential access to the values
+                 in this dictionary. */
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator();
+    } // end getValueIterator
+
+    /** Sees whether this dictionary is empty.
+        @return  True if the dictionary is empty. */
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    /** Gets the size of this dictionary.
+        @return  The number of entries (key-value pairs) currently
+                 in the dictionary. */
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Removes all entries from this dictionary. The hash table keeps its
+        current size. */
+    public void clear()
+    {
+        checkInitialization();
+        for (int index = 0; index < hashTable.length; index++)
+            hashTable[index] = null;
+        numberOfEntries = 0;
+        numberOfRemoved = 0;
+    } // end clear
+
+    /** Counts the entries in this dictionary by probe length. Locations in
+        the removed state that a search passes over count as probes.
+        @return  An array whose element at index i is the number of entries
+                 found after i + 1 probes. */
+    public int[] getProbeLengthHistogram()
+    {
+        checkInitialization();
+        int longest = 0;
+        for (int index = 0; index < hashTable.length; index++)
+        {
+            if ((hashTable[index] != null) && hashTable[index].isIn())
+                longest = Math.max(longest, getDisplacement(index) + 1);
+        } // end for
+
+        int[] histogram = new int[longest];
+        for (int index = 0; index < hashTable.length; index++)
+        {
+            if ((hashTable[index] != null) && hashTable[index].isIn())
+                histogram[getDisplacement(index)]++;
+        } // end for
+        return histogram;
+    } // end getProbeLengthHistogram
+
+    /** Gets the fraction of the hash table that currently holds entries.
+        @return  The number of entries divided by the hash table's length. */
+    public double getLoadFactor()
+    {
+        return (double)numberOfEntries / hashTable.length;
+    } // end getLoadFactor
+
+    /** Gets the number of locations in the hash table.
+        @return  The current length of the hash table. */
+    public int getTableSize()
+    {
+        return hashTable.length;
+    } // end getTableSize
+
+    // Throws an exception if this object is not initialized.
+    private void checkInitialization()
+    {
+        if (!initialized)
+            throw new SecurityException("ScalableHashedDictionary object is corrupt.");
+    } // end checkInitialization
+
+    // Returns the smallest power of 2 that is at least minimumSize.
+    // Throws an exception if that size exceeds MAX_SIZE.
+    private static int getTableSizeFor(long minimumSize)
+    {
+        if (minimumSize > MAX_SIZE)
+            throw new IllegalStateException("Attempt to create a hash table " +
+                                            "whose size exceeds allowed " +
+                                            "maximum of " + MAX_SIZE);
+        int size = DEFAULT_CAPACITY;
+        while (size < minimumSize)
+            size = size << 1;
+        return size;
+    } // end getTableSizeFor
+
+    // Creates an empty hash table of the given size, which must be a power of 2.
+    private void allocateTable(int tableSize)
+    {
+        assert Integer.bitCount(tableSize) == 1;
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        TableEntry<K, V>[] temp = (TableEntry<K, V>[])new TableEntry[tableSize];
+        hashTable = temp;
+        mask = tableSize - 1;
+        if (tableSize == MAX_SIZE)
+            resizeThreshold = Integer.MAX_VALUE; // Cannot grow; allow it to fill
+        else
+            resizeThreshold = (int)(tableSize * maxLoadFactor);
+    } // end allocateTable
+
+    // Returns the hash code of key given by the hash strategy, if any.
+    private int hashOf(K key)
+    {
+        return (hashStrategy == null) ? key.hashCode() : hashStrategy.hash(key);
+    } // end hashOf
+
+    // Scrambles a hash code, together with this dictionary's seed, so that
+    // each of its low bits depends on all of its bits. The mapping is
+    // one-to-one, so keys whose spread hash codes are equal also have equal
+    // hash codes.
+    private int spread(int hashCode)
+    {
+        int h = hashCode ^ seed;
+        h = h ^ (h >>> 16);
+        h = h * 0x85EBCA6B;
+        h = h ^ (h >>> 13);
+        h = h * 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    } // end spread
+
+    // Indexes a power-of-2 table by the low bits of a spread hash code.
+    // Entries lie in the table roughly in order of these bits. Since each
+    // dictionary has its own seed, adding the keys of one dictionary to
+    // another, in the order its iterator gives them, sends consecutive keys
+    // to unrelated home locations rather than crowding them together.
+    private int getHashIndex(int hash)
+    {
+        return hash & mask;
+    } // end getHashIndex
+
+    // Returns how many locations the entry at index lies beyond its home location.
+    private int getDisplacement(int index)
+    {
+        return (index - getHashIndex(hashTable[index].getHash())) & mask;
+    } // end getDisplacement
+
+    // Searches the probe sequence for key and returns either the index of the
+    // entry containing key or -1, if no such entry exists.
+    private int locate(K key)
+    {
+        int hash = spread(hashOf(key));
+        int index = getHashIndex(hash);
+        TableEntry<K, V> entry = hashTable[index];
+        while (entry != null)
+        {
+            if (entry.isIn() && (entry.getHash() == hash) && key.equals(entry.getKey()))
+                return index;                       // Key found
+            index = (index + 1) & mask;             // Linear probing (circular)
+            entry = hashTable[index];
+        } // end while
+        return -1;
+    } // end locate
+
+    // Searches the probe sequence that begins at index.
+    // Returns either the index of the entry containing key or
+    //                the index of an available location in the hash table.
+    // This index is always legal, since the probe sequence stays within the
+    // hash table, and the table always contains at least one null location.
+    private int probe(int index, int hash, K key)
+    {
+        int removedStateIndex = -1; // Index of first location in removed state
+        TableEntry<K, V> entry = hashTable[index];
+        while (entry != null)
+        {
+            if (entry.isIn())
+            {
+                if ((entry.getHash() == hash) && key.equals(entry.getKey()))
+                    return index;   // Key found
+            }
+            else if (removedStateIndex == -1)
+                removedStateIndex = index;  // Save first location in removed state
+            index = (index + 1) & mask;     // Linear probing (circular)
+            entry = hashTable[index];
+        } // end while
+        // Assertion: key is not in the table; null is found at hashTable[index]
+        if (removedStateIndex == -1)
+            return index;                   // Index of null
+        else
+            return removedStateIndex;       // Index of first entry removed
+    } // end probe
+
+    // Returns true if using another null location would leave none, which
+    // can happen only when the table is as large as it can be. Throws an
+    // exception if no removed location can be reclaimed either.
+    private boolean isLastNullLocation()
+    {
+        boolean result = numberOfEntries + numberOfRemoved + 1 >= hashTable.length;
+        if (result && (numberOfRemoved == 0))
+            throw new IllegalStateException("Hash table is full at maximum " +
+                                            "size of " + hashTable.length);
+        return result;
+    } // end isLastNullLocation
+
+    // Returns true if the locations in use, including those in the removed
+    // state, have reached the resize threshold.
+    private boolean isHashTableTooFull()
+    {
+        return numberOfEntries + numberOfRemoved >= resizeThreshold;
+    } // end isHashTableTooFull
+
+    // Rebuilds the hash table without any entries in the removed state.
+    // The table doubles in size only if the current entries alone fill at
+    // least half of what the load factor allows; otherwise removed entries
+    // dominate, and discarding them is enough. The table never shrinks.
+    private void rehash()
+    {
+        TableEntry<K, V>[] oldTable = hashTable;
+        int newSize = oldTable.length;
+        if ((numberOfEntries >= resizeThreshold / 2) && (newSize < MAX_SIZE))
+            newSize = getTableSizeFor((long)newSize << 1);
+        allocateTable(newSize);
+        numberOfRemoved = 0;
+
+        // Rehash dictionary entries from old array to the new array;
+        // skip both null locations and removed entries. Each entry keeps its
+        // saved hash, so the key is not hashed again.
+        for (int index = 0; index < oldTable.length; index++)
+        {
+            TableEntry<K, V> entry = oldTable[index];
+            if ((entry != null) && entry.isIn())
+            {
+                int newIndex = getHashIndex(entry.getHash());
+                while (hashTable[newIndex] != null)
+                    newIndex = (newIndex + 1) & mask;
+                hashTable[newIndex] = entry;
+            } // end if
+        } // end for
+    } // end rehash
+
+    private abstract class TableIterator
+    {
+        private int currentIndex; // Current position in hash table
+        private int numberLeft;   // Number of entries left in iteration
+
+        private TableIterator()
+        {
+            currentIndex = 0;
+            numberLeft = numberOfEntries;
+        } // end constructor
+
+        /** Detects whether this iterator has completed its traversal
+            and gone beyond the last entry in the collection of data.
+            @return True if the iterator has another entry to return. */
+        public boolean hasNext()
+        {
+            return numberLeft > 0;
+        } // end hasNext
+
+        // Returns the next entry in the hash table.
+        // Throws NoSuchElementException if hasNext() is false.
+        TableEntry<K, V> nextEntry()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while ((hashTable[currentIndex] == null) ||
+                   hashTable[currentIndex].isRemoved())
+                currentIndex++;
+            // end while
+            TableEntry<K, V> result = hashTable[currentIndex];
+            numberLeft--;
+            currentIndex++;
+            return result;
+        } // end nextEntry
+
+        /** Throws UnsupportedOperationException, since this iterator does
+            not permit a remove operation. */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("remove() method is not " +
+                                                    "supported.");
+        } // end remove
+    } // end TableIterator
+
+    private class KeyIterator extends TableIterator implements Iterator<K>
+    {
+        /** Retrieves the next search key in the dictionary.
+            @return  The next key in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public K next()
+        {
+            return nextEntry().getKey();
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends TableIterator implements Iterator<V>
+    {
+        /** Retrieves the next value in the dictionary.
+            @return  The next value in the iteration.
+            @throws  NoSuchElementException if hasNext() is false. */
+        public V next()
+        {
+            return nextEntry().getValue();
+        } // end next
+    } // end ValueIterator
+
+    private static class TableEntry<S, T>
+    {
+        private final S key;
+        private T value;
+        private final int hash;     // Spread hash code of key
+        private boolean removed;    // Flags whether this entry is in the hash table
+
+        private TableEntry(S searchKey, T dataValue, int keyHash)
+        {
+            key = searchKey;
+            value = dataValue;
+            hash = keyHash;
+            removed = false;
+        } // end constructor
+
+        private S getKey()
+        {
+            return key;
+        } // end getKey
+
+        private T getValue()
+        {
+            return value;
+        } // end getValue
+
+        private void setValue(T newValue)
+        {
+            value = newValue;
+        } // end setValue
+
+        private int getHash()
+        {
+            return hash;
+        } // end getHash
+
+        private boolean isIn()
+        {
+            return !removed;
+        } // end isIn
+
+        private boolean isRemoved()
+        {
+            return removed;
+        } // end isRemoved
+
+        // Marks this entry as removed and drops its value so that it
+        // can be garbage collected.
+        private void setToRemoved()
+        {
+            removed = true;
+            value = null;
+        } // end setToRemoved
+    } // end TableEntry
+} // end ScalableHashedDictionary
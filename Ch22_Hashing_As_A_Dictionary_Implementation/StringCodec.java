@@ -0,0 +1,16 @@
+import java.nio.charset.StandardCharsets;
+/**
+    A class that converts strings to and from their UTF-8 bytes.
+*/
+public class StringCodec implements ByteCodec<String>
+{
+    public byte[] toBytes(String object)
+    {
+        return object.getBytes(StandardCharsets.UTF_8);
+    } // end toBytes
+
+    public String fromBytes(byte[] bytes)
+    {
+        return new String(bytes, StandardCharsets.UTF_8);
+    } // end fromBytes
+} // end StringCodec
@@ -11,6 +11,7 @@ class BinaryNode<T>
     private T             data;
     private BinaryNode<T> leftChild;  // Reference to left child
     private BinaryNode<T> rightChild; // Reference to right child
+    private BinaryNode<T> parent;     // Node whose child this node was last made
 
     public BinaryNode()
     {
@@ -26,8 +27,9 @@ class BinaryNode<T>
                                      BinaryNode<T> newRightChild)
     {
        data = dataPortion;
-       leftChild = newLeftChild;
-       rightChild = newRightChild;
+       parent = null;
+       setLeftChild(newLeftChild);
+       setRightChild(newRightChild);
     } // end constructor
 
     /** Retrieves the data portion of this node.
@@ -56,6 +58,8 @@ class BinaryNode<T>
     public void setLeftChild(BinaryNode<T> newLeftChild)
     {
        leftChild = newLeftChild;
+       if (newLeftChild != null)
+          newLeftChild.parent = this;
     } // end setLeftChild
 
     /** Detects whether this node has a left child.
@@ -77,6 +81,8 @@ class BinaryNode<T>
     public void setRightChild(BinaryNode<T> newRightChild)
     {
        rightChild = newRightChild;
+       if (newRightChild != null)
+          newRightChild.parent = this;
     } // end setRightChild
 
     /** Detects whether this node has a right child.
@@ -86,6 +92,15 @@ class BinaryNode<T>
        return rightChild != null;
     } // end hasRightChild
     
+    /** Retrieves the node that this node was last made a child of.
+        Setting a child sets the child's parent, so within a tree this is
+        the node's parent; for the tree's root it is meaningless.
+        @return  A reference to this node's parent, or null. */
+    public BinaryNode<T> getParent()
+    {
+       return parent;
+    } // end getParent
+    
     /** Detects whether this node is a leaf.
      @return  True if the node is a leaf. */
     public boolean isLeaf()
@@ -9,20 +9,30 @@ import StackAndQueuePackage.*; // Needed by tree iterators
 public class BinaryTree<T> implements BinaryTreeInterface<T>
 {
     private BinaryNode<T> root;
+    private TraversalMode traversalMode; // How the iterators move through the tree
+
+    // Orders in which a LinkedIterator visits the nodes
+    private static final int PREORDER = 0;
+    private static final int INORDER = 1;
+    private static final int POSTORDER = 2;
+    private static final int LEVEL_ORDER = 3;
 
     public BinaryTree()
     {
         root = null;
+        traversalMode = TraversalMode.STACK;
     } // end default constructor
 
     public BinaryTree(T rootData)
     {
         root = new BinaryNode<>(rootData);
+        traversalMode = TraversalMode.STACK;
     } // end constructor
 
     public BinaryTree(T rootData, BinaryTree<T> leftTree, BinaryTree<T> rightTree)
     {
         privateSetTree(rootData, leftTree, rightTree);
+        traversalMode = TraversalMode.STACK;
     } // end constructor 
 
     public void setTree(T rootData) 
@@ -80,24 +90,55 @@ public class BinaryTree<T> implements BinaryTreeInterface<T>
     } // end getRootNode
     
     
+    /** Sets how the iterators that this tree creates from now on move
+        through the tree.
+        @param mode  STACK to keep the nodes still to be visited in a stack
+                     or queue, or PARENT_LINKS to follow the nodes' parent
+                     references instead, allocating nothing per node. */
+    public void setTraversalMode(TraversalMode mode)
+    {
+        if (mode == null)
+            throw new IllegalArgumentException("The traversal mode cannot be null.");
+        traversalMode = mode;
+    } // end setTraversalMode
+
+    /** Gets how this tree's iterators move through the tree.
+        @return  The current traversal mode. */
+    public TraversalMode getTraversalMode()
+    {
+        return traversalMode;
+    } // end getTraversalMode
+
     public Iterator<T> getPreorderIterator()
     {
-        return new PreorderIterator();
+        if (traversalMode == TraversalMode.PARENT_LINKS)
+            return new LinkedIterator(PREORDER);
+        else
+            return new PreorderIterator();
     } // end getPreorderIterator
     
     public Iterator<T> getPostorderIterator()
     {
-        return new PostorderIterator();
+        if (traversalMode == TraversalMode.PARENT_LINKS)
+            return new LinkedIterator(POSTORDER);
+        else
+            return new PostorderIterator();
     } // end getPostorderIterator
     
     public Iterator<T> getInorderIterator()
     {
-        return new InorderIterator();
+        if (traversalMode == TraversalMode.PARENT_LINKS)
+            return new LinkedIterator(INORDER);
+        else
+            return new InorderIterator();
     } // end getInorderIterator
     
     public Iterator<T> getLevelOrderIterator()
     {
-        return new LevelOrderIterator();
+        if (traversalMode == TraversalMode.PARENT_LINKS)
+            return new LinkedIterator(LEVEL_ORDER);
+        else
+            return new LevelOrderIterator();
     } // end getLevelOrderIterator
 
     private void privateSetTree(T rootData, BinaryTree<T> leftTree,
@@ -440,4 +481,119 @@ public class BinaryTree<T> implements BinaryTreeInterface<T>
            throw new UnsupportedOperationException();
         } // end remove
     } // end LevelOrderIterator
+
+    // Walks around the tree, going down to each node's children and back
+    // up through its parent reference, and returns the nodes in a given
+    // order as the walk passes them. For level order, the walk repeats
+    // once for each level and goes no deeper than that level.
+    private class LinkedIterator implements Iterator<T>
+    {
+        private int order;
+        private BinaryNode<T> currentNode;  // Where the walk is, or null at its end
+        private BinaryNode<T> previousNode; // Where the walk came from
+        private boolean fromParent;         // Whether currentNode was reached from above
+        private int depth;                  // Depth of currentNode; the root's is 1
+        private int levelDepth;             // Level being walked, for level order
+        private boolean levelFound;         // Whether that level has nodes
+        private BinaryNode<T> nextNode;     // Next node to return, or null if none
+
+        public LinkedIterator(int traversalOrder)
+        {
+            order = traversalOrder;
+            currentNode = root;
+            previousNode = null;
+            fromParent = true;
+            depth = 0;
+            levelDepth = 1;
+            levelFound = false;
+            advance();
+        } // end constructor
+
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        } // end hasNext
+
+        public T next()
+        {
+            if (nextNode == null)
+                throw new NoSuchElementException();
+
+            T result = nextNode.getData();
+            advance();
+            return result;
+        } // end next
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        } // end remove
+
+        // Continues the walk until it passes the next node to return, and
+        // makes that node nextNode; nextNode is null if the walk ends first.
+        private void advance()
+        {
+            nextNode = null;
+            while ((nextNode == null) && (currentNode != null))
+            {
+                BinaryNode<T> node = currentNode;
+                BinaryNode<T> child;                // Child to go down to, or null
+                if (fromParent)
+                {   // First pass: go down to the left child, or else the right one
+                    depth++;
+                    if ((order == LEVEL_ORDER) && (depth == levelDepth))
+                    {
+                        nextNode = node;
+                        levelFound = true;
+                        child = null;               // Do not go below the level
+                    }
+                    else
+                    {
+                        if (order == PREORDER)
+                            nextNode = node;
+                        child = node.getLeftChild();
+                        if (child == null)
+                        {
+                            if (order == INORDER)
+                                nextNode = node;
+                            child = node.getRightChild();
+                        } // end if
+                    } // end if
+                }
+                else if (previousNode == node.getLeftChild())
+                {   // Back from the left subtree
+                    if (order == INORDER)
+                        nextNode = node;
+                    child = node.getRightChild();
+                }
+                else
+                    child = null;                   // Back from the right subtree
+
+                previousNode = node;
+                if (child != null)
+                {
+                    currentNode = child;
+                    fromParent = true;
+                }
+                else
+                {   // Both subtrees are done; go back up
+                    if (order == POSTORDER)
+                        nextNode = node;
+                    depth--;
+                    fromParent = false;
+                    if (node != root)
+                        currentNode = node.getParent();
+                    else if ((order == LEVEL_ORDER) && levelFound)
+                    {   // Walk again for the next level
+                        currentNode = root;
+                        fromParent = true;
+                        levelDepth++;
+                        levelFound = false;
+                    }
+                    else
+                        currentNode = null;
+                } // end if
+            } // end while
+        } // end advance
+    } // end LinkedIterator
 } // end BinaryTree
@@ -0,0 +1,16 @@
+package TreePackage;
+/**
+   The ways a BinaryTree's iterators can move through the tree.
+*/
+public enum TraversalMode
+{
+    /** Keep the nodes still to be visited in a stack, or a queue for
+        level order, which allocates an object for each node visited. */
+    STACK,
+
+    /** Move from node to node through the children and the parent
+        references, without allocating anything but the iterator.
+        A level-order traversal walks the tree once per level, so it
+        takes O(n h) time for a tree of height h. */
+    PARENT_LINKS
+} // end TraversalMode
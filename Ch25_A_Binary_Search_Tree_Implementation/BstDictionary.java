@@ -97,6 +97,71 @@ public class BstDictionary<K extends Comparable<? super K>, V>
         return new ValueIterator();
     } // end getValueIterator
     
+    /** Retrieves the largest search key in this dictionary that is no
+        larger than a given key.
+        @param key  An object search key.
+        @return  Either the largest search key that is less than or equal
+                 to key, or null if no such key exists. */
+    public K getFloorKey(K key)
+    {
+        Entry<K, V> foundEntry = bst.floor(new Entry<>(key, null));
+
+        K result = null;
+        if (foundEntry != null)
+            result = foundEntry.getKey();
+        return result;
+    } // end getFloorKey
+
+    /** Retrieves the smallest search key in this dictionary that is no
+        smaller than a given key.
+        @param key  An object search key.
+        @return  Either the smallest search key that is greater than or
+                 equal to key, or null if no such key exists. */
+    public K getCeilingKey(K key)
+    {
+        Entry<K, V> foundEntry = bst.ceiling(new Entry<>(key, null));
+
+        K result = null;
+        if (foundEntry != null)
+            result = foundEntry.getKey();
+        return result;
+    } // end getCeilingKey
+
+    /** Creates an iterator that traverses, in sorted order, the search keys
+        in a given range. Only the parts of the tree holding the range
+        are visited.
+        @param from  The smallest search key to include.
+        @param to    The search key at which to stop; it is not included.
+        @return  An iterator of the keys at least from and less than to. */
+    public Iterator<K> getKeyIterator(K from, K to)
+    {
+        return new KeyIterator(getRangeIterator(from, to));
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses the values whose search keys are
+        in a given range, in the order of their keys.
+        @param from  The smallest search key to include.
+        @param to    The search key at which to stop; it is not included.
+        @return  An iterator of the values of the keys in the range. */
+    public Iterator<V> getValueIterator(K from, K to)
+    {
+        return new ValueIterator(getRangeIterator(from, to));
+    } // end getValueIterator
+
+    /** Counts the search keys in a given range.
+        @param from  The smallest search key to include.
+        @param to    The search key at which to stop; it is not included.
+        @return  The number of keys at least from and less than to. */
+    public int countInRange(K from, K to)
+    {
+        return bst.countInRange(new Entry<>(from, null), new Entry<>(to, null));
+    } // end countInRange
+
+    private Iterator<Entry<K, V>> getRangeIterator(K from, K to)
+    {
+        return bst.getRangeIterator(new Entry<>(from, null), new Entry<>(to, null));
+    } // end getRangeIterator
+
     /** Sees whether this dictionary is empty.
         @return  True if the dictionary is empty. */
     public boolean isEmpty()
@@ -126,6 +191,11 @@ public class BstDictionary<K extends Comparable<? super K>, V>
         {
             localIterator = bst.getInorderIterator();
         } // end default constructor
+
+        public KeyIterator(Iterator<Entry<K, V>> entryIterator)
+        {
+            localIterator = entryIterator;
+        } // end constructor
         
         public boolean hasNext()
         {
@@ -152,6 +222,11 @@ public class BstDictionary<K extends Comparable<? super K>, V>
         {
             localIterator = bst.getInorderIterator();
         } // end default constructor
+
+        public ValueIterator(Iterator<Entry<K, V>> entryIterator)
+        {
+            localIterator = entryIterator;
+        } // end constructor
         
         public boolean hasNext()
         {
@@ -1,8 +1,11 @@
 package TreePackage;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 /**
    A class that implements the ADT binary search tree by extending BinaryTree.
-   Recursive version.
+   Iterative version: each node references its parent, so no operation
+   recurses or needs a stack, whatever the shape of the tree.
  
    @author Frank M. Carrano
    @author Timothy M. Henry
@@ -19,7 +22,34 @@ public class BinarySearchTree<T extends Comparable<? super T>>
     public BinarySearchTree(T rootEntry)
     {
         super();
-        setRootNode(new BinaryNode<T>(rootEntry));
+        setRootNode(new ParentNode<>(rootEntry));
+    } // end constructor
+
+    /** Creates a tree of the entries in a sorted array, in O(n) time.
+        The tree has the smallest possible height.
+        @param sortedEntries  An array of distinct entries in ascending order.
+        @throws IllegalArgumentException if an entry is null or the
+                entries are not in strictly ascending order. */
+    public BinarySearchTree(T[] sortedEntries)
+    {
+        this(Arrays.asList(sortedEntries).iterator(), sortedEntries.length);
+    } // end constructor
+
+    /** Creates a tree of the entries of a sorted iteration, in O(n) time.
+        The tree has the smallest possible height.
+        @param sortedEntries    An iterator of distinct entries in ascending
+                                order.
+        @param numberOfEntries  The number of entries to take from sortedEntries.
+        @throws IllegalArgumentException if numberOfEntries is negative or
+                more than the iterator provides, an entry is null, or the
+                entries are not in strictly ascending order. */
+    public BinarySearchTree(Iterator<? extends T> sortedEntries, int numberOfEntries)
+    {
+        super();
+        if (numberOfEntries < 0)
+            throw new IllegalArgumentException("The number of entries cannot be negative.");
+        ReturnObject lastEntry = new ReturnObject();
+        setRootNode(buildTree(sortedEntries, numberOfEntries, lastEntry));
     } // end constructor
 
     // Disable setTree (see Segment 25.6)
@@ -44,25 +74,13 @@ public class BinarySearchTree<T extends Comparable<? super T>>
                  null if no such object exists. */
     public T getEntry(T entry)
     {
-        return findEntry(getRootNode(), entry);
-    } // end getEntry
-    
-    private T findEntry(BinaryNode<T> rootNode, T entry)
-    {
+        BinaryNode<T> foundNode = findNode(entry);
+
         T result = null;
-        
-        if (rootNode != null)
-        {
-            T rootEntry = rootNode.getData();
-            if (entry.equals(rootEntry))
-                result = rootEntry;
-            else if (entry.compareTo(rootEntry) < 0)
-                result = findEntry(rootNode.getLeftChild(), entry);
-            else 
-                result = findEntry(rootNode.getRightChild(), entry);
-        } // end if
+        if (foundNode != null)
+            result = foundNode.getData();
         return result;
-    } // end findEntry
+    } // end getEntry
     
         /** Searches for a specific entry in this tree.
         @param entry  An object to be found.
@@ -83,43 +101,14 @@ public class BinarySearchTree<T extends Comparable<? super T>>
     {
         T result = null;
         if (isEmpty())
-            setRootNode(new BinaryNode<>(newEntry));                    
+            setRootNode(new ParentNode<>(newEntry));
         else
-            result = addEntry(getRootNode(), newEntry);
-        // or 
-        // result = addEntryI(newEntry);
+            result = addEntryI(newEntry);
         return result;        
     } // end add
     // Adds a new entry to a binary search tree that is not empty.
     // Returns null if newEntry did not exist already in the tree. Otherwise, 
     // returns the tree entry that matched and was replaced by newEntry.
-    private T addEntry(BinaryNode<T> rootNode, T newEntry)
-    {
-        assert rootNode != null;
-        T result = null;
-        int comparison = newEntry.compareTo(rootNode.getData());
-        if (comparison == 0)
-        {
-            result = rootNode.getData();
-            rootNode.setData(newEntry);
-        }
-        else if (comparison < 0)
-        {
-            if (rootNode.hasLeftChild())
-                result = addEntry(rootNode.getLeftChild(), newEntry);
-            else
-                rootNode.setLeftChild(new BinaryNode<>(newEntry));
-        }
-        else 
-        {
-            assert comparison > 0;
-            if (rootNode.hasRightChild())
-                result = addEntry(rootNode.getRightChild(), newEntry);
-            else
-                rootNode.setRightChild(new BinaryNode<>(newEntry));
-        }
-        return result;        
-    } // end addEntry
     private T addEntryI(T newEntry)
     {
         BinaryNode<T> currentNode = getRootNode();
@@ -145,7 +134,7 @@ public class BinarySearchTree<T extends Comparable<? super T>>
                 else
                 {
                     found = true;
-                    currentNode.setLeftChild(new BinaryNode<>(newEntry));
+                    currentNode.setLeftChild(new ParentNode<>(newEntry));
                 } // end if
             }
             else 
@@ -156,7 +145,7 @@ public class BinarySearchTree<T extends Comparable<? super T>>
                 else
                 {
                     found = true;
-                    currentNode.setRightChild(new BinaryNode<>(newEntry));
+                    currentNode.setRightChild(new ParentNode<>(newEntry));
                 } // end if
             } // end if
         } // end while
@@ -171,10 +160,8 @@ public class BinarySearchTree<T extends Comparable<? super T>>
     public T remove(T entry)
     {        
         T result = null;
-        // Locate node (and its parent) that contains a match for entry
-        NodePair pair = findNode(entry);
-        BinaryNode<T> currentNode = pair.getFirst();
-        BinaryNode<T> parentNode = pair.getSecond();
+        // Locate node that contains a match for entry
+        BinaryNode<T> currentNode = findNode(entry);
         if (currentNode != null)    // Entry is found
         {
             result = currentNode.getData(); // Get entry to be removed
@@ -184,10 +171,8 @@ public class BinarySearchTree<T extends Comparable<? super T>>
                 // Replace entry in currentNode with the entry in another node
                 // that has at most one child; that node can be deleted
                 // Get node to remove (contains inorder predecessor; has at 
-                // most one child) and its parent
-                pair = getNodeToRemove(currentNode);
-                BinaryNode<T> nodeToRemove = pair.getFirst();
-                parentNode = pair.getSecond();
+                // most one child)
+                BinaryNode<T> nodeToRemove = getNodeToRemove(currentNode);
                 // Copy entry from nodeToRemove to currentNode
                 currentNode.setData(nodeToRemove.getData());
                 currentNode = nodeToRemove;
@@ -196,66 +181,42 @@ public class BinarySearchTree<T extends Comparable<? super T>>
                 // Assertion: Case 1 has been transformed to Case 2                
             } // end if
             // Case 2: currentNode has at most one child; delete it
-            removeNode(currentNode, parentNode);
+            removeNode(currentNode);
         } // end if
         return result;
     } // end remove
     
-    private NodePair findNode(T entry)
+    // Returns the node that contains a match for entry, or null if
+    // there is no such node.
+    private BinaryNode<T> findNode(T entry)
     {        
-        NodePair result = new NodePair();
-        boolean found = false;
-        BinaryNode<T> parentNode = null;
-        BinaryNode<T> currentNode = getRootNode();                
-        T currentData = currentNode.getData();
-        int comparison = entry.compareTo(currentData);
-        
-        while (!found)
+        BinaryNode<T> currentNode = getRootNode();
+        while (currentNode != null)
         {
+            int comparison = entry.compareTo(currentNode.getData());
             if (comparison == 0)
-                found = true;
+                return currentNode;
             else if (comparison < 0)
-            {
-                parentNode = currentNode;
                 currentNode = currentNode.getLeftChild();
-                currentData = currentNode.getData();
-                comparison = entry.compareTo(currentData);
-            }
             else // entry > current node's entry
-            {
-                parentNode = currentNode;
                 currentNode = currentNode.getRightChild();
-                currentData = currentNode.getData();
-                comparison = entry.compareTo(currentData);
-            }
         } // end while
-                    
-        if (found)
-            result = new NodePair(currentNode, parentNode);
-        return result;
+        return null;
     } // end findNode
     
     // Returns the node to remove (contains inorder predecessor; has at 
-    // most one child) and its parent
-    private NodePair getNodeToRemove(BinaryNode<T> currentNode)
+    // most one child)
+    private BinaryNode<T> getNodeToRemove(BinaryNode<T> currentNode)
     {         
         // Find node with largest entry in left subtree by
         // moving as far right in the subtree as possible        
-        BinaryNode<T> leftSubtreeRoot = currentNode.getLeftChild();
-        BinaryNode<T> rightChild = leftSubtreeRoot;
-        BinaryNode<T> priorNode = currentNode;
-        
+        BinaryNode<T> rightChild = currentNode.getLeftChild();
         while (rightChild.hasRightChild())
-        {
-            priorNode = rightChild;
             rightChild = rightChild.getRightChild();
-        } // end while
-        // rightChild contains the inorder predecessor and is the node to
-        // remove; priorNode is its parent        
-        return new NodePair(rightChild, priorNode);        
+        return rightChild;
     } // end getNodeToRemove
     
-    private void removeNode(BinaryNode<T> nodeToRemove, BinaryNode<T> parentNode)
+    private void removeNode(BinaryNode<T> nodeToRemove)
     {
         BinaryNode<T> childNode;
         
@@ -268,6 +229,7 @@ public class BinarySearchTree<T extends Comparable<? super T>>
         assert (nodeToRemove.isLeaf() && childNode == null) ||
                 !nodeToRemove.isLeaf();
         
+        BinaryNode<T> parentNode = ((ParentNode<T>)nodeToRemove).getParent();
         if (nodeToRemove == getRootNode())
             setRootNode(childNode);
         else if (parentNode.getLeftChild() == nodeToRemove)
@@ -276,139 +238,304 @@ public class BinarySearchTree<T extends Comparable<? super T>>
             parentNode.setRightChild(childNode);
     } // end removeNode    
     
-    private class NodePair
+    /** Computes the height of this tree without recursion.
+        @return  The height of the tree, which is 0 if the tree is empty. */
+    public int getHeight()
     {
-        BinaryNode<T> curNode;
-        BinaryNode<T> parNode;
-        
-        private NodePair()
+        if (isEmpty())
+            return 0;
+        else
+            return super.getHeight();
+    } // end getHeight
+
+    /** Counts the nodes in this tree without recursion.
+        @return  The number of nodes in the tree, which is 0 if the tree
+                 is empty. */
+    public int getNumberOfNodes()
+    {
+        if (isEmpty())
+            return 0;
+        else
+            return super.getNumberOfNodes();
+    } // end getNumberOfNodes
+
+    /** Creates an iterator that traverses all entries in this tree.
+        The iterator moves from an entry to the next one through the
+        nodes' parent references, so it uses no stack.
+        @return  An iterator that provides sequential and ordered access
+                 to the entries in the tree. */
+    public Iterator<T> getInorderIterator()
+    {
+        BinaryNode<T> firstNode = getRootNode();
+        if (firstNode != null)
         {
-            this(null, null);
-            
-        } // end default constructor
-        
-        private NodePair(BinaryNode<T> firstNode, BinaryNode<T> secondNode)
+            while (firstNode.hasLeftChild())
+                firstNode = firstNode.getLeftChild();
+        } // end if
+        return new SuccessorIterator(firstNode, null);
+    } // end getInorderIterator
+
+    /** Retrieves the largest entry in this tree that is no larger than
+        a given object.
+        @param anEntry  An object to be compared with the entries.
+        @return  Either the largest entry that is less than or equal to
+                 anEntry, or null if no such entry exists. */
+    public T floor(T anEntry)
+    {
+        T result = null;
+        BinaryNode<T> currentNode = getRootNode();
+        while (currentNode != null)
+        {
+            int comparison = anEntry.compareTo(currentNode.getData());
+            if (comparison == 0)
+                return currentNode.getData();
+            else if (comparison < 0)
+                currentNode = currentNode.getLeftChild();
+            else
+            {   // currentNode's entry is a candidate; look for a larger one
+                result = currentNode.getData();
+                currentNode = currentNode.getRightChild();
+            } // end if
+        } // end while
+        return result;
+    } // end floor
+
+    /** Retrieves the smallest entry in this tree that is no smaller than
+        a given object.
+        @param anEntry  An object to be compared with the entries.
+        @return  Either the smallest entry that is greater than or equal
+                 to anEntry, or null if no such entry exists. */
+    public T ceiling(T anEntry)
+    {
+        BinaryNode<T> ceilingNode = findCeilingNode(anEntry);
+
+        T result = null;
+        if (ceilingNode != null)
+            result = ceilingNode.getData();
+        return result;
+    } // end ceiling
+
+    /** Creates an iterator that traverses, in order, the entries in a
+        given range. Subtrees outside the range are not visited, so
+        traversing k entries takes O(h + k) time for a tree of height h.
+        @param from  The smallest entry to include.
+        @param to    The entry at which to stop; it is not included.
+        @return  An iterator of the entries at least from and less than to. */
+    public Iterator<T> getRangeIterator(T from, T to)
+    {
+        return new SuccessorIterator(findCeilingNode(from), to);
+    } // end getRangeIterator
+
+    /** Counts the entries in a given range. Only the subtrees that can
+        contain such entries are visited.
+        @param from  The smallest entry to include.
+        @param to    The entry at which to stop; it is not included.
+        @return  The number of entries at least from and less than to. */
+    public int countInRange(T from, T to)
+    {
+        int count = 0;
+        BinaryNode<T> currentNode = findCeilingNode(from);
+        while ((currentNode != null) && (currentNode.getData().compareTo(to) < 0))
+        {
+            count++;
+            currentNode = getSuccessor(currentNode);
+        } // end while
+        return count;
+    } // end countInRange
+
+    // Returns the node that contains the smallest entry at least anEntry,
+    // or null if there is no such node.
+    private BinaryNode<T> findCeilingNode(T anEntry)
+    {
+        BinaryNode<T> result = null;
+        BinaryNode<T> currentNode = getRootNode();
+        while (currentNode != null)
+        {
+            int comparison = anEntry.compareTo(currentNode.getData());
+            if (comparison == 0)
+                return currentNode;
+            else if (comparison > 0)
+                currentNode = currentNode.getRightChild();
+            else
+            {   // currentNode is a candidate; look for a smaller one
+                result = currentNode;
+                currentNode = currentNode.getLeftChild();
+            } // end if
+        } // end while
+        return result;
+    } // end findCeilingNode
+
+    // Returns the node that contains the entry after the one in a given
+    // node, or null if the given node contains the largest entry.
+    private BinaryNode<T> getSuccessor(BinaryNode<T> currentNode)
+    {
+        if (currentNode.hasRightChild())
+        {   // The successor is the leftmost node in the right subtree
+            currentNode = currentNode.getRightChild();
+            while (currentNode.hasLeftChild())
+                currentNode = currentNode.getLeftChild();
+            return currentNode;
+        } // end if
+
+        // Otherwise, it is the first ancestor reached from its left subtree
+        ParentNode<T> childNode = (ParentNode<T>)currentNode;
+        ParentNode<T> parentNode = childNode.getParent();
+        while ((parentNode != null) && (parentNode.getRightChild() == childNode))
+        {
+            childNode = parentNode;
+            parentNode = parentNode.getParent();
+        } // end while
+        return parentNode;
+    } // end getSuccessor
+
+    // Traverses the entries in order from a given node, moving from each
+    // node to its successor, and stops before an entry that is at least
+    // a given bound.
+    private class SuccessorIterator implements Iterator<T>
+    {
+        private BinaryNode<T> nextNode;
+        private T to;                   // Bound, or null if none
+
+        public SuccessorIterator(BinaryNode<T> firstNode, T to)
         {
-            curNode = firstNode;
-            parNode = secondNode;
+            nextNode = firstNode;
+            this.to = to;
         } // end constructor
-        
-        private BinaryNode<T> getFirst()
+
+        public boolean hasNext()
         {
-            return curNode;
-        } // end getFirst
-        
-        private BinaryNode<T> getSecond()
+            return (nextNode != null) &&
+                   ((to == null) || (nextNode.getData().compareTo(to) < 0));
+        } // end hasNext
+
+        public T next()
         {
-            return parNode;
-        } // end getSecond
-        
-    } // end NodePair
-    
-    
-    
-    
-    
-    
-    /** Removes a specific entry from this tree, recursively.
-        @param entry  An object to be removed.
-        @return  Either the object that was removed from the tree or
-                 null if no such object exists. */
-    public T removeR(T entry)
-    {        
-        ReturnObject oldEntry = new ReturnObject(null);
-        BinaryNode<T> newRoot = removeEntry(getRootNode(), entry, oldEntry);
-        setRootNode(newRoot);
-        
-        return oldEntry.get();
-    } // end removeR
-    // Removes an entry from the tree rooted at a given node.
-    // rootNode is a reference to the root of a tree.
-    // entry is the object to be removed.
-    // oldEntry is an object whose data field is null.
-    // Returns the root node of the resulting tree; if entry matches
-    //         an entry in the tree, oldEntry’s data field is the entry
-    //         that was removed from the tree; otherwise it is null.
-    private BinaryNode<T> removeEntry(BinaryNode<T> rootNode, T entry, 
-                                      ReturnObject oldEntry)
-    {        
-        if (rootNode != null)            
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            T result = nextNode.getData();
+            nextNode = getSuccessor(nextNode);
+            return result;
+        } // end next
+
+        public void remove()
         {
-            T rootData = rootNode.getData();
-            int comparison = entry.compareTo(rootData);
-            if (comparison == 0)    // entry == root entry
-            {
-                oldEntry.set(rootNode.getData());
-                rootNode = removeFromRoot(rootNode);
-            }
-            else if (comparison < 0) // entry < root entry
-            {
-                BinaryNode<T> leftChild = rootNode.getLeftChild();
-                BinaryNode<T> subtreeRoot = removeEntry(leftChild, entry, oldEntry);
-                rootNode.setLeftChild(subtreeRoot);
+            throw new UnsupportedOperationException();
+        } // end remove
+    } // end SuccessorIterator
+
+    // Makes a given node the root, clearing its parent reference.
+    protected void setRootNode(BinaryNode<T> rootNode)
+    {
+        if (rootNode != null)
+            ((ParentNode<T>)rootNode).setParent(null);
+        super.setRootNode(rootNode);
+    } // end setRootNode
+
+    /** Rebuilds this tree so that its height is as small as possible,
+        in O(n) time. The existing nodes are relinked in place, so no
+        entries are copied and only one extra node is allocated: the tree
+        is first straightened into a chain of right children, which is then
+        folded by left rotations (the Day-Stout-Warren algorithm). */
+    public void rebalance()
+    {
+        BinaryNode<T> pseudoRoot = new ParentNode<>(null, null, getRootNode());
+        int numberOfNodes = treeToVine(pseudoRoot);
+
+        // Fold the nodes that go below the last full level first
+        int numberOfLeaves = numberOfNodes + 1 - Integer.highestOneBit(numberOfNodes + 1);
+        compress(pseudoRoot, numberOfLeaves);
+        int vineLength = numberOfNodes - numberOfLeaves;
+        while (vineLength > 1)
+        {
+            vineLength = vineLength / 2;
+            compress(pseudoRoot, vineLength);
+        } // end while
+        setRootNode(pseudoRoot.getRightChild());
+    } // end rebalance
+
+    /** Creates a node for the bulk constructors. A subclass whose nodes
+        hold more than an entry overrides this method; its nodes must
+        still be ParentNodes.
+        @param entry       The entry of the new node.
+        @param leftChild   The root of the node's left subtree, or null.
+        @param rightChild  The root of the node's right subtree, or null.
+        @return  The new node. */
+    protected BinaryNode<T> newNode(T entry, BinaryNode<T> leftChild,
+                                    BinaryNode<T> rightChild)
+    {
+        return new ParentNode<>(entry, leftChild, rightChild);
+    } // end newNode
+
+    // Builds a tree of the next numberOfEntries entries of sortedEntries,
+    // placing the middle entry at the root. lastEntry holds the entry
+    // taken before them, or null. Returns the root of the new tree.
+    private BinaryNode<T> buildTree(Iterator<? extends T> sortedEntries,
+                                    int numberOfEntries, ReturnObject lastEntry)
+    {
+        if (numberOfEntries == 0)
+            return null;
+
+        int leftSize = (numberOfEntries - 1) / 2;
+        BinaryNode<T> leftChild = buildTree(sortedEntries, leftSize, lastEntry);
+
+        if (!sortedEntries.hasNext())
+            throw new IllegalArgumentException("The iterator has fewer entries than given.");
+        T entry = sortedEntries.next();
+        if (entry == null)
+            throw new IllegalArgumentException("Cannot add a null entry.");
+        if ((lastEntry.get() != null) && (lastEntry.get().compareTo(entry) >= 0))
+            throw new IllegalArgumentException("The entries must be distinct and " +
+                                               "in ascending order.");
+        lastEntry.set(entry);
+
+        BinaryNode<T> rightChild = buildTree(sortedEntries,
+                                             numberOfEntries - leftSize - 1, lastEntry);
+        return newNode(entry, leftChild, rightChild);
+    } // end buildTree
+
+    // Rotates the tree that is the right subtree of pseudoRoot into a
+    // chain of right children in ascending order. Returns the number of nodes.
+    private int treeToVine(BinaryNode<T> pseudoRoot)
+    {
+        int numberOfNodes = 0;
+        BinaryNode<T> tail = pseudoRoot;
+        BinaryNode<T> rest = tail.getRightChild();
+        while (rest != null)
+        {
+            if (rest.hasLeftChild())
+            {   // Rotate the left child above rest
+                BinaryNode<T> leftChild = rest.getLeftChild();
+                rest.setLeftChild(leftChild.getRightChild());
+                leftChild.setRightChild(rest);
+                rest = leftChild;
+                tail.setRightChild(leftChild);
             }
-            else    // entry > entry in root
+            else
             {
-                BinaryNode<T> rightChild = rootNode.getRightChild();
-                BinaryNode<T> subtreeRoot = removeEntry(rightChild, entry, oldEntry);
-                rootNode.setRightChild(subtreeRoot);
+                numberOfNodes++;
+                tail = rest;
+                rest = rest.getRightChild();
             } // end if
-        } // end if
-        return rootNode;                
-    } // end removeEntry    
-    
-    // Removes the entry in a given root node of a subtree.
-    // rootNode is the root node of the subtree.
-    // Returns the root node of the revised subtree.
-    private BinaryNode<T> removeFromRoot(BinaryNode<T> rootNode)
-    {
-        // Case 1: rootNode has two children
-        if (rootNode.hasLeftChild() && rootNode.hasRightChild())
-        {
-            // Find node with largest entry in left subtree
-            BinaryNode<T> leftSubtreeRoot = rootNode.getLeftChild();
-            BinaryNode<T> largestNode = findLargest(leftSubtreeRoot);
-            // Replace entry in root
-            rootNode.setData(largestNode.getData());
-            // Remove node with largest entry in left subtree
-            rootNode.setLeftChild(removeLargest(leftSubtreeRoot));
-        }            
-        // Case 2: rootNode has at most one child
-        else if (rootNode.hasRightChild())
-            rootNode = rootNode.getRightChild();
-        else
-            rootNode = rootNode.getLeftChild();
-        // Assertion: If rootNode was a leaf, it is now null
-        return rootNode;        
-    } // end removeFromRoot
-    
-    // Finds the node containing the largest entry in a given tree.
-    // rootNode is the root node of the tree.
-    // Returns the node containing the largest entry in the tree.
-    private BinaryNode<T> findLargest(BinaryNode<T> rootNode)
-    {        
-        while (rootNode.hasRightChild())
-            rootNode = findLargest(rootNode.getRightChild());
-        return rootNode;        
-    } // end findLargest
-    
-    // Removes the node containing the largest entry in a given tree. 
-    // rootNode is the root node of the tree.
-    // Returns the root node of the revised tree.
-    private BinaryNode<T> removeLargest(BinaryNode<T> rootNode)
+        } // end while
+        return numberOfNodes;
+    } // end treeToVine
+
+    // Rotates every other node of the chain of right children below
+    // pseudoRoot to the left, count times, starting at the top.
+    private void compress(BinaryNode<T> pseudoRoot, int count)
     {
-        if (rootNode.hasRightChild())
+        BinaryNode<T> scanner = pseudoRoot;
+        for (int index = 0; index < count; index++)
         {
-            BinaryNode<T> rightChild = rootNode.getRightChild();
-            rightChild = removeLargest(rightChild);
-            rootNode.setRightChild(rightChild);            
-        }
-        else
-            rootNode = rootNode.getLeftChild();
-        return rootNode;        
-    } // end removeLargest
-    
-    
+            BinaryNode<T> child = scanner.getRightChild();
+            scanner.setRightChild(child.getRightChild());
+            scanner = scanner.getRightChild();
+            child.setRightChild(scanner.getLeftChild());
+            scanner.setLeftChild(child);
+        } // end for
+    } // end compress
+
     private class ReturnObject
     {
         private T dataField;
@@ -0,0 +1,335 @@
+package TreePackage;
+import java.util.Iterator;
+/**
+   A class that implements the ADT sorted list as a balanced binary search
+   tree. Each node records the number of nodes in its subtree, so the
+   position of an entry and the entry at a position are found along one
+   path from the root, and AVL rotations keep that path O(log n) long.
+   Unlike a binary search tree, the list can contain duplicate entries;
+   an entry equal to an existing one is added after it.
+   The class extends BinaryTree rather than BinarySearchTree, because the
+   methods add and remove of SortedListInterface and SearchTreeInterface
+   differ only in their return types.
+ */
+public class OrderStatisticTree<T extends Comparable<? super T>>
+             extends BinaryTree<T> implements SortedListInterface<T>
+{
+    public OrderStatisticTree()
+    {
+        super();
+    } // end default constructor
+
+    public OrderStatisticTree(T rootEntry)
+    {
+        super();
+        setRootNode(new SizedNode<>(rootEntry));
+    } // end constructor
+
+    // Disable setTree (see Segment 25.6)
+    public void setTree(T rootData)
+    {
+        throw new UnsupportedOperationException();
+    } // end setTree
+
+    public void setTree(T rootData, BinaryTreeInterface<T> leftTree,
+                                    BinaryTreeInterface<T> rightTree)
+    {
+        throw new UnsupportedOperationException();
+    } // end setTree
+
+    /** Adds a new entry to this sorted list in its proper order, after
+        any entries equal to it.
+        @param newEntry  An object to be added as a new entry. */
+    public void add(T newEntry)
+    {
+        if (newEntry == null)
+            throw new IllegalArgumentException("Cannot add a null entry.");
+        setRootNode(addEntry(getRootNode(), newEntry));
+    } // end add
+
+    /** Removes the first or the only occurrence of a specified entry
+        from this sorted list.
+        @param anEntry  The object to be removed.
+        @return  True if anEntry was located and removed;
+                 otherwise returns false. */
+    public boolean remove(T anEntry)
+    {
+        int position = getPosition(anEntry);
+        if (position > 0)
+        {
+            remove(position);
+            return true;
+        }
+        else
+            return false;
+    } // end remove
+
+    /** Gets the position of an entry in this sorted list.
+        @param anEntry  The object to be found.
+        @return  The position of the first or only occurrence of anEntry
+                 if it occurs in the list; otherwise returns the position
+                 where anEntry would occur in the list, but as a negative
+                 integer. */
+    public int getPosition(T anEntry)
+    {
+        // Count the entries less than anEntry
+        int numberLess = 0;
+        boolean found = false;
+        BinaryNode<T> currentNode = getRootNode();
+        while (currentNode != null)
+        {
+            int comparison = anEntry.compareTo(currentNode.getData());
+            if (comparison <= 0)
+            {
+                found = found || (comparison == 0);
+                currentNode = currentNode.getLeftChild();
+            }
+            else
+            {
+                numberLess = numberLess + SizedNode.getNumberOfNodes(currentNode.getLeftChild()) + 1;
+                currentNode = currentNode.getRightChild();
+            } // end if
+        } // end while
+
+        if (found)
+            return numberLess + 1;
+        else
+            return -(numberLess + 1);
+    } // end getPosition
+
+    /** Retrieves the entry at a given position in this list.
+        @param givenPosition  An integer that indicates the position of the
+                              desired entry.
+        @return  A reference to the indicated entry.
+        @throws  IndexOutOfBoundsException if either
+                  givenPosition < 1 or givenPosition > getLength(). */
+    public T getEntry(int givenPosition)
+    {
+        checkPosition(givenPosition);
+        BinaryNode<T> currentNode = getRootNode();
+        int leftSize = SizedNode.getNumberOfNodes(currentNode.getLeftChild());
+        while (givenPosition != leftSize + 1)
+        {
+            if (givenPosition <= leftSize)
+                currentNode = currentNode.getLeftChild();
+            else
+            {
+                givenPosition = givenPosition - leftSize - 1;
+                currentNode = currentNode.getRightChild();
+            } // end if
+            leftSize = SizedNode.getNumberOfNodes(currentNode.getLeftChild());
+        } // end while
+        return currentNode.getData();
+    } // end getEntry
+
+    /** Sees whether this list contains a given entry.
+        @param anEntry  The object that is the desired entry.
+        @return  True if the list contains anEntry, or false if not. */
+    public boolean contains(T anEntry)
+    {
+        BinaryNode<T> currentNode = getRootNode();
+        while (currentNode != null)
+        {
+            int comparison = anEntry.compareTo(currentNode.getData());
+            if (comparison == 0)
+                return true;
+            else if (comparison < 0)
+                currentNode = currentNode.getLeftChild();
+            else
+                currentNode = currentNode.getRightChild();
+        } // end while
+        return false;
+    } // end contains
+
+    /** Removes the entry at a given position from this list.
+        Entries originally at positions higher than the given position are at the
+        next lower position within the list, and the list's size is decreased by 1.
+        @param givenPosition  An integer that indicates the position of the entry
+                              to be removed.
+        @return  A reference to the removed entry.
+        @throws  IndexOutOfBoundsException if either
+                 givenPosition < 1 or givenPosition > getLength(). */
+    public T remove(int givenPosition)
+    {
+        checkPosition(givenPosition);
+        ReturnObject oldEntry = new ReturnObject();
+        setRootNode(removeEntry(getRootNode(), givenPosition, oldEntry));
+        return oldEntry.get();
+    } // end remove
+
+    /** Gets the length of this list.
+        @return  The integer number of entries currently in the list. */
+    public int getLength()
+    {
+        return SizedNode.getNumberOfNodes(getRootNode());
+    } // end getLength
+
+    /** Gets the number of nodes in this tree, which is its length.
+        @return  The number of nodes in the tree. */
+    public int getNumberOfNodes()
+    {
+        return getLength();
+    } // end getNumberOfNodes
+
+    /** Gets the height of this tree.
+        @return  The height of the tree, which is 0 if the tree is empty. */
+    public int getHeight()
+    {
+        return SizedNode.getHeight(getRootNode());
+    } // end getHeight
+
+    /** Retrieves all entries that are in this list in the order in which they
+        occur in the list.
+        @return  A newly allocated array of all the entries in the list.
+                 If the list is empty, the returned array is empty. */
+    public T[] toArray()
+    {
+        // The cast is safe because the new array contains null entries
+        @SuppressWarnings("unchecked")
+        T[] result = (T[])new Comparable<?>[getLength()]; // Unchecked cast
+
+        int index = 0;
+        Iterator<T> traverser = getInorderIterator();
+        while (traverser.hasNext())
+        {
+            result[index] = traverser.next();
+            index++;
+        } // end while
+        return result;
+    } // end toArray
+
+    // Adds newEntry to the subtree rooted at rootNode, after any equal entries.
+    // Returns the root of the revised subtree.
+    private BinaryNode<T> addEntry(BinaryNode<T> rootNode, T newEntry)
+    {
+        if (rootNode == null)
+            return new SizedNode<>(newEntry);
+
+        if (newEntry.compareTo(rootNode.getData()) < 0)
+            rootNode.setLeftChild(addEntry(rootNode.getLeftChild(), newEntry));
+        else
+            rootNode.setRightChild(addEntry(rootNode.getRightChild(), newEntry));
+        return rebalance(rootNode);
+    } // end addEntry
+
+    // Removes the entry at a given position within the subtree rooted at
+    // rootNode, and records it in oldEntry.
+    // Returns the root of the revised subtree.
+    private BinaryNode<T> removeEntry(BinaryNode<T> rootNode, int givenPosition,
+                                      ReturnObject oldEntry)
+    {
+        int leftSize = SizedNode.getNumberOfNodes(rootNode.getLeftChild());
+        if (givenPosition <= leftSize)
+            rootNode.setLeftChild(removeEntry(rootNode.getLeftChild(), givenPosition, oldEntry));
+        else if (givenPosition > leftSize + 1)
+            rootNode.setRightChild(removeEntry(rootNode.getRightChild(),
+                                               givenPosition - leftSize - 1, oldEntry));
+        else
+        {
+            oldEntry.set(rootNode.getData());
+            if (!rootNode.hasLeftChild())
+                return rootNode.getRightChild();
+            else if (!rootNode.hasRightChild())
+                return rootNode.getLeftChild();
+
+            // Replace the entry with its inorder predecessor
+            BinaryNode<T> largestNode = rootNode.getLeftChild();
+            while (largestNode.hasRightChild())
+                largestNode = largestNode.getRightChild();
+            rootNode.setData(largestNode.getData());
+            rootNode.setLeftChild(removeLargest(rootNode.getLeftChild()));
+        } // end if
+        return rebalance(rootNode);
+    } // end removeEntry
+
+    // Removes the node containing the largest entry in a given tree.
+    // Returns the root of the revised tree.
+    private BinaryNode<T> removeLargest(BinaryNode<T> rootNode)
+    {
+        if (!rootNode.hasRightChild())
+            return rootNode.getLeftChild();
+        rootNode.setRightChild(removeLargest(rootNode.getRightChild()));
+        return rebalance(rootNode);
+    } // end removeLargest
+
+    // Updates the size and height of nodeN, whose subtrees are balanced,
+    // then corrects an imbalance at nodeN, if any.
+    // Returns the root of the balanced subtree.
+    private BinaryNode<T> rebalance(BinaryNode<T> nodeN)
+    {
+        ((SizedNode<T>)nodeN).update();
+        int heightDifference = getHeightDifference(nodeN);
+        if (heightDifference > 1)
+        {   // Left subtree is taller by more than 1
+            if (getHeightDifference(nodeN.getLeftChild()) < 0)
+                nodeN.setLeftChild(rotateLeft(nodeN.getLeftChild()));
+            nodeN = rotateRight(nodeN);
+        }
+        else if (heightDifference < -1)
+        {   // Right subtree is taller by more than 1
+            if (getHeightDifference(nodeN.getRightChild()) > 0)
+                nodeN.setRightChild(rotateRight(nodeN.getRightChild()));
+            nodeN = rotateLeft(nodeN);
+        } // end if
+        // Else nodeN is balanced
+        return nodeN;
+    } // end rebalance
+
+    private int getHeightDifference(BinaryNode<T> nodeN)
+    {
+        return SizedNode.getHeight(nodeN.getLeftChild()) -
+               SizedNode.getHeight(nodeN.getRightChild());
+    } // end getHeightDifference
+
+    // Rotates nodeN's left child above it and updates both nodes.
+    // Returns the new root of the subtree.
+    private BinaryNode<T> rotateRight(BinaryNode<T> nodeN)
+    {
+        BinaryNode<T> nodeC = nodeN.getLeftChild();
+        nodeN.setLeftChild(nodeC.getRightChild());
+        nodeC.setRightChild(nodeN);
+        ((SizedNode<T>)nodeN).update();
+        ((SizedNode<T>)nodeC).update();
+        return nodeC;
+    } // end rotateRight
+
+    // Rotates nodeN's right child above it and updates both nodes.
+    // Returns the new root of the subtree.
+    private BinaryNode<T> rotateLeft(BinaryNode<T> nodeN)
+    {
+        BinaryNode<T> nodeC = nodeN.getRightChild();
+        nodeN.setRightChild(nodeC.getLeftChild());
+        nodeC.setLeftChild(nodeN);
+        ((SizedNode<T>)nodeN).update();
+        ((SizedNode<T>)nodeC).update();
+        return nodeC;
+    } // end rotateLeft
+
+    // Throws an exception if givenPosition is not a position in this list.
+    private void checkPosition(int givenPosition)
+    {
+        if ((givenPosition < 1) || (givenPosition > getLength()))
+            throw new IndexOutOfBoundsException("Illegal position given to operation: "
+                                                + givenPosition);
+    } // end checkPosition
+
+    private class ReturnObject
+    {
+        private T dataField;
+
+        private ReturnObject()
+        {
+            dataField = null;
+        } // end default constructor
+
+        private void set(T newData)
+        {
+            dataField = newData;
+        } // end set
+
+        private T get()
+        {
+            return dataField;
+        } // end get
+    } // end ReturnObject
+} // end OrderStatisticTree
@@ -0,0 +1,128 @@
+package TreePackage;
+/**
+   A class that represents nodes in a binary tree that also reference
+   their parents. Setting a child also sets the child's parent, so the
+   references stay correct as long as every node of the tree is a
+   ParentNode and the root's parent is set to null.
+   With the parent references, a subtree can be walked without recursion
+   or a stack, so its height and number of nodes are computed in O(1) space.
+*/
+class ParentNode<T> extends BinaryNode<T>
+{
+    private ParentNode<T> parent;   // Reference to parent, or null for the root
+
+    public ParentNode(T dataPortion)
+    {
+        super(dataPortion);
+        parent = null;
+    } // end constructor
+
+    public ParentNode(T dataPortion, BinaryNode<T> newLeftChild,
+                                     BinaryNode<T> newRightChild)
+    {
+        this(dataPortion);
+        setLeftChild(newLeftChild);
+        setRightChild(newRightChild);
+    } // end constructor
+
+    /** Retrieves the parent of this node.
+        @return  A reference to the node's parent, or null if the node
+                 is a root. */
+    public ParentNode<T> getParent()
+    {
+        return parent;
+    } // end getParent
+
+    /** Sets this node's parent to a given node.
+        @param newParent  A node that is the new parent, or null. */
+    public void setParent(ParentNode<T> newParent)
+    {
+        parent = newParent;
+    } // end setParent
+
+    /** Sets this node's left child to a given node, and makes this node
+        the child's parent.
+        @param newLeftChild  A node that will be the left child, or null. */
+    public void setLeftChild(BinaryNode<T> newLeftChild)
+    {
+        super.setLeftChild(newLeftChild);
+        if (newLeftChild != null)
+            ((ParentNode<T>)newLeftChild).setParent(this);
+    } // end setLeftChild
+
+    /** Sets this node's right child to a given node, and makes this node
+        the child's parent.
+        @param newRightChild  A node that will be the right child, or null. */
+    public void setRightChild(BinaryNode<T> newRightChild)
+    {
+        super.setRightChild(newRightChild);
+        if (newRightChild != null)
+            ((ParentNode<T>)newRightChild).setParent(this);
+    } // end setRightChild
+
+    /** Counts the nodes in the subtree rooted at this node, iteratively.
+        @return  The number of nodes in the subtree rooted at this node. */
+    public int getNumberOfNodes()
+    {
+        return walkSubtree(false);
+    } // end getNumberOfNodes
+
+    /** Computes the height of the subtree rooted at this node, iteratively.
+        @return  The height of the subtree rooted at this node. */
+    public int getHeight()
+    {
+        return walkSubtree(true);
+    } // end getHeight
+
+    // Visits every node in the subtree rooted at this node, moving down to
+    // the children and back up through the parent references.
+    // Returns the subtree's height if findHeight is true, or its number of
+    // nodes otherwise.
+    private int walkSubtree(boolean findHeight)
+    {
+        int numberOfNodes = 0;
+        int height = 0;
+        int depth = 0;
+        BinaryNode<T> previousNode = null;
+        ParentNode<T> currentNode = this;
+        boolean fromParent = true;  // Whether currentNode was reached from above
+        while (currentNode != null)
+        {
+            BinaryNode<T> nextNode;
+            if (fromParent)
+            {   // First visit: go to the left child, or else the right one
+                numberOfNodes++;
+                depth++;
+                height = Math.max(height, depth);
+                nextNode = currentNode.getLeftChild();
+                if (nextNode == null)
+                    nextNode = currentNode.getRightChild();
+            }
+            else if (previousNode == currentNode.getLeftChild())
+                nextNode = currentNode.getRightChild(); // Back from the left subtree
+            else
+                nextNode = null;                        // Back from the right subtree
+
+            previousNode = currentNode;
+            if (nextNode != null)
+            {
+                currentNode = (ParentNode<T>)nextNode;
+                fromParent = true;
+            }
+            else
+            {   // Both subtrees are done; go back up, but not above this node
+                if (currentNode == this)
+                    currentNode = null;
+                else
+                    currentNode = currentNode.getParent();
+                depth--;
+                fromParent = false;
+            } // end if
+        } // end while
+
+        if (findHeight)
+            return height;
+        else
+            return numberOfNodes;
+    } // end walkSubtree
+} // end ParentNode
@@ -40,4 +40,31 @@ public interface SearchTreeInterface<T extends Comparable<? super T>>
         @return  An iterator that provides sequential and ordered access
                  to the entries in the tree. */
     public Iterator<T> getInorderIterator();
+
+    /** Retrieves the largest entry in this tree that is no larger than
+        a given object.
+        @param anEntry  An object to be compared with the entries.
+        @return  Either the largest entry that is less than or equal to
+                 anEntry, or null if no such entry exists. */
+    public T floor(T anEntry);
+
+    /** Retrieves the smallest entry in this tree that is no smaller than
+        a given object.
+        @param anEntry  An object to be compared with the entries.
+        @return  Either the smallest entry that is greater than or equal
+                 to anEntry, or null if no such entry exists. */
+    public T ceiling(T anEntry);
+
+    /** Creates an iterator that traverses, in order, the entries in a
+        given range. Subtrees outside the range are not visited.
+        @param from  The smallest entry to include.
+        @param to    The entry at which to stop; it is not included.
+        @return  An iterator of the entries at least from and less than to. */
+    public Iterator<T> getRangeIterator(T from, T to);
+
+    /** Counts the entries in a given range.
+        @param from  The smallest entry to include.
+        @param to    The entry at which to stop; it is not included.
+        @return  The number of entries at least from and less than to. */
+    public int countInRange(T from, T to);
 } // end SearchTreeInterface
@@ -0,0 +1,66 @@
+package TreePackage;
+/**
+   A class that represents nodes in an order-statistic tree: binary nodes
+   that also record the number of nodes and the height of their subtrees.
+   Both values are cached, so they must be updated whenever a child changes.
+*/
+class SizedNode<T> extends BinaryNode<T>
+{
+    private int size;       // Number of nodes in the subtree rooted at this node
+    private int height;     // Height of the subtree rooted at this node
+
+    public SizedNode(T dataPortion)
+    {
+        super(dataPortion);
+        size = 1;
+        height = 1;
+    } // end constructor
+
+    /** Gets the number of nodes in the subtree rooted at this node, as
+        last computed by update.
+        @return  The number of nodes in the subtree rooted at this node. */
+    public int getNumberOfNodes()
+    {
+        return size;
+    } // end getNumberOfNodes
+
+    /** Gets the height of the subtree rooted at this node, as last
+        computed by update.
+        @return  The height of the subtree rooted at this node. */
+    public int getHeight()
+    {
+        return height;
+    } // end getHeight
+
+    /** Recomputes this node's size and height from its children's, which
+        must be correct. */
+    public void update()
+    {
+        BinaryNode<T> left = getLeftChild();
+        BinaryNode<T> right = getRightChild();
+        size = 1 + getNumberOfNodes(left) + getNumberOfNodes(right);
+        height = 1 + Math.max(getHeight(left), getHeight(right));
+    } // end update
+
+    /** Gets the number of nodes in a subtree.
+        @param node  The root of the subtree, or null.
+        @return  The number of nodes, which is 0 if node is null. */
+    public static int getNumberOfNodes(BinaryNode<?> node)
+    {
+        if (node == null)
+            return 0;
+        else
+            return node.getNumberOfNodes();
+    } // end getNumberOfNodes
+
+    /** Gets the height of a subtree.
+        @param node  The root of the subtree, or null.
+        @return  The subtree's height, which is 0 if node is null. */
+    public static int getHeight(BinaryNode<?> node)
+    {
+        if (node == null)
+            return 0;
+        else
+            return node.getHeight();
+    } // end getHeight
+} // end SizedNode
@@ -0,0 +1,810 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+/**
+    A class that implements a sorted dictionary by using a B+ tree.
+    Every entry is in a leaf, and the leaves are linked in sorted order.
+    The other nodes hold only search keys that guide a search to the
+    correct leaf. A node has at most order children, or a leaf at most
+    order entries, and every node but the root is at least half full, so
+    a search visits about log base order/2 of n nodes, each of which it
+    searches by binary search in an array. With a large order, the tree
+    is shallow and each node's keys are adjacent in memory.
+    A range of keys is traversed by finding its first leaf and then
+    following the links between leaves.
+    The tree can be built from sorted entries in linear time, and saved to
+    and loaded from a file.
+    The dictionary has distinct search keys.
+*/
+public class BPlusTreeDictionary<K extends Comparable<? super K>, V>
+       implements DictionaryInterface<K, V>
+{
+    private Node<K, V> root;            // null if the dictionary is empty
+    private LeafNode<K, V> firstLeaf;   // null if the dictionary is empty
+    private int height;                 // Number of levels; 0 if empty
+    private int numberOfEntries;
+    private final int order;            // Most children or leaf entries of a node
+    private final int minimumSize;      // Fewest children or leaf entries of
+                                        // a node other than the root
+    private static final int DEFAULT_ORDER = 64;
+    private static final int MIN_ORDER = 3;
+    private static final int MAX_ORDER = 1 << 16;
+
+    public BPlusTreeDictionary()
+    {
+        this(DEFAULT_ORDER);
+    } // end default constructor
+
+    /** Creates an empty dictionary.
+        @param order  The largest number of children of a node, and of
+                      entries of a leaf; at least 3. */
+    public BPlusTreeDictionary(int order)
+    {
+        checkOrder(order);
+        this.order = order;
+        minimumSize = (order + 1) / 2;
+        root = null;
+        firstLeaf = null;
+        height = 0;
+        numberOfEntries = 0;
+    } // end constructor
+
+    /** Creates a dictionary of given entries in time proportional to their
+        number, without comparing keys except to check their order. The
+        tree has as few leaves as can hold the entries, and the entries are
+        spread evenly among them, as are the nodes of each level among
+        their parents.
+        @param order       The largest number of children of a node, and of
+                           entries of a leaf; at least 3.
+        @param sortedKeys  An array of distinct search keys in increasing
+                           order.
+        @param values      An array of the corresponding values. */
+    public BPlusTreeDictionary(int order, K[] sortedKeys, V[] values)
+    {
+        this(order);
+        if (sortedKeys.length != values.length)
+            throw new IllegalArgumentException("The arrays of keys and values " +
+                                               "must have the same length.");
+        for (int index = 0; index < sortedKeys.length; index++)
+        {
+            if ((sortedKeys[index] == null) || (values[index] == null))
+                throw new IllegalArgumentException("Cannot add null to a dictionary.");
+            if ((index > 0) && (sortedKeys[index - 1].compareTo(sortedKeys[index]) >= 0))
+                throw new IllegalArgumentException("Keys must be distinct and " +
+                                                   "in increasing order.");
+        } // end for
+        if (sortedKeys.length > 0)
+            buildTree(sortedKeys, values);
+    } // end constructor
+
+    public V add(K key, V value)
+    {
+        if ((key == null) || (value == null))
+            throw new IllegalArgumentException("Cannot add null to a dictionary.");
+        if (root == null)
+        {
+            firstLeaf = new LeafNode<>(order);
+            root = firstLeaf;
+            height = 1;
+        } // end if
+
+        // Find the leaf for key, remembering the path to it
+        InternalNode<K, V>[] path = newInternalNodeArray(height - 1);
+        int[] childIndexes = new int[height - 1];
+        LeafNode<K, V> leaf = findLeaf(key, path, childIndexes);
+
+        int index = leaf.search(key);
+        if (index >= 0)
+        {   // Key is in dictionary
+            V result = leaf.values[index];
+            leaf.values[index] = value;
+            return result;
+        } // end if
+
+        leaf.insert(-index - 1, key, value);
+        numberOfEntries++;
+        if (leaf.numberOfKeys <= order)
+            return null;
+
+        // Split full nodes from the leaf up
+        Node<K, V> newNode = leaf.split();
+        K separator = newNode.keys[0];
+        for (int depth = height - 2; depth >= 0; depth--)
+        {
+            InternalNode<K, V> parent = path[depth];
+            parent.insert(childIndexes[depth], separator, newNode);
+            if (parent.numberOfKeys < order)
+                return null;
+            separator = parent.keys[parent.numberOfKeys / 2];
+            newNode = parent.split();
+        } // end for
+
+        InternalNode<K, V> newRoot = new InternalNode<>(order);
+        newRoot.children[0] = root;
+        newRoot.insert(0, separator, newNode);
+        root = newRoot;
+        height++;
+        return null;
+    } // end add
+
+    public V remove(K key)
+    {
+        if ((key == null) || (root == null))
+            return null;
+
+        InternalNode<K, V>[] path = newInternalNodeArray(height - 1);
+        int[] childIndexes = new int[height - 1];
+        LeafNode<K, V> leaf = findLeaf(key, path, childIndexes);
+        int index = leaf.search(key);
+        if (index < 0)
+            return null;
+
+        V result = leaf.values[index];
+        leaf.remove(index);
+        numberOfEntries--;
+
+        // Fix nodes that are less than half full, from the leaf up
+        Node<K, V> node = leaf;
+        for (int depth = height - 2; (depth >= 0) && (node.getSize() < minimumSize); depth--)
+        {
+            fixUnderflow(path[depth], childIndexes[depth]);
+            node = path[depth];
+        } // end for
+
+        if (root.getSize() == 1 && (height > 1))
+        {   // Root has one child
+            root = ((InternalNode<K, V>)root).children[0];
+            height--;
+        }
+        else if (numberOfEntries == 0)
+            clear();
+        // end if
+        return result;
+    } // end remove
+
+    public V getValue(K key)
+    {
+        if ((key == null) || (root == null))
+            return null;
+        Node<K, V> node = root;
+        for (int depth = 1; depth < height; depth++)
+        {
+            InternalNode<K, V> internal = (InternalNode<K, V>)node;
+            node = internal.children[internal.getChildIndex(key)];
+        } // end for
+        LeafNode<K, V> leaf = (LeafNode<K, V>)node;
+        int index = leaf.search(key);
+        if (index >= 0)
+            return leaf.values[index];
+        else
+            return null;
+    } // end getValue
+
+    public boolean contains(K key)
+    {
+        return getValue(key) != null;
+    } // end contains
+
+    public Iterator<K> getKeyIterator()
+    {
+        return new KeyIterator(firstLeaf, 0, null);
+    } // end getKeyIterator
+
+    public Iterator<V> getValueIterator()
+    {
+        return new ValueIterator(firstLeaf, 0, null);
+    } // end getValueIterator
+
+    /** Creates an iterator that traverses, in sorted order, the search keys
+        in a given range. Only the leaves holding the range are visited.
+        @param from  The smallest search key to include.
+        @param to    The search key at which to stop; it is not included.
+        @return  An iterator of the keys at least from and less than to. */
+    public Iterator<K> getKeyIterator(K from, K to)
+    {
+        LeafNode<K, V> leaf = findLeafAtLeast(from);
+        return new KeyIterator(leaf, getIndexAtLeast(leaf, from), to);
+    } // end getKeyIterator
+
+    /** Creates an iterator that traverses the values whose search keys are
+        in a given range, in the order of their keys.
+        @param from  The smallest search key to include.
+        @param to    The search key at which to stop; it is not included.
+        @return  An iterator of the values of the keys in the range. */
+    public Iterator<V> getValueIterator(K from, K to)
+    {
+        LeafNode<K, V> leaf = findLeafAtLeast(from);
+        return new ValueIterator(leaf, getIndexAtLeast(leaf, from), to);
+    } // end getValueIterator
+
+    public boolean isEmpty()
+    {
+        return numberOfEntries == 0;
+    } // end isEmpty
+
+    public int getSize()
+    {
+        return numberOfEntries;
+    } // end getSize
+
+    /** Gets the number of levels of nodes in this tree.
+        @return  The tree's height, which is 0 if the tree is empty. */
+    public int getHeight()
+    {
+        return height;
+    } // end getHeight
+
+    public void clear()
+    {
+        root = null;
+        firstLeaf = null;
+        height = 0;
+        numberOfEntries = 0;
+    } // end clear
+
+    /** Writes the entries of this dictionary, in sorted order, to a file.
+        @param fileName    The name of the file.
+        @param keyCodec    Converts search keys to bytes.
+        @param valueCodec  Converts values to bytes.
+        @throws IOException if the file cannot be written. */
+    public void save(String fileName, ByteCodec<K> keyCodec, ByteCodec<V> valueCodec)
+           throws IOException
+    {
+        try (DataOutputStream output = new DataOutputStream(
+                 new BufferedOutputStream(new FileOutputStream(fileName))))
+        {
+            output.writeInt(FILE_MAGIC);
+            output.writeInt(numberOfEntries);
+            for (LeafNode<K, V> leaf = firstLeaf; leaf != null; leaf = leaf.next)
+            {
+                for (int index = 0; index < leaf.numberOfKeys; index++)
+                {
+                    writeBytes(output, keyCodec.toBytes(leaf.keys[index]));
+                    writeBytes(output, valueCodec.toBytes(leaf.values[index]));
+                } // end for
+            } // end for
+        } // end try
+    } // end save
+
+    /** Creates a dictionary of the entries in a file that save wrote,
+        building the tree from the sorted entries in linear time.
+        @param fileName    The name of the file.
+        @param order       The order of the new tree; at least 3.
+        @param keyCodec    Converts bytes to search keys.
+        @param valueCodec  Converts bytes to values.
+        @return  A new dictionary of the file's entries.
+        @throws IOException if the file cannot be read or was not written
+                by save. */
+    public static <S extends Comparable<? super S>, T> BPlusTreeDictionary<S, T>
+           load(String fileName, int order, ByteCodec<S> keyCodec, ByteCodec<T> valueCodec)
+           throws IOException
+    {
+        try (DataInputStream input = new DataInputStream(
+                 new BufferedInputStream(new FileInputStream(fileName))))
+        {
+            if (input.readInt() != FILE_MAGIC)
+                throw new IOException(fileName + " is not a saved B+ tree.");
+            int size = input.readInt();
+            if (size < 0)
+                throw new IOException(fileName + " is corrupt.");
+
+            // The casts are safe because the new arrays contain null entries
+            @SuppressWarnings("unchecked")
+            S[] keys = (S[])new Comparable<?>[size];
+            @SuppressWarnings("unchecked")
+            T[] values = (T[])new Object[size];
+            for (int index = 0; index < size; index++)
+            {
+                keys[index] = keyCodec.fromBytes(readBytes(input));
+                values[index] = valueCodec.fromBytes(readBytes(input));
+            } // end for
+            try
+            {
+                return new BPlusTreeDictionary<>(order, keys, values);
+            }
+            catch (IllegalArgumentException e)
+            {
+                throw new IOException(fileName + " is corrupt: " + e.getMessage());
+            } // end try
+        } // end try
+    } // end load
+
+    private static final int FILE_MAGIC = 0x42505431;  // "BPT1"
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException
+    {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    } // end writeBytes
+
+    private static byte[] readBytes(DataInputStream input) throws IOException
+    {
+        int length = input.readInt();
+        if (length < 0)
+            throw new IOException("Negative record length: " + length);
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    } // end readBytes
+
+    // Returns the leaf where key is or belongs. Records in path[d] the
+    // internal node at depth d on the way, and in childIndexes[d] the
+    // index of its child that was followed.
+    private LeafNode<K, V> findLeaf(K key, InternalNode<K, V>[] path, int[] childIndexes)
+    {
+        Node<K, V> node = root;
+        for (int depth = 0; depth < height - 1; depth++)
+        {
+            InternalNode<K, V> internal = (InternalNode<K, V>)node;
+            int childIndex = internal.getChildIndex(key);
+            path[depth] = internal;
+            childIndexes[depth] = childIndex;
+            node = internal.children[childIndex];
+        } // end for
+        return (LeafNode<K, V>)node;
+    } // end findLeaf
+
+    // Returns the leaf where key is or belongs, or null if the tree is empty.
+    private LeafNode<K, V> findLeafAtLeast(K key)
+    {
+        if (root == null)
+            return null;
+        return findLeaf(key, newInternalNodeArray(height - 1), new int[height - 1]);
+    } // end findLeafAtLeast
+
+    // Returns the index in leaf of the first key that is at least key.
+    private int getIndexAtLeast(LeafNode<K, V> leaf, K key)
+    {
+        if (leaf == null)
+            return 0;
+        int index = leaf.search(key);
+        if (index < 0)
+            index = -index - 1;
+        return index;
+    } // end getIndexAtLeast
+
+    // Gives the child at childIndex of parent, which has fewer than
+    // minimumSize children or entries, another child or entry from a
+    // sibling, or merges it with a sibling.
+    private void fixUnderflow(InternalNode<K, V> parent, int childIndex)
+    {
+        Node<K, V> child = parent.children[childIndex];
+        Node<K, V> leftSibling = null;
+        Node<K, V> rightSibling = null;
+        if (childIndex > 0)
+            leftSibling = parent.children[childIndex - 1];
+        if (childIndex < parent.numberOfKeys)
+            rightSibling = parent.children[childIndex + 1];
+
+        if ((leftSibling != null) && (leftSibling.getSize() > minimumSize))
+            child.borrowFromLeft(leftSibling, parent, childIndex - 1);
+        else if ((rightSibling != null) && (rightSibling.getSize() > minimumSize))
+            child.borrowFromRight(rightSibling, parent, childIndex);
+        else if (leftSibling != null)
+        {
+            leftSibling.mergeWithRight(child, parent.keys[childIndex - 1]);
+            parent.remove(childIndex - 1);
+        }
+        else
+        {
+            child.mergeWithRight(rightSibling, parent.keys[childIndex]);
+            parent.remove(childIndex);
+        } // end if
+    } // end fixUnderflow
+
+    // Builds the tree from nonempty sorted arrays, level by level.
+    private void buildTree(K[] sortedKeys, V[] values)
+    {
+        int size = sortedKeys.length;
+        int numberOfNodes = (size + order - 1) / order;
+        Node<K, V>[] level = newNodeArray(numberOfNodes);
+        K[] firstKeys = newKeyArray(numberOfNodes);     // Smallest key under each node
+        LeafNode<K, V> previousLeaf = null;
+        int start = 0;
+        for (int nodeIndex = 0; nodeIndex < numberOfNodes; nodeIndex++)
+        {   // Divide the entries evenly among the leaves
+            int end = (int)((long)size * (nodeIndex + 1) / numberOfNodes);
+            LeafNode<K, V> leaf = new LeafNode<>(order);
+            System.arraycopy(sortedKeys, start, leaf.keys, 0, end - start);
+            System.arraycopy(values, start, leaf.values, 0, end - start);
+            leaf.numberOfKeys = end - start;
+            if (previousLeaf == null)
+                firstLeaf = leaf;
+            else
+                previousLeaf.next = leaf;
+            previousLeaf = leaf;
+            level[nodeIndex] = leaf;
+            firstKeys[nodeIndex] = sortedKeys[start];
+            start = end;
+        } // end for
+        height = 1;
+
+        while (numberOfNodes > 1)
+        {   // Divide the nodes of this level evenly among their parents
+            int numberOfParents = (numberOfNodes + order - 1) / order;
+            Node<K, V>[] parents = newNodeArray(numberOfParents);
+            K[] parentFirstKeys = newKeyArray(numberOfParents);
+            start = 0;
+            for (int parentIndex = 0; parentIndex < numberOfParents; parentIndex++)
+            {
+                int end = (int)((long)numberOfNodes * (parentIndex + 1) / numberOfParents);
+                InternalNode<K, V> parent = new InternalNode<>(order);
+                parent.children[0] = level[start];
+                for (int child = start + 1; child < end; child++)
+                {
+                    parent.keys[child - start - 1] = firstKeys[child];
+                    parent.children[child - start] = level[child];
+                } // end for
+                parent.numberOfKeys = end - start - 1;
+                parents[parentIndex] = parent;
+                parentFirstKeys[parentIndex] = firstKeys[start];
+                start = end;
+            } // end for
+            level = parents;
+            firstKeys = parentFirstKeys;
+            numberOfNodes = numberOfParents;
+            height++;
+        } // end while
+        root = level[0];
+        numberOfEntries = size;
+    } // end buildTree
+
+    private static void checkOrder(int order)
+    {
+        if ((order < MIN_ORDER) || (order > MAX_ORDER))
+            throw new IllegalArgumentException("Order must be between " + MIN_ORDER +
+                                               " and " + MAX_ORDER + ": " + order);
+    } // end checkOrder
+
+    // The casts are safe because the new arrays contain null entries
+    @SuppressWarnings("unchecked")
+    private static <S extends Comparable<? super S>> S[] newKeyArray(int length)
+    {
+        return (S[])new Comparable<?>[length];
+    } // end newKeyArray
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Comparable<? super S>, T> Node<S, T>[] newNodeArray(int length)
+    {
+        return (Node<S, T>[])new Node<?, ?>[length];
+    } // end newNodeArray
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Comparable<? super S>, T> InternalNode<S, T>[]
+            newInternalNodeArray(int length)
+    {
+        return (InternalNode<S, T>[])new InternalNode<?, ?>[length];
+    } // end newInternalNodeArray
+
+    // A node's keys are in keys[0..numberOfKeys - 1], in increasing order.
+    private static abstract class Node<S extends Comparable<? super S>, T>
+    {
+        protected S[] keys;
+        protected int numberOfKeys;
+
+        // Returns the index of key in keys, or -(insertion point) - 1 if
+        // key is not there.
+        protected int search(S key)
+        {
+            int low = 0;
+            int high = numberOfKeys - 1;
+            while (low <= high)
+            {
+                int mid = (low + high) >>> 1;
+                int comparison = key.compareTo(keys[mid]);
+                if (comparison > 0)
+                    low = mid + 1;
+                else if (comparison < 0)
+                    high = mid - 1;
+                else
+                    return mid;
+            } // end while
+            return -(low + 1);
+        } // end search
+
+        // Returns the number of children or entries of this node.
+        protected abstract int getSize();
+
+        // Moves the last child or entry of leftSibling, which is the child
+        // of parent to the left of this node, to this node. separatorIndex
+        // is the index in parent of the key between the two nodes.
+        protected abstract void borrowFromLeft(Node<S, T> leftSibling,
+                                               InternalNode<S, T> parent,
+                                               int separatorIndex);
+
+        // Moves the first child or entry of rightSibling, which is the child
+        // of parent to the right of this node, to this node.
+        protected abstract void borrowFromRight(Node<S, T> rightSibling,
+                                                InternalNode<S, T> parent,
+                                                int separatorIndex);
+
+        // Moves the children or entries of rightSibling to the end of this
+        // node. separator is the key between the two nodes in their parent.
+        protected abstract void mergeWithRight(Node<S, T> rightSibling, S separator);
+
+        // Returns a new node holding the second half of this node's
+        // children or entries.
+        protected abstract Node<S, T> split();
+    } // end Node
+
+    private static class LeafNode<S extends Comparable<? super S>, T> extends Node<S, T>
+    {
+        private T[] values;
+        private LeafNode<S, T> next;    // Next leaf in sorted order, or null
+
+        // Creates a leaf with room for order + 1 entries, so that an entry
+        // can be added to a full leaf before it is split.
+        private LeafNode(int order)
+        {
+            keys = newKeyArray(order + 1);
+            @SuppressWarnings("unchecked")
+            T[] tempValues = (T[])new Object[order + 1];
+            values = tempValues;
+            numberOfKeys = 0;
+            next = null;
+        } // end constructor
+
+        protected int getSize()
+        {
+            return numberOfKeys;
+        } // end getSize
+
+        private void insert(int index, S key, T value)
+        {
+            System.arraycopy(keys, index, keys, index + 1, numberOfKeys - index);
+            System.arraycopy(values, index, values, index + 1, numberOfKeys - index);
+            keys[index] = key;
+            values[index] = value;
+            numberOfKeys++;
+        } // end insert
+
+        private void remove(int index)
+        {
+            System.arraycopy(keys, index + 1, keys, index, numberOfKeys - index - 1);
+            System.arraycopy(values, index + 1, values, index, numberOfKeys - index - 1);
+            numberOfKeys--;
+            keys[numberOfKeys] = null;
+            values[numberOfKeys] = null;
+        } // end remove
+
+        protected void borrowFromLeft(Node<S, T> leftSibling, InternalNode<S, T> parent,
+                                      int separatorIndex)
+        {
+            LeafNode<S, T> left = (LeafNode<S, T>)leftSibling;
+            int last = left.numberOfKeys - 1;
+            insert(0, left.keys[last], left.values[last]);
+            left.remove(last);
+            parent.keys[separatorIndex] = keys[0];
+        } // end borrowFromLeft
+
+        protected void borrowFromRight(Node<S, T> rightSibling, InternalNode<S, T> parent,
+                                       int separatorIndex)
+        {
+            LeafNode<S, T> right = (LeafNode<S, T>)rightSibling;
+            insert(numberOfKeys, right.keys[0], right.values[0]);
+            right.remove(0);
+            parent.keys[separatorIndex] = right.keys[0];
+        } // end borrowFromRight
+
+        protected void mergeWithRight(Node<S, T> rightSibling, S separator)
+        {
+            LeafNode<S, T> right = (LeafNode<S, T>)rightSibling;
+            System.arraycopy(right.keys, 0, keys, numberOfKeys, right.numberOfKeys);
+            System.arraycopy(right.values, 0, values, numberOfKeys, right.numberOfKeys);
+            numberOfKeys = numberOfKeys + right.numberOfKeys;
+            next = right.next;
+        } // end mergeWithRight
+
+        protected Node<S, T> split()
+        {
+            LeafNode<S, T> right = new LeafNode<>(keys.length - 1);
+            int leftSize = numberOfKeys / 2;
+            right.numberOfKeys = numberOfKeys - leftSize;
+            System.arraycopy(keys, leftSize, right.keys, 0, right.numberOfKeys);
+            System.arraycopy(values, leftSize, right.values, 0, right.numberOfKeys);
+            for (int index = leftSize; index < numberOfKeys; index++)
+            {
+                keys[index] = null;
+                values[index] = null;
+            } // end for
+            numberOfKeys = leftSize;
+            right.next = next;
+            next = right;
+            return right;
+        } // end split
+    } // end LeafNode
+
+    // Child i has the keys that are at least keys[i - 1] and less than
+    // keys[i], for the i that exist.
+    private static class InternalNode<S extends Comparable<? super S>, T> extends Node<S, T>
+    {
+        private Node<S, T>[] children;
+
+        // Creates a node with room for order + 1 children, so that a child
+        // can be added to a full node before it is split.
+        private InternalNode(int order)
+        {
+            keys = newKeyArray(order);
+            children = newNodeArray(order + 1);
+            numberOfKeys = 0;
+        } // end constructor
+
+        protected int getSize()
+        {
+            return numberOfKeys + 1;
+        } // end getSize
+
+        // Returns the index of the child whose keys include key.
+        private int getChildIndex(S key)
+        {
+            int index = search(key);
+            if (index >= 0)
+                return index + 1;
+            else
+                return -index - 1;
+        } // end getChildIndex
+
+        // Adds newChild to the right of the child at childIndex, with
+        // separator, the smallest key under newChild, between them.
+        private void insert(int childIndex, S separator, Node<S, T> newChild)
+        {
+            System.arraycopy(keys, childIndex, keys, childIndex + 1,
+                             numberOfKeys - childIndex);
+            System.arraycopy(children, childIndex + 1, children, childIndex + 2,
+                             numberOfKeys - childIndex);
+            keys[childIndex] = separator;
+            children[childIndex + 1] = newChild;
+            numberOfKeys++;
+        } // end insert
+
+        // Removes the key at keyIndex and the child to its right.
+        private void remove(int keyIndex)
+        {
+            System.arraycopy(keys, keyIndex + 1, keys, keyIndex,
+                             numberOfKeys - keyIndex - 1);
+            System.arraycopy(children, keyIndex + 2, children, keyIndex + 1,
+                             numberOfKeys - keyIndex - 1);
+            keys[numberOfKeys - 1] = null;
+            children[numberOfKeys] = null;
+            numberOfKeys--;
+        } // end remove
+
+        protected void borrowFromLeft(Node<S, T> leftSibling, InternalNode<S, T> parent,
+                                      int separatorIndex)
+        {
+            InternalNode<S, T> left = (InternalNode<S, T>)leftSibling;
+            System.arraycopy(keys, 0, keys, 1, numberOfKeys);
+            System.arraycopy(children, 0, children, 1, numberOfKeys + 1);
+            keys[0] = parent.keys[separatorIndex];
+            children[0] = left.children[left.numberOfKeys];
+            numberOfKeys++;
+            parent.keys[separatorIndex] = left.keys[left.numberOfKeys - 1];
+            left.keys[left.numberOfKeys - 1] = null;
+            left.children[left.numberOfKeys] = null;
+            left.numberOfKeys--;
+        } // end borrowFromLeft
+
+        protected void borrowFromRight(Node<S, T> rightSibling, InternalNode<S, T> parent,
+                                       int separatorIndex)
+        {
+            InternalNode<S, T> right = (InternalNode<S, T>)rightSibling;
+            keys[numberOfKeys] = parent.keys[separatorIndex];
+            children[numberOfKeys + 1] = right.children[0];
+            numberOfKeys++;
+            parent.keys[separatorIndex] = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.numberOfKeys - 1);
+            System.arraycopy(right.children, 1, right.children, 0, right.numberOfKeys);
+            right.keys[right.numberOfKeys - 1] = null;
+            right.children[right.numberOfKeys] = null;
+            right.numberOfKeys--;
+        } // end borrowFromRight
+
+        protected void mergeWithRight(Node<S, T> rightSibling, S separator)
+        {
+            InternalNode<S, T> right = (InternalNode<S, T>)rightSibling;
+            keys[numberOfKeys] = separator;
+            System.arraycopy(right.keys, 0, keys, numberOfKeys + 1, right.numberOfKeys);
+            System.arraycopy(right.children, 0, children, numberOfKeys + 1,
+                             right.numberOfKeys + 1);
+            numberOfKeys = numberOfKeys + 1 + right.numberOfKeys;
+        } // end mergeWithRight
+
+        // Splits a node with keys.length keys; the middle key, which moves
+        // up to the parent, is removed from both halves.
+        protected Node<S, T> split()
+        {
+            InternalNode<S, T> right = new InternalNode<>(keys.length);
+            int middle = numberOfKeys / 2;
+            right.numberOfKeys = numberOfKeys - middle - 1;
+            System.arraycopy(keys, middle + 1, right.keys, 0, right.numberOfKeys);
+            System.arraycopy(children, middle + 1, right.children, 0,
+                             right.numberOfKeys + 1);
+            for (int index = middle; index < numberOfKeys; index++)
+            {
+                keys[index] = null;
+                children[index + 1] = null;
+            } // end for
+            numberOfKeys = middle;
+            return right;
+        } // end split
+    } // end InternalNode
+
+    // Traverses the entries from a given position of a leaf through the
+    // linked leaves, stopping before a given key.
+    private abstract class LeafIterator
+    {
+        private LeafNode<K, V> currentLeaf;
+        private int currentIndex;
+        private final K end;            // null if the iteration has no end
+        protected LeafNode<K, V> returnedLeaf;
+        protected int returnedIndex;
+
+        protected LeafIterator(LeafNode<K, V> leaf, int index, K end)
+        {
+            currentLeaf = leaf;
+            currentIndex = index;
+            this.end = end;
+            skipEmptyLeaves();
+        } // end constructor
+
+        public boolean hasNext()
+        {
+            return (currentLeaf != null) &&
+                   ((end == null) || (currentLeaf.keys[currentIndex].compareTo(end) < 0));
+        } // end hasNext
+
+        // Moves to the next entry, recording the current one.
+        protected void advance()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            returnedLeaf = currentLeaf;
+            returnedIndex = currentIndex;
+            currentIndex++;
+            skipEmptyLeaves();
+        } // end advance
+
+        private void skipEmptyLeaves()
+        {
+            while ((currentLeaf != null) && (currentIndex >= currentLeaf.numberOfKeys))
+            {
+                currentLeaf = currentLeaf.next;
+                currentIndex = 0;
+            } // end while
+        } // end skipEmptyLeaves
+    } // end LeafIterator
+
+    private class KeyIterator extends LeafIterator implements Iterator<K>
+    {
+        private KeyIterator(LeafNode<K, V> leaf, int index, K end)
+        {
+            super(leaf, index, end);
+        } // end constructor
+
+        public K next()
+        {
+            advance();
+            return returnedLeaf.keys[returnedIndex];
+        } // end next
+    } // end KeyIterator
+
+    private class ValueIterator extends LeafIterator implements Iterator<V>
+    {
+        private ValueIterator(LeafNode<K, V> leaf, int index, K end)
+        {
+            super(leaf, index, end);
+        } // end constructor
+
+        public V next()
+        {
+            advance();
+            return returnedLeaf.values[returnedIndex];
+        } // end next
+    } // end ValueIterator
+} // end BPlusTreeDictionary
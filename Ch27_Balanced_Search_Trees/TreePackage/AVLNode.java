@@ -0,0 +1,42 @@
+package TreePackage;
+/**
+   A class that represents nodes in an AVL tree: binary nodes that also
+   record the height of their subtrees, so that the height is not
+   recomputed from the whole subtree each time it is needed.
+*/
+class AVLNode<T> extends BinaryNode<T>
+{
+    private int height;     // Height of the subtree rooted at this node
+
+    public AVLNode(T dataPortion)
+    {
+        super(dataPortion);
+        height = 1;
+    } // end constructor
+
+    /** Gets the height of the subtree rooted at this node, as last
+        computed by updateHeight.
+        @return  The height of the subtree rooted at this node. */
+    public int getHeight()
+    {
+        return height;
+    } // end getHeight
+
+    /** Recomputes this node's height from its children's heights, which
+        must be correct. */
+    public void updateHeight()
+    {
+        height = 1 + Math.max(getHeight(getLeftChild()), getHeight(getRightChild()));
+    } // end updateHeight
+
+    /** Gets the height of a subtree.
+        @param node  The root of the subtree, or null.
+        @return  The subtree's height, which is 0 if node is null. */
+    public static int getHeight(BinaryNode<?> node)
+    {
+        if (node == null)
+            return 0;
+        else
+            return node.getHeight();
+    } // end getHeight
+} // end AVLNode
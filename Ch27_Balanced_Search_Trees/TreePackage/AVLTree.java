@@ -1,7 +1,10 @@
 package TreePackage;
+import java.util.Iterator;
 /**
    A class that implements the ADT AVL tree by extending BinarySearchTree.
-   The remove operation is not supported.
+   Each node records the height of its subtree, which is updated only
+   along the path that an addition or removal changes, so both
+   operations take O(log n) time.
  
    @author Frank M. Carrano
    @author Timothy M. Henry
@@ -19,7 +22,29 @@ public class AVLTree<T extends Comparable<? super T>>
 
     public AVLTree(T rootEntry)
     {
-        super(rootEntry);
+        super();
+        setRootNode(new AVLNode<>(rootEntry));
+    } // end constructor
+
+    /** Creates a tree of the entries in a sorted array, in O(n) time.
+        @param sortedEntries  An array of distinct entries in ascending order.
+        @throws IllegalArgumentException if an entry is null or the
+                entries are not in strictly ascending order. */
+    public AVLTree(T[] sortedEntries)
+    {
+        super(sortedEntries);
+    } // end constructor
+
+    /** Creates a tree of the entries of a sorted iteration, in O(n) time.
+        @param sortedEntries    An iterator of distinct entries in ascending
+                                order.
+        @param numberOfEntries  The number of entries to take from sortedEntries.
+        @throws IllegalArgumentException if numberOfEntries is negative or
+                more than the iterator provides, an entry is null, or the
+                entries are not in strictly ascending order. */
+    public AVLTree(Iterator<? extends T> sortedEntries, int numberOfEntries)
+    {
+        super(sortedEntries, numberOfEntries);
     } // end constructor
 
     /** Adds a new entry to this tree, if it does not match an existing 
@@ -33,7 +58,7 @@ public class AVLTree<T extends Comparable<? super T>>
     {
         T result = null;
         if (isEmpty())
-            setRootNode(new BinaryNode<>(newEntry));                    
+            setRootNode(new AVLNode<>(newEntry));                    
         else
         {
             BinaryNode<T> rootNode = getRootNode();
@@ -64,7 +89,7 @@ public class AVLTree<T extends Comparable<? super T>>
                 rootNode.setLeftChild(rebalance(leftChild));
             }
             else
-                rootNode.setLeftChild(new BinaryNode<>(newEntry));
+                rootNode.setLeftChild(new AVLNode<>(newEntry));
         }
         else 
         {
@@ -76,30 +101,133 @@ public class AVLTree<T extends Comparable<? super T>>
                 rootNode.setRightChild(rebalance(rightChild));
             }
             else
-                rootNode.setRightChild(new BinaryNode<>(newEntry));
+                rootNode.setRightChild(new AVLNode<>(newEntry));
         }
         return result;        
     } // end addEntry
     
+    /** Removes a specific entry from this tree, rebalancing the tree as
+        needed.
+        @param entry  An object to be removed.
+        @return  Either the object that was removed from the tree or
+                 null if no such object exists. */
+    public T remove(T entry)
+    {
+        ReturnObject oldEntry = new ReturnObject();
+        setRootNode(removeEntry(getRootNode(), entry, oldEntry));
+        return oldEntry.get();
+    } // end remove
     
+    /** Removes a specific entry from this tree, as remove does; the
+        inherited version would not keep the tree balanced.
+        @param entry  An object to be removed.
+        @return  Either the object that was removed from the tree or
+                 null if no such object exists. */
+    public T removeR(T entry)
+    {
+        return remove(entry);
+    } // end removeR
+
+    /** Rebuilds this tree so that its height is as small as possible,
+        in O(n) time, and recomputes the height of each node. */
+    public void rebalance()
+    {
+        super.rebalance();
+        updateHeights(getRootNode());
+    } // end rebalance
+
+    /** Creates a node for the bulk constructors, with its height computed
+        from its children's.
+        @param entry       The entry of the new node.
+        @param leftChild   The root of the node's left subtree, or null.
+        @param rightChild  The root of the node's right subtree, or null.
+        @return  The new node. */
+    protected BinaryNode<T> newNode(T entry, BinaryNode<T> leftChild,
+                                    BinaryNode<T> rightChild)
+    {
+        AVLNode<T> result = new AVLNode<>(entry);
+        result.setLeftChild(leftChild);
+        result.setRightChild(rightChild);
+        result.updateHeight();
+        return result;
+    } // end newNode
+
+    // Recomputes the height of every node in the subtree rooted at rootNode.
+    private void updateHeights(BinaryNode<T> rootNode)
+    {
+        if (rootNode != null)
+        {
+            updateHeights(rootNode.getLeftChild());
+            updateHeights(rootNode.getRightChild());
+            ((AVLNode<T>)rootNode).updateHeight();
+        } // end if
+    } // end updateHeights
+    
+    // Removes an entry from the tree rooted at a given node.
+    // If entry matches an entry in the tree, oldEntry's data field is set
+    // to the entry that was removed.
+    // Returns the root node of the resulting balanced tree.
+    private BinaryNode<T> removeEntry(BinaryNode<T> rootNode, T entry,
+                                      ReturnObject oldEntry)
+    {
+        if (rootNode == null)
+            return null;
+        int comparison = entry.compareTo(rootNode.getData());
+        if (comparison == 0)
+        {
+            oldEntry.set(rootNode.getData());
+            if (rootNode.hasLeftChild() && rootNode.hasRightChild())
+            {   // Replace entry with the largest entry in left subtree
+                BinaryNode<T> largestNode = rootNode.getLeftChild();
+                while (largestNode.hasRightChild())
+                    largestNode = largestNode.getRightChild();
+                rootNode.setData(largestNode.getData());
+                rootNode.setLeftChild(removeLargest(rootNode.getLeftChild()));
+            }
+            else if (rootNode.hasRightChild())
+                return rootNode.getRightChild();
+            else
+                return rootNode.getLeftChild();
+        }
+        else if (comparison < 0)
+            rootNode.setLeftChild(removeEntry(rootNode.getLeftChild(), entry, oldEntry));
+        else
+            rootNode.setRightChild(removeEntry(rootNode.getRightChild(), entry, oldEntry));
+        return rebalance(rootNode);
+    } // end removeEntry
+    
+    // Removes the node containing the largest entry in a given tree.
+    // Returns the root node of the resulting balanced tree.
+    private BinaryNode<T> removeLargest(BinaryNode<T> rootNode)
+    {
+        if (!rootNode.hasRightChild())
+            return rootNode.getLeftChild();
+        rootNode.setRightChild(removeLargest(rootNode.getRightChild()));
+        return rebalance(rootNode);
+    } // end removeLargest
+    
+    // Updates the height of nodeN, whose subtrees are balanced and have
+    // correct heights, and corrects an imbalance at nodeN, if any.
+    // Returns the root of the balanced subtree.
     private BinaryNode<T> rebalance(BinaryNode<T> nodeN)
     {
+        ((AVLNode<T>)nodeN).updateHeight();
         int heightDifference = getHeightDifference(nodeN);
         if (heightDifference > 1)
         {   // Left subtree is taller by more than 1,
-            // so addition was in left subtree
-            if (getHeightDifference(nodeN.getLeftChild()) > 0)
-                rotateRight(nodeN); // Addition was in left's left
+            // so addition was in left subtree or removal in right
+            if (getHeightDifference(nodeN.getLeftChild()) >= 0)
+                nodeN = rotateRight(nodeN); // Addition was in left's left
             else
-                rotateLeftRight(nodeN); // Addition was in left's right
+                nodeN = rotateLeftRight(nodeN); // Addition was in left's right
         }
         else if (heightDifference < -1)
         {   // Right subtree is taller by more than 1,
-            // so addition was in right subtree
-            if (getHeightDifference(nodeN.getRightChild()) < 0)
-                rotateLeft(nodeN);  // Addition was in right's right
+            // so addition was in right subtree or removal in left
+            if (getHeightDifference(nodeN.getRightChild()) <= 0)
+                nodeN = rotateLeft(nodeN);  // Addition was in right's right
             else
-                rotateRightLeft(nodeN); /// Addition was in right's left
+                nodeN = rotateRightLeft(nodeN); /// Addition was in right's left
         } // end if
         // Else nodeN is balanced
         return nodeN;      
@@ -109,7 +237,7 @@ public class AVLTree<T extends Comparable<? super T>>
     {
         BinaryNode<T> nodeNLeft = nodeN.getLeftChild();
         BinaryNode<T> nodeNRight = nodeN.getRightChild();
-        return nodeNLeft.getHeight() - nodeNRight.getHeight();
+        return AVLNode.getHeight(nodeNLeft) - AVLNode.getHeight(nodeNRight);
     } // end getHeightDifference
     
     // Corrects an imbalance at the node closest to a structural change in the
@@ -121,6 +249,8 @@ public class AVLTree<T extends Comparable<? super T>>
         BinaryNode<T> nodeC = nodeN.getLeftChild();
         nodeN.setLeftChild(nodeC.getRightChild());
         nodeC.setRightChild(nodeN);
+        ((AVLNode<T>)nodeN).updateHeight();
+        ((AVLNode<T>)nodeC).updateHeight();
         return nodeC;        
     } // end rotateRight
     // Corrects an imbalance at the node closest to a structural change in the
@@ -132,6 +262,8 @@ public class AVLTree<T extends Comparable<? super T>>
         BinaryNode<T> nodeC = nodeN.getRightChild();
         nodeN.setRightChild(nodeC.getLeftChild());
         nodeC.setLeftChild(nodeN);
+        ((AVLNode<T>)nodeN).updateHeight();
+        ((AVLNode<T>)nodeC).updateHeight();
         return nodeC;        
     } // end rotateLeft
     
@@ -156,4 +288,24 @@ public class AVLTree<T extends Comparable<? super T>>
         nodeN.setLeftChild(rotateLeft(nodeC));
         return rotateRight(nodeN);
     } // end rotateLeftRight
+    
+    private class ReturnObject
+    {
+        private T dataField;
+        
+        private ReturnObject()
+        {
+            dataField = null;
+        } // end default constructor
+        
+        private void set(T newData)
+        {
+            dataField = newData;
+        } // end set
+        
+        private T get()
+        {
+            return dataField;
+        } // end get
+    } // end ReturnObject
 } // end AVLTree
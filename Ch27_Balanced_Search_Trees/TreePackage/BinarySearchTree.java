@@ -1,4 +1,5 @@
 package TreePackage;
+import java.util.Arrays;
 import java.util.Iterator;
 /**
    A class that implements the ADT binary search tree by extending BinaryTree.
@@ -22,6 +23,33 @@ public class BinarySearchTree<T extends Comparable<? super T>>
         setRootNode(new BinaryNode<T>(rootEntry));
     } // end constructor
 
+    /** Creates a tree of the entries in a sorted array, in O(n) time.
+        The tree has the smallest possible height.
+        @param sortedEntries  An array of distinct entries in ascending order.
+        @throws IllegalArgumentException if an entry is null or the
+                entries are not in strictly ascending order. */
+    public BinarySearchTree(T[] sortedEntries)
+    {
+        this(Arrays.asList(sortedEntries).iterator(), sortedEntries.length);
+    } // end constructor
+
+    /** Creates a tree of the entries of a sorted iteration, in O(n) time.
+        The tree has the smallest possible height.
+        @param sortedEntries    An iterator of distinct entries in ascending
+                                order.
+        @param numberOfEntries  The number of entries to take from sortedEntries.
+        @throws IllegalArgumentException if numberOfEntries is negative or
+                more than the iterator provides, an entry is null, or the
+                entries are not in strictly ascending order. */
+    public BinarySearchTree(Iterator<? extends T> sortedEntries, int numberOfEntries)
+    {
+        super();
+        if (numberOfEntries < 0)
+            throw new IllegalArgumentException("The number of entries cannot be negative.");
+        ReturnObject lastEntry = new ReturnObject();
+        setRootNode(buildTree(sortedEntries, numberOfEntries, lastEntry));
+    } // end constructor
+
     // Disable setTree (see Segment 25.6)
     public void setTree(T rootData) 
     {
@@ -409,6 +437,109 @@ public class BinarySearchTree<T extends Comparable<? super T>>
     } // end removeLargest
     
     
+    /** Rebuilds this tree so that its height is as small as possible,
+        in O(n) time. The existing nodes are relinked in place, so no
+        entries are copied and only one extra node is allocated: the tree
+        is first straightened into a chain of right children, which is then
+        folded by left rotations (the Day-Stout-Warren algorithm). */
+    public void rebalance()
+    {
+        BinaryNode<T> pseudoRoot = new BinaryNode<>(null, null, getRootNode());
+        int numberOfNodes = treeToVine(pseudoRoot);
+
+        // Fold the nodes that go below the last full level first
+        int numberOfLeaves = numberOfNodes + 1 - Integer.highestOneBit(numberOfNodes + 1);
+        compress(pseudoRoot, numberOfLeaves);
+        int vineLength = numberOfNodes - numberOfLeaves;
+        while (vineLength > 1)
+        {
+            vineLength = vineLength / 2;
+            compress(pseudoRoot, vineLength);
+        } // end while
+        setRootNode(pseudoRoot.getRightChild());
+    } // end rebalance
+
+    /** Creates a node for the bulk constructors. A subclass whose nodes
+        hold more than an entry overrides this method.
+        @param entry       The entry of the new node.
+        @param leftChild   The root of the node's left subtree, or null.
+        @param rightChild  The root of the node's right subtree, or null.
+        @return  The new node. */
+    protected BinaryNode<T> newNode(T entry, BinaryNode<T> leftChild,
+                                    BinaryNode<T> rightChild)
+    {
+        return new BinaryNode<>(entry, leftChild, rightChild);
+    } // end newNode
+
+    // Builds a tree of the next numberOfEntries entries of sortedEntries,
+    // placing the middle entry at the root. lastEntry holds the entry
+    // taken before them, or null. Returns the root of the new tree.
+    private BinaryNode<T> buildTree(Iterator<? extends T> sortedEntries,
+                                    int numberOfEntries, ReturnObject lastEntry)
+    {
+        if (numberOfEntries == 0)
+            return null;
+
+        int leftSize = (numberOfEntries - 1) / 2;
+        BinaryNode<T> leftChild = buildTree(sortedEntries, leftSize, lastEntry);
+
+        if (!sortedEntries.hasNext())
+            throw new IllegalArgumentException("The iterator has fewer entries than given.");
+        T entry = sortedEntries.next();
+        if (entry == null)
+            throw new IllegalArgumentException("Cannot add a null entry.");
+        if ((lastEntry.get() != null) && (lastEntry.get().compareTo(entry) >= 0))
+            throw new IllegalArgumentException("The entries must be distinct and " +
+                                               "in ascending order.");
+        lastEntry.set(entry);
+
+        BinaryNode<T> rightChild = buildTree(sortedEntries,
+                                             numberOfEntries - leftSize - 1, lastEntry);
+        return newNode(entry, leftChild, rightChild);
+    } // end buildTree
+
+    // Rotates the tree that is the right subtree of pseudoRoot into a
+    // chain of right children in ascending order. Returns the number of nodes.
+    private int treeToVine(BinaryNode<T> pseudoRoot)
+    {
+        int numberOfNodes = 0;
+        BinaryNode<T> tail = pseudoRoot;
+        BinaryNode<T> rest = tail.getRightChild();
+        while (rest != null)
+        {
+            if (rest.hasLeftChild())
+            {   // Rotate the left child above rest
+                BinaryNode<T> leftChild = rest.getLeftChild();
+                rest.setLeftChild(leftChild.getRightChild());
+                leftChild.setRightChild(rest);
+                rest = leftChild;
+                tail.setRightChild(leftChild);
+            }
+            else
+            {
+                numberOfNodes++;
+                tail = rest;
+                rest = rest.getRightChild();
+            } // end if
+        } // end while
+        return numberOfNodes;
+    } // end treeToVine
+
+    // Rotates every other node of the chain of right children below
+    // pseudoRoot to the left, count times, starting at the top.
+    private void compress(BinaryNode<T> pseudoRoot, int count)
+    {
+        BinaryNode<T> scanner = pseudoRoot;
+        for (int index = 0; index < count; index++)
+        {
+            BinaryNode<T> child = scanner.getRightChild();
+            scanner.setRightChild(child.getRightChild());
+            scanner = scanner.getRightChild();
+            child.setRightChild(scanner.getLeftChild());
+            scanner.setLeftChild(child);
+        } // end for
+    } // end compress
+
     private class ReturnObject
     {
         private T dataField;
@@ -0,0 +1,257 @@
+package TreePackage;
+/**
+   A class that implements the ADT left-leaning red-black tree by extending
+   BinarySearchTree. The tree is a binary form of a 2-3 tree: a red node
+   belongs to the same 2-3 node as its parent and is always a left child,
+   so each 2-3 node has exactly one binary form. This allows far fewer
+   cases than a red-black tree, at the cost of more rotations.
+   Each node stores one color bit and no height. Additions and removals
+   are recursive and fix the colors on the way back up to the root.
+   The algorithms are Sedgewick's.
+ */
+public class LeftLeaningRedBlackTree<T extends Comparable<? super T>>
+             extends BinarySearchTree<T>
+{
+    public LeftLeaningRedBlackTree()
+    {
+        super();
+    } // end default constructor
+
+    public LeftLeaningRedBlackTree(T rootEntry)
+    {
+        super();
+        setRootNode(new RedBlackNode<>(rootEntry));
+    } // end constructor
+
+    /** Adds a new entry to this tree, if it does not match an existing
+        object in the tree. Otherwise, replaces the existing object with
+        the new entry.
+        @param newEntry  An object to be added to the tree.
+        @return  Either null if newEntry was not in the tree but has been added, or
+                 the existing entry that matched the parameter newEntry
+                 and has been replaced in the tree. */
+    public T add(T newEntry)
+    {
+        ReturnObject oldEntry = new ReturnObject();
+        BinaryNode<T> rootNode = addEntry(getRootNode(), newEntry, oldEntry);
+        setRed(rootNode, false);
+        setRootNode(rootNode);
+        return oldEntry.get();
+    } // end add
+
+    /** Removes a specific entry from this tree.
+        @param entry  An object to be removed.
+        @return  Either the object that was removed from the tree or
+                 null if no such object exists. */
+    public T remove(T entry)
+    {
+        T result = getEntry(entry);
+        if (result != null)
+        {
+            BinaryNode<T> rootNode = getRootNode();
+            if (!isRed(rootNode.getLeftChild()) && !isRed(rootNode.getRightChild()))
+                setRed(rootNode, true);
+            rootNode = removeEntry(rootNode, entry);
+            setRed(rootNode, false);
+            setRootNode(rootNode);
+        } // end if
+        return result;
+    } // end remove
+
+    /** Removes a specific entry from this tree, as remove does; the
+        inherited recursive version would not keep the tree balanced.
+        @param entry  An object to be removed.
+        @return  Either the object that was removed from the tree or
+                 null if no such object exists. */
+    public T removeR(T entry)
+    {
+        return remove(entry);
+    } // end removeR
+
+    /** Does nothing: a left-leaning red-black tree is kept balanced by add and
+        remove, and the inherited version would not preserve the colors. */
+    public void rebalance()
+    {
+    } // end rebalance
+
+    // Adds newEntry to the subtree rooted at rootNode, or replaces the
+    // matching entry, which is then recorded in oldEntry.
+    // Returns the root of the revised subtree.
+    private BinaryNode<T> addEntry(BinaryNode<T> rootNode, T newEntry,
+                                   ReturnObject oldEntry)
+    {
+        if (rootNode == null)
+        {
+            RedBlackNode<T> newNode = new RedBlackNode<>(newEntry);
+            newNode.setRed(true);
+            return newNode;
+        } // end if
+
+        int comparison = newEntry.compareTo(rootNode.getData());
+        if (comparison == 0)
+        {
+            oldEntry.set(rootNode.getData());
+            rootNode.setData(newEntry);
+        }
+        else if (comparison < 0)
+            rootNode.setLeftChild(addEntry(rootNode.getLeftChild(), newEntry, oldEntry));
+        else
+            rootNode.setRightChild(addEntry(rootNode.getRightChild(), newEntry, oldEntry));
+        // end if
+        return balance(rootNode);
+    } // end addEntry
+
+    // Removes entry, which is in the subtree rooted at rootNode. Either
+    // rootNode or its left child is red, so that the removed node is not
+    // a 2-node. Returns the root of the revised subtree.
+    private BinaryNode<T> removeEntry(BinaryNode<T> rootNode, T entry)
+    {
+        if (entry.compareTo(rootNode.getData()) < 0)
+        {
+            if (!isRed(rootNode.getLeftChild()) &&
+                !isRed(rootNode.getLeftChild().getLeftChild()))
+                rootNode = moveRedLeft(rootNode);
+            rootNode.setLeftChild(removeEntry(rootNode.getLeftChild(), entry));
+        }
+        else
+        {
+            if (isRed(rootNode.getLeftChild()))
+                rootNode = rotateRight(rootNode);
+            if ((entry.compareTo(rootNode.getData()) == 0) && !rootNode.hasRightChild())
+                return null;
+            if (!isRed(rootNode.getRightChild()) &&
+                !isRed(rootNode.getRightChild().getLeftChild()))
+                rootNode = moveRedRight(rootNode);
+            if (entry.compareTo(rootNode.getData()) == 0)
+            {   // Replace the entry with its inorder successor
+                BinaryNode<T> smallestNode = rootNode.getRightChild();
+                while (smallestNode.hasLeftChild())
+                    smallestNode = smallestNode.getLeftChild();
+                rootNode.setData(smallestNode.getData());
+                rootNode.setRightChild(removeSmallest(rootNode.getRightChild()));
+            }
+            else
+                rootNode.setRightChild(removeEntry(rootNode.getRightChild(), entry));
+            // end if
+        } // end if
+        return balance(rootNode);
+    } // end removeEntry
+
+    // Removes the node containing the smallest entry in the subtree rooted
+    // at rootNode. Returns the root of the revised subtree.
+    private BinaryNode<T> removeSmallest(BinaryNode<T> rootNode)
+    {
+        if (!rootNode.hasLeftChild())
+            return null;
+        if (!isRed(rootNode.getLeftChild()) &&
+            !isRed(rootNode.getLeftChild().getLeftChild()))
+            rootNode = moveRedLeft(rootNode);
+        rootNode.setLeftChild(removeSmallest(rootNode.getLeftChild()));
+        return balance(rootNode);
+    } // end removeSmallest
+
+    // Makes a red right child lean left, rotates two reds in a row on the
+    // left, and splits a node whose children are both red.
+    private BinaryNode<T> balance(BinaryNode<T> rootNode)
+    {
+        if (isRed(rootNode.getRightChild()) && !isRed(rootNode.getLeftChild()))
+            rootNode = rotateLeft(rootNode);
+        if (isRed(rootNode.getLeftChild()) && isRed(rootNode.getLeftChild().getLeftChild()))
+            rootNode = rotateRight(rootNode);
+        if (isRed(rootNode.getLeftChild()) && isRed(rootNode.getRightChild()))
+            flipColors(rootNode);
+        return rootNode;
+    } // end balance
+
+    // Makes the left child of rootNode, or one of its children, red, when
+    // rootNode is red and its left child and left grandchild are black.
+    private BinaryNode<T> moveRedLeft(BinaryNode<T> rootNode)
+    {
+        flipColors(rootNode);
+        if (isRed(rootNode.getRightChild().getLeftChild()))
+        {
+            rootNode.setRightChild(rotateRight(rootNode.getRightChild()));
+            rootNode = rotateLeft(rootNode);
+            flipColors(rootNode);
+        } // end if
+        return rootNode;
+    } // end moveRedLeft
+
+    // Makes the right child of rootNode, or one of its children, red, when
+    // rootNode is red and its right child and its left grandchild on the
+    // right are black.
+    private BinaryNode<T> moveRedRight(BinaryNode<T> rootNode)
+    {
+        flipColors(rootNode);
+        if (isRed(rootNode.getLeftChild().getLeftChild()))
+        {
+            rootNode = rotateRight(rootNode);
+            flipColors(rootNode);
+        } // end if
+        return rootNode;
+    } // end moveRedRight
+
+    // Rotates nodeN's right child above it; the child takes nodeN's color
+    // and nodeN becomes red. Returns the new root of the subtree.
+    private BinaryNode<T> rotateLeft(BinaryNode<T> nodeN)
+    {
+        BinaryNode<T> nodeC = nodeN.getRightChild();
+        nodeN.setRightChild(nodeC.getLeftChild());
+        nodeC.setLeftChild(nodeN);
+        setRed(nodeC, isRed(nodeN));
+        setRed(nodeN, true);
+        return nodeC;
+    } // end rotateLeft
+
+    // Rotates nodeN's left child above it; the child takes nodeN's color
+    // and nodeN becomes red. Returns the new root of the subtree.
+    private BinaryNode<T> rotateRight(BinaryNode<T> nodeN)
+    {
+        BinaryNode<T> nodeC = nodeN.getLeftChild();
+        nodeN.setLeftChild(nodeC.getRightChild());
+        nodeC.setRightChild(nodeN);
+        setRed(nodeC, isRed(nodeN));
+        setRed(nodeN, true);
+        return nodeC;
+    } // end rotateRight
+
+    // Reverses the colors of a node and its two children.
+    private void flipColors(BinaryNode<T> rootNode)
+    {
+        setRed(rootNode, !isRed(rootNode));
+        setRed(rootNode.getLeftChild(), !isRed(rootNode.getLeftChild()));
+        setRed(rootNode.getRightChild(), !isRed(rootNode.getRightChild()));
+    } // end flipColors
+
+    // Sees whether a node is red; null children are black.
+    private boolean isRed(BinaryNode<T> node)
+    {
+        return (node != null) && ((RedBlackNode<T>)node).isRed();
+    } // end isRed
+
+    private void setRed(BinaryNode<T> node, boolean isRed)
+    {
+        if (node != null)
+            ((RedBlackNode<T>)node).setRed(isRed);
+    } // end setRed
+
+    private class ReturnObject
+    {
+        private T dataField;
+
+        private ReturnObject()
+        {
+            dataField = null;
+        } // end default constructor
+
+        private void set(T newData)
+        {
+            dataField = newData;
+        } // end set
+
+        private T get()
+        {
+            return dataField;
+        } // end get
+    } // end ReturnObject
+} // end LeftLeaningRedBlackTree
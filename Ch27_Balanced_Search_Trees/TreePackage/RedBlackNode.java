@@ -0,0 +1,29 @@
+package TreePackage;
+/**
+   A class that represents nodes in a red-black tree: binary nodes that
+   also have a color. A node is black unless it is made red.
+*/
+class RedBlackNode<T> extends BinaryNode<T>
+{
+    private boolean red;
+
+    public RedBlackNode(T dataPortion)
+    {
+        super(dataPortion);
+        red = false;
+    } // end constructor
+
+    /** Sees whether this node is red.
+        @return  True if the node is red, or false if it is black. */
+    public boolean isRed()
+    {
+        return red;
+    } // end isRed
+
+    /** Sets this node's color.
+        @param isRed  True to make the node red, or false to make it black. */
+    public void setRed(boolean isRed)
+    {
+        red = isRed;
+    } // end setRed
+} // end RedBlackNode
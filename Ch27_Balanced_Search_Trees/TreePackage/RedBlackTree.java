@@ -0,0 +1,329 @@
+package TreePackage;
+/**
+   A class that implements the ADT red-black tree by extending
+   BinarySearchTree. A red-black tree is a binary form of a 2-3-4 tree:
+   a red node belongs to the same 2-3-4 node as its parent. The root is
+   black, no red node has a red child, and every path from the root to a
+   null child passes through the same number of black nodes, so the
+   height is at most 2 log2(n + 1).
+   Each node stores one color bit and no height. An addition does at most
+   two rotations and a removal at most three; the other repairs only
+   change colors.
+   Nodes have no parent references; add and remove record the path from
+   the root in an array instead.
+ */
+public class RedBlackTree<T extends Comparable<? super T>>
+             extends BinarySearchTree<T>
+{
+    private BinaryNode<T>[] path;   // path[0..pathLength - 1]: ancestors of a node
+    private int pathLength;
+    private static final int MAX_PATH_LENGTH = 128; // Exceeds 2 log2(n + 1) + 2
+
+    public RedBlackTree()
+    {
+        super();
+        path = newNodeArray(MAX_PATH_LENGTH);
+        pathLength = 0;
+    } // end default constructor
+
+    public RedBlackTree(T rootEntry)
+    {
+        this();
+        setRootNode(new RedBlackNode<>(rootEntry));
+    } // end constructor
+
+    /** Adds a new entry to this tree, if it does not match an existing
+        object in the tree. Otherwise, replaces the existing object with
+        the new entry.
+        @param newEntry  An object to be added to the tree.
+        @return  Either null if newEntry was not in the tree but has been added, or
+                 the existing entry that matched the parameter newEntry
+                 and has been replaced in the tree. */
+    public T add(T newEntry)
+    {
+        // Find the node for newEntry, recording its ancestors
+        pathLength = 0;
+        BinaryNode<T> parent = null;
+        BinaryNode<T> currentNode = getRootNode();
+        int comparison = 0;
+        while (currentNode != null)
+        {
+            comparison = newEntry.compareTo(currentNode.getData());
+            if (comparison == 0)
+            {
+                T result = currentNode.getData();
+                currentNode.setData(newEntry);
+                return result;
+            } // end if
+            parent = currentNode;
+            path[pathLength] = parent;
+            pathLength++;
+            if (comparison < 0)
+                currentNode = currentNode.getLeftChild();
+            else
+                currentNode = currentNode.getRightChild();
+        } // end while
+
+        RedBlackNode<T> newNode = new RedBlackNode<>(newEntry);
+        newNode.setRed(true);
+        if (parent == null)
+            setRootNode(newNode);
+        else if (comparison < 0)
+            parent.setLeftChild(newNode);
+        else
+            parent.setRightChild(newNode);
+        fixAfterAddition(newNode);
+        return null;
+    } // end add
+
+    /** Removes a specific entry from this tree.
+        @param entry  An object to be removed.
+        @return  Either the object that was removed from the tree or
+                 null if no such object exists. */
+    public T remove(T entry)
+    {
+        // Find the node containing entry, recording its ancestors
+        pathLength = 0;
+        BinaryNode<T> currentNode = getRootNode();
+        while (currentNode != null)
+        {
+            int comparison = entry.compareTo(currentNode.getData());
+            if (comparison == 0)
+                break;
+            path[pathLength] = currentNode;
+            pathLength++;
+            if (comparison < 0)
+                currentNode = currentNode.getLeftChild();
+            else
+                currentNode = currentNode.getRightChild();
+        } // end while
+        if (currentNode == null)
+            return null;
+
+        T result = currentNode.getData();
+        if (currentNode.hasLeftChild() && currentNode.hasRightChild())
+        {   // Replace the entry with its inorder successor, whose node
+            // has no left child, and remove that node instead
+            path[pathLength] = currentNode;
+            pathLength++;
+            BinaryNode<T> successor = currentNode.getRightChild();
+            while (successor.hasLeftChild())
+            {
+                path[pathLength] = successor;
+                pathLength++;
+                successor = successor.getLeftChild();
+            } // end while
+            currentNode.setData(successor.getData());
+            currentNode = successor;
+        } // end if
+
+        // currentNode has at most one child, which replaces it
+        BinaryNode<T> child = currentNode.getLeftChild();
+        if (child == null)
+            child = currentNode.getRightChild();
+        BinaryNode<T> parent = getParent();
+        boolean childIsLeft = (parent != null) && (parent.getLeftChild() == currentNode);
+        replaceChild(parent, currentNode, child);
+
+        if (!isRed(currentNode))
+        {
+            if (isRed(child))
+                setRed(child, false);
+            else
+                fixAfterRemoval(childIsLeft);
+        } // end if
+        return result;
+    } // end remove
+
+    /** Removes a specific entry from this tree, as remove does; the
+        inherited recursive version would not keep the tree balanced.
+        @param entry  An object to be removed.
+        @return  Either the object that was removed from the tree or
+                 null if no such object exists. */
+    public T removeR(T entry)
+    {
+        return remove(entry);
+    } // end removeR
+
+    /** Does nothing: a red-black tree is kept balanced by add and
+        remove, and the inherited version would not preserve the colors. */
+    public void rebalance()
+    {
+    } // end rebalance
+
+    // Restores the red-black properties after node, a red leaf, was added.
+    // path holds node's ancestors.
+    private void fixAfterAddition(BinaryNode<T> node)
+    {
+        while ((pathLength >= 2) && isRed(path[pathLength - 1]))
+        {   // node's parent is red, so it is not the root
+            BinaryNode<T> parent = path[pathLength - 1];
+            BinaryNode<T> grandparent = path[pathLength - 2];
+            boolean parentIsLeft = (grandparent.getLeftChild() == parent);
+            BinaryNode<T> uncle = parentIsLeft ? grandparent.getRightChild()
+                                               : grandparent.getLeftChild();
+            if (isRed(uncle))
+            {   // Split a 4-node: its middle entry moves up to its parent
+                setRed(parent, false);
+                setRed(uncle, false);
+                setRed(grandparent, true);
+                node = grandparent;
+                pathLength = pathLength - 2;
+            }
+            else
+            {
+                pathLength = pathLength - 2;    // Now grandparent's ancestors
+                if (parentIsLeft)
+                {
+                    if (node == parent.getRightChild())
+                        parent = rotateLeft(parent, grandparent);
+                    setRed(parent, false);
+                    setRed(grandparent, true);
+                    rotateRight(grandparent, getParent());
+                }
+                else
+                {
+                    if (node == parent.getLeftChild())
+                        parent = rotateRight(parent, grandparent);
+                    setRed(parent, false);
+                    setRed(grandparent, true);
+                    rotateLeft(grandparent, getParent());
+                } // end if
+                break;
+            } // end if
+        } // end while
+        setRed(getRootNode(), false);
+    } // end fixAfterAddition
+
+    // Restores the red-black properties after a black node was removed.
+    // The child that replaced it, which is black or null, is short one
+    // black node; it is the left child of the last node in path if
+    // childIsLeft is true, or the right child otherwise.
+    private void fixAfterRemoval(boolean childIsLeft)
+    {
+        while (pathLength > 0)
+        {
+            BinaryNode<T> parent = path[pathLength - 1];
+            BinaryNode<T> sibling = childIsLeft ? parent.getRightChild()
+                                                : parent.getLeftChild();
+            if (isRed(sibling))
+            {   // Rotate the red sibling above parent, which becomes red
+                pathLength--;
+                setRed(sibling, false);
+                setRed(parent, true);
+                if (childIsLeft)
+                    rotateLeft(parent, getParent());
+                else
+                    rotateRight(parent, getParent());
+                path[pathLength] = sibling;
+                path[pathLength + 1] = parent;
+                pathLength = pathLength + 2;
+                sibling = childIsLeft ? parent.getRightChild()
+                                      : parent.getLeftChild();
+            } // end if
+
+            BinaryNode<T> nearNephew = childIsLeft ? sibling.getLeftChild()
+                                                   : sibling.getRightChild();
+            BinaryNode<T> farNephew = childIsLeft ? sibling.getRightChild()
+                                                  : sibling.getLeftChild();
+            if (!isRed(nearNephew) && !isRed(farNephew))
+            {   // Merge the sibling's 2-node into the parent's node
+                setRed(sibling, true);
+                if (isRed(parent))
+                {
+                    setRed(parent, false);
+                    return;
+                } // end if
+                pathLength--;
+                BinaryNode<T> grandparent = getParent();
+                childIsLeft = (grandparent != null) && (grandparent.getLeftChild() == parent);
+            }
+            else
+            {   // Borrow an entry from the sibling's 3- or 4-node
+                pathLength--;                   // Now parent's ancestors
+                if (!isRed(farNephew))
+                {
+                    setRed(nearNephew, false);
+                    setRed(sibling, true);
+                    if (childIsLeft)
+                        sibling = rotateRight(sibling, parent);
+                    else
+                        sibling = rotateLeft(sibling, parent);
+                    farNephew = childIsLeft ? sibling.getRightChild()
+                                            : sibling.getLeftChild();
+                } // end if
+                setRed(sibling, isRed(parent));
+                setRed(parent, false);
+                setRed(farNephew, false);
+                if (childIsLeft)
+                    rotateLeft(parent, getParent());
+                else
+                    rotateRight(parent, getParent());
+                return;
+            } // end if
+        } // end while
+    } // end fixAfterRemoval
+
+    // Returns the last node in path, or null if path is empty.
+    private BinaryNode<T> getParent()
+    {
+        if (pathLength == 0)
+            return null;
+        else
+            return path[pathLength - 1];
+    } // end getParent
+
+    // Makes newChild take the place of oldChild under parent, or as the
+    // root if parent is null.
+    private void replaceChild(BinaryNode<T> parent, BinaryNode<T> oldChild,
+                              BinaryNode<T> newChild)
+    {
+        if (parent == null)
+            setRootNode(newChild);
+        else if (parent.getLeftChild() == oldChild)
+            parent.setLeftChild(newChild);
+        else
+            parent.setRightChild(newChild);
+    } // end replaceChild
+
+    // Rotates nodeN's right child above it; parent is nodeN's parent, or
+    // null if nodeN is the root. Returns the new root of the subtree.
+    private BinaryNode<T> rotateLeft(BinaryNode<T> nodeN, BinaryNode<T> parent)
+    {
+        BinaryNode<T> nodeC = nodeN.getRightChild();
+        nodeN.setRightChild(nodeC.getLeftChild());
+        nodeC.setLeftChild(nodeN);
+        replaceChild(parent, nodeN, nodeC);
+        return nodeC;
+    } // end rotateLeft
+
+    // Rotates nodeN's left child above it; parent is nodeN's parent, or
+    // null if nodeN is the root. Returns the new root of the subtree.
+    private BinaryNode<T> rotateRight(BinaryNode<T> nodeN, BinaryNode<T> parent)
+    {
+        BinaryNode<T> nodeC = nodeN.getLeftChild();
+        nodeN.setLeftChild(nodeC.getRightChild());
+        nodeC.setRightChild(nodeN);
+        replaceChild(parent, nodeN, nodeC);
+        return nodeC;
+    } // end rotateRight
+
+    // Sees whether a node is red; null children are black.
+    private boolean isRed(BinaryNode<T> node)
+    {
+        return (node != null) && ((RedBlackNode<T>)node).isRed();
+    } // end isRed
+
+    private void setRed(BinaryNode<T> node, boolean isRed)
+    {
+        if (node != null)
+            ((RedBlackNode<T>)node).setRed(isRed);
+    } // end setRed
+
+    // The cast is safe because the new array contains null entries
+    @SuppressWarnings("unchecked")
+    private static <S> BinaryNode<S>[] newNodeArray(int length)
+    {
+        return (BinaryNode<S>[])new BinaryNode<?>[length];
+    } // end newNodeArray
+} // end RedBlackTree